@@ -0,0 +1,200 @@
+package socketmessages;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import entities.Dashes;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings({"unused", "OverlyBroadThrowsClause"})
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SocketMessagesBenchmark {
+
+    public static final int STATE_POINTS_COUNT = 5000;
+    public static final int PLAYERS_COUNT = 5;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String CATALOG_RESOURCE = "/dashes/catalog.ndjson";
+
+    private WebSocketMessage<PicturePointContent> pointMessage;
+    private WebSocketMessage<BaseGameContent> multiplayerStateMessage;
+    private WebSocketMessage<BaseGameContent> singleplayerStateMessage;
+    private WebSocketMessage<FinishGameContent> finishGameMessage;
+    private WebSocketMessage<AnswerResponseContent> answerResponseMessage;
+    private WebSocketMessage<AnswerVoteContent> answerVoteMessage;
+    private WebSocketMessage<PlayerConnectContent> playerConnectMessage;
+    private WebSocketMessage<PlayerDisconnectContent> playerDisconnectMessage;
+
+    private Dashes dashes;
+
+    private String pointJson;
+    private String answerJson;
+    private String answerVoteJson;
+    private String multiplayerStateJson;
+    private String singleplayerStateJson;
+    private String finishGameJson;
+
+    private JavaType envelopeType;
+    private JavaType pointType;
+    private JavaType answerType;
+    private JavaType answerVoteType;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        final Random random = new Random(0);
+        final ArrayList<PlayerInfo> players = new ArrayList<>();
+        for (int i = 1; i <= PLAYERS_COUNT; ++i) {
+            players.add(new PlayerInfo("player" + i, i));
+        }
+
+        final PointBuffer points = new PointBuffer();
+        for (int i = 0; i < STATE_POINTS_COUNT; ++i) {
+            final boolean down = (i % 50) == 0;
+            points.add(new PicturePointContent(random.nextFloat(), random.nextFloat(), down, down ? "#000000" : null), i * 20);
+        }
+
+        dashes = readDashes();
+
+        pointMessage = new WebSocketMessage<>(
+            MessageType.NEW_POINT.toString(), new PicturePointContent(0.445f, 0.480f, true, "#000000"));
+        multiplayerStateMessage = new WebSocketMessage<>(
+            MessageType.STATE.toString(), new MultiplayerGameStateContent(
+                60, 120, PlayerRole.GUESSER, players, points.getSnapshot(), "word", null));
+        singleplayerStateMessage = new WebSocketMessage<>(
+            MessageType.STATE.toString(), new SingleplayerGameStateContent(dashes, 30, 60));
+        finishGameMessage = new WebSocketMessage<>(
+            MessageType.STOP_GAME.toString(), new FinishGameContent(GameResult.GAME_WON, 3, "player1", "word"));
+        answerResponseMessage = new WebSocketMessage<>(
+            MessageType.CHECK_ANSWER.toString(), new AnswerResponseContent(1, "word", false, players.get(0)));
+        answerVoteMessage = new WebSocketMessage<>(
+            MessageType.NEW_VOTE.toString(), new AnswerVoteContent(1, true));
+        playerConnectMessage = new WebSocketMessage<>(
+            MessageType.PLAYERS_CONNECT.toString(), new PlayerConnectContent(players));
+        playerDisconnectMessage = new WebSocketMessage<>(
+            MessageType.PLAYER_DISCONNECT.toString(), new PlayerDisconnectContent("player1"));
+
+        pointJson = OBJECT_MAPPER.writeValueAsString(pointMessage);
+        answerJson = OBJECT_MAPPER.writeValueAsString(
+            new WebSocketMessage<>(MessageType.CHECK_ANSWER.toString(), new AnswerContent("word")));
+        answerVoteJson = OBJECT_MAPPER.writeValueAsString(
+            new WebSocketMessage<>(MessageType.VOTE_ANSWER.toString(), new AnswerVoteContent(1, true)));
+        multiplayerStateJson = OBJECT_MAPPER.writeValueAsString(multiplayerStateMessage);
+        singleplayerStateJson = OBJECT_MAPPER.writeValueAsString(singleplayerStateMessage);
+        finishGameJson = OBJECT_MAPPER.writeValueAsString(finishGameMessage);
+
+        envelopeType = constructType(EmptyContent.class);
+        pointType = constructType(PicturePointContent.class);
+        answerType = constructType(AnswerContent.class);
+        answerVoteType = constructType(AnswerVoteContent.class);
+    }
+
+    @Benchmark
+    public String encodePoint() throws IOException {
+        return OBJECT_MAPPER.writeValueAsString(pointMessage);
+    }
+
+    @Benchmark
+    public String encodeMultiplayerState() throws IOException {
+        return OBJECT_MAPPER.writeValueAsString(multiplayerStateMessage);
+    }
+
+    @Benchmark
+    public String encodeSingleplayerState() throws IOException {
+        return OBJECT_MAPPER.writeValueAsString(singleplayerStateMessage);
+    }
+
+    @Benchmark
+    public String createAndEncodeSingleplayerState() throws IOException {
+        return OBJECT_MAPPER.writeValueAsString(new WebSocketMessage<>(
+            MessageType.STATE.toString(), new SingleplayerGameStateContent(dashes, 30, 60)));
+    }
+
+    @Benchmark
+    public String encodeFinishGame() throws IOException {
+        return OBJECT_MAPPER.writeValueAsString(finishGameMessage);
+    }
+
+    @Benchmark
+    public String encodeAnswerResponse() throws IOException {
+        return OBJECT_MAPPER.writeValueAsString(answerResponseMessage);
+    }
+
+    @Benchmark
+    public String encodeAnswerVote() throws IOException {
+        return OBJECT_MAPPER.writeValueAsString(answerVoteMessage);
+    }
+
+    @Benchmark
+    public String encodePlayerConnect() throws IOException {
+        return OBJECT_MAPPER.writeValueAsString(playerConnectMessage);
+    }
+
+    @Benchmark
+    public String encodePlayerDisconnect() throws IOException {
+        return OBJECT_MAPPER.writeValueAsString(playerDisconnectMessage);
+    }
+
+    @Benchmark
+    public WebSocketMessage<?> decodeEnvelope() throws IOException {
+        return OBJECT_MAPPER.readValue(pointJson, envelopeType);
+    }
+
+    @Benchmark
+    public WebSocketMessage<?> decodePoint() throws IOException {
+        return OBJECT_MAPPER.readValue(pointJson, pointType);
+    }
+
+    @Benchmark
+    public WebSocketMessage<?> decodeAnswer() throws IOException {
+        return OBJECT_MAPPER.readValue(answerJson, answerType);
+    }
+
+    @Benchmark
+    public WebSocketMessage<?> decodeAnswerVote() throws IOException {
+        return OBJECT_MAPPER.readValue(answerVoteJson, answerVoteType);
+    }
+
+    @Benchmark
+    public JsonNode decodeMultiplayerState() throws IOException {
+        return OBJECT_MAPPER.readTree(multiplayerStateJson);
+    }
+
+    @Benchmark
+    public JsonNode decodeSingleplayerState() throws IOException {
+        return OBJECT_MAPPER.readTree(singleplayerStateJson);
+    }
+
+    @Benchmark
+    public JsonNode decodeFinishGame() throws IOException {
+        return OBJECT_MAPPER.readTree(finishGameJson);
+    }
+
+    private static JavaType constructType(Class<?> contentClass) {
+
+        return OBJECT_MAPPER.getTypeFactory().constructParametricType(WebSocketMessage.class, contentClass);
+    }
+
+    private static Dashes readDashes() throws IOException {
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            SocketMessagesBenchmark.class.getResourceAsStream(CATALOG_RESOURCE), StandardCharsets.UTF_8))) {
+
+            final JsonNode node = OBJECT_MAPPER.readTree(reader.readLine());
+            return new Dashes(1, node.get("word").asText(), node.get("points").toString());
+        }
+    }
+}
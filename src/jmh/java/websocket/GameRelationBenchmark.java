@@ -0,0 +1,112 @@
+package websocket;
+
+import database.DiscardingGameHistoryWriter;
+import entities.MultiplayerGame;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("unused")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameRelationBenchmark {
+
+    @Param("10000")
+    private int sessionsCount;
+
+    @Param("2000")
+    private int roomsCount;
+
+    private GameScheduler scheduler;
+    private DiscardingGameHistoryWriter gameHistoryWriter;
+    private GameRelationManager gameRelationManager;
+    private final ArrayList<ScheduledGame<MultiplayerGame>> games = new ArrayList<>();
+    private final ArrayList<List<WebSocketSession>> roomSessions = new ArrayList<>();
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        private final Random random = new Random();
+    }
+
+    @Setup
+    public void setUp() {
+
+        scheduler = new ExecutorGameScheduler(GameManagerService.SCHEDULER_THREADS);
+        gameHistoryWriter = new DiscardingGameHistoryWriter();
+        gameRelationManager = new GameRelationManager();
+
+        final MultiplayerScheduledGameManager manager =
+            new MultiplayerScheduledGameManager(
+                scheduler, gameRelationManager, gameHistoryWriter, PointBudget.DEFAULT);
+        final int playersCount = Math.min(sessionsCount / roomsCount, GameManagerService.MULTIPLAYER_PLAYERS_LIMIT);
+
+        for (int room = 0; room < roomsCount; ++room) {
+
+            final ArrayList<String> logins = new ArrayList<>();
+            final ArrayList<WebSocketSession> sessions = new ArrayList<>();
+
+            for (int player = 0; player < playersCount; ++player) {
+                final String login = "player" + room + '_' + player;
+                logins.add(login);
+                sessions.add(new StubWebSocketSession(login));
+            }
+
+            final ScheduledGame<MultiplayerGame> scheduledGame = manager.createScheduledGame(new MultiplayerGame("word", logins));
+            gameRelationManager.addPainterRelation(sessions.get(0), scheduledGame, 1);
+
+            for (int player = 1; player < playersCount; ++player) {
+                gameRelationManager.addGuesserRelation(sessions.get(player), scheduledGame, player + 1);
+            }
+
+            games.add(scheduledGame);
+            roomSessions.add(sessions);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        scheduler.shutdown();
+        gameHistoryWriter.shutdown();
+    }
+
+    @Benchmark
+    public ArrayList<WebSocketSession> getGameSessions(ThreadState state) {
+        return gameRelationManager.getGameSessions(games.get(state.random.nextInt(roomsCount)));
+    }
+
+    @Benchmark
+    public ArrayList<Integer> getAvailableIds(ThreadState state) {
+        return gameRelationManager.getAvailableIds(games.get(state.random.nextInt(roomsCount)));
+    }
+
+    @Benchmark
+    @Group("relations")
+    @GroupThreads(3)
+    public ArrayList<WebSocketSession> readGameSessions(ThreadState state) {
+        return gameRelationManager.getGameSessions(games.get(state.random.nextInt(roomsCount)));
+    }
+
+    @Benchmark
+    @Group("relations")
+    @GroupThreads(1)
+    public void rebindGuesser(ThreadState state) {
+
+        final int room = state.random.nextInt(roomsCount);
+        final List<WebSocketSession> sessions = roomSessions.get(room);
+        final int player = 1 + state.random.nextInt(sessions.size() - 1);
+        final WebSocketSession session = sessions.get(player);
+
+        gameRelationManager.removeRelation(SessionOperator.getLogin(session));
+        gameRelationManager.addGuesserRelation(session, games.get(room), player + 1);
+    }
+}
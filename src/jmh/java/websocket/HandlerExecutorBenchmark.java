@@ -0,0 +1,85 @@
+package websocket;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// A burst of handlers that each block on a pooled "statement", as message handlers doing JDBC do.
+// Platform mode mirrors the container's worker pool; virtual mode needs JDK 21+ and falls back to it otherwise.
+@SuppressWarnings("unused")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class HandlerExecutorBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param("10000")
+    private int handlersCount;
+
+    @Param("200")
+    private int containerThreads;
+
+    @Param("100")
+    private int connections;
+
+    @Param("1")
+    private int statementMillis;
+
+    private HandlerExecutor handlerExecutor;
+    private ExecutorService containerExecutor;
+    private Semaphore permits;
+
+    @Setup
+    public void setUp() {
+
+        handlerExecutor = HandlerExecutor.create(mode);
+        containerExecutor = Executors.newFixedThreadPool(containerThreads);
+        permits = new Semaphore(connections, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        handlerExecutor.shutdown();
+        containerExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public void handleBurst() throws InterruptedException {
+
+        final CountDownLatch done = new CountDownLatch(handlersCount);
+
+        for (int i = 0; i < handlersCount; ++i) {
+
+            // Every handler gets its own session executor, as every connection does
+            final Executor sessionExecutor = handlerExecutor.isVirtual() ?
+                handlerExecutor.newSerialExecutor() :
+                containerExecutor;
+
+            sessionExecutor.execute(() -> {
+
+                permits.acquireUninterruptibly();
+                try {
+                    Thread.sleep(statementMillis);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    permits.release();
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+    }
+}
@@ -0,0 +1,148 @@
+package websocket;
+
+import database.DiscardingDashesRecorder;
+import database.DiscardingGameHistoryWriter;
+import database.ExecutorAccountService;
+import database.ExecutorDashesService;
+import database.StubAccountService;
+import database.StubDashesService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.socket.WebSocketSession;
+import socketmessages.PlayerRole;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("unused")
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class MatchmakingBenchmark {
+
+    public static final int SESSIONS_PER_THREAD = 1000;
+
+    @State(Scope.Benchmark)
+    public static class QueuedState {
+
+        @Param("2000")
+        private int roomsCount;
+
+        @Param({"1000", "6000"})
+        private int queuedCount;
+
+        private GameManagerServiceFixture fixture;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+
+            fixture = new GameManagerServiceFixture(roomsCount);
+            for (int i = 0; i < queuedCount; ++i) {
+                fixture.service.queueForMultiplayerGame(new StubWebSocketSession("queued" + i), PlayerRole.GUESSER);
+            }
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            fixture.shutdown();
+        }
+    }
+
+    @State(Scope.Group)
+    public static class ContentionState {
+
+        @Param("2000")
+        private int roomsCount;
+
+        private GameManagerServiceFixture fixture;
+
+        @Setup
+        public void setUp() {
+            fixture = new GameManagerServiceFixture(roomsCount);
+        }
+
+        @TearDown
+        public void tearDown() {
+            fixture.shutdown();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        private final ArrayList<WebSocketSession> sessions = new ArrayList<>();
+        private int next = 0;
+
+        @Setup
+        public void setUp() {
+
+            final String prefix = "thread" + System.identityHashCode(this) + '_';
+            for (int i = 0; i < SESSIONS_PER_THREAD; ++i) {
+                sessions.add(new StubWebSocketSession(prefix + i));
+            }
+        }
+
+        private WebSocketSession nextSession() {
+
+            next = (next + 1) % sessions.size();
+            return sessions.get(next);
+        }
+    }
+
+    private static final class GameManagerServiceFixture {
+
+        private final GameScheduler scheduler = new ExecutorGameScheduler(GameManagerService.SCHEDULER_THREADS);
+        private final DiscardingDashesRecorder dashesRecorder = new DiscardingDashesRecorder();
+        private final StubDashesService dashesService = new StubDashesService();
+        private final DiscardingGameHistoryWriter gameHistoryWriter = new DiscardingGameHistoryWriter();
+        private final GameManagerService service = new GameManagerService(
+            new ExecutorAccountService(new StubAccountService(), Runnable::run), dashesService,
+            new ExecutorDashesService(dashesService, Runnable::run),
+            dashesRecorder, gameHistoryWriter, PointBudget.DEFAULT, AdmissionControl.UNLIMITED, scheduler);
+
+        private GameManagerServiceFixture(int roomsCount) {
+
+            for (int room = 0; room < roomsCount; ++room) {
+                service.queueForMultiplayerGame(new StubWebSocketSession("painter" + room), PlayerRole.PAINTER);
+                service.queueForMultiplayerGame(new StubWebSocketSession("guesser" + room), PlayerRole.GUESSER);
+                service.checkQueue();
+            }
+        }
+
+        private void shutdown() {
+
+            scheduler.shutdown();
+            dashesRecorder.shutdown();
+            gameHistoryWriter.shutdown();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 10)
+    @Measurement(iterations = 30)
+    public void checkQueue(QueuedState state) {
+        state.fixture.service.checkQueue();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Group("queue")
+    @GroupThreads(3)
+    public void queueAndLeave(ContentionState state, ThreadState threadState) {
+
+        final WebSocketSession session = threadState.nextSession();
+        state.fixture.service.queueForMultiplayerGame(session, PlayerRole.GUESSER);
+        state.fixture.service.clearData(session);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Group("queue")
+    @GroupThreads(1)
+    public void matchQueue(ContentionState state) {
+        state.fixture.service.checkQueue();
+    }
+}
@@ -0,0 +1,85 @@
+package websocket;
+
+import database.DiscardingGameHistoryWriter;
+import entities.Dashes;
+import entities.SingleplayerGame;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("unused")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduledGameBenchmark {
+
+    private static final Runnable NOOP = () -> { };
+
+    @Param("2000")
+    private int gamesCount;
+
+    private GameScheduler scheduler;
+    private DiscardingGameHistoryWriter gameHistoryWriter;
+    private final ArrayList<ScheduledGame<SingleplayerGame>> games = new ArrayList<>();
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        private final Random random = new Random();
+    }
+
+    @Setup
+    public void setUp() {
+
+        scheduler = new ExecutorGameScheduler(GameManagerService.SCHEDULER_THREADS);
+        gameHistoryWriter = new DiscardingGameHistoryWriter();
+
+        final SingleplayerScheduledGameManager manager =
+            new SingleplayerScheduledGameManager(
+                scheduler, new GameRelationManager(), gameHistoryWriter, PointBudget.DEFAULT);
+        final Dashes dashes = new Dashes(1, "word", "[]");
+
+        for (int i = 0; i < gamesCount; ++i) {
+
+            final ScheduledGame<SingleplayerGame> scheduledGame =
+                manager.createScheduledGame(new SingleplayerGame("player" + i, dashes));
+            scheduledGame.start();
+            scheduledGame.rechedule(NOOP, GameManagerService.MULTIPLAYER_TIME_LIMIT);
+            games.add(scheduledGame);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        scheduler.shutdown();
+        gameHistoryWriter.shutdown();
+    }
+
+    @Benchmark
+    public boolean answerCheck(ThreadState state) {
+
+        return games.get(state.random.nextInt(gamesCount)).isRunning();
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(4)
+    public boolean answerChurn(ThreadState state) {
+        return answerCheck(state);
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(1)
+    public void restartChurn(ThreadState state) {
+
+        games.get(state.random.nextInt(gamesCount))
+            .rechedule(NOOP, GameManagerService.MULTIPLAYER_TIME_LIMIT);
+    }
+}
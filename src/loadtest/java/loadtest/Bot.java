@@ -0,0 +1,285 @@
+package loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import httpmessages.AccountData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.WebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import socketmessages.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+public class Bot extends TextWebSocketHandler {
+
+    public static final String PASSWORD = "loadtest";
+    public static final int STROKE_LENGTH = 20;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String PAINTER_ROLE = PlayerRole.PAINTER.toString();
+    private static final String SESSION_COOKIE = "JSESSIONID";
+
+    private final @NotNull String login;
+    private final @NotNull LoadTest.Options options;
+    private final @NotNull LoadStats stats;
+    private final @NotNull ScheduledExecutorService scheduler;
+    private final Map<String, Long> pendingAnswers = new ConcurrentHashMap<>();
+
+    private volatile @Nullable WebSocketSession session = null;
+    private volatile @Nullable ScheduledFuture<?> gameTask = null;
+    private int pointsInStroke = 0;
+    private int answersCount = 0;
+
+    public Bot(
+        @NotNull String login,
+        @NotNull LoadTest.Options options,
+        @NotNull LoadStats stats,
+        @NotNull ScheduledExecutorService scheduler) {
+
+        this.login = login;
+        this.options = options;
+        this.stats = stats;
+        this.scheduler = scheduler;
+    }
+
+    public void connect(@NotNull WebSocketClient client) throws Exception {
+
+        final String cookie = authenticate();
+        final WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+        headers.add("Cookie", cookie);
+        headers.add("Origin", options.getOrigin());
+
+        client.doHandshake(this, headers, URI.create(options.getSocketUrl())).get();
+    }
+
+    public void stop() throws IOException {
+
+        cancelGameTask();
+        final WebSocketSession currentSession = session;
+
+        if ((currentSession != null) && currentSession.isOpen()) {
+            currentSession.close(CloseStatus.NORMAL);
+        }
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession webSocketSession) throws IOException {
+
+        session = webSocketSession;
+        stats.botsConnected.increment();
+        queue();
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession webSocketSession, TextMessage textMessage) throws IOException {
+
+        final JsonNode message = OBJECT_MAPPER.readTree(textMessage.getPayload());
+        final MessageType type = MessageType.fromString(message.path(WebSocketMessage.TYPE_ATTR).asText());
+        final JsonNode content = message.path(WebSocketMessage.CONTENT_ATTR);
+
+        switch (type) {
+
+            case START_MULTIPLAYER_GAME:
+                startGame(content.path(MultiplayerGameStateContent.ROLE_ATTR).asText());
+                break;
+
+            case NEW_POINT:
+                stats.pointReceived(
+                    (float) content.path(PicturePointContent.X_ATTR).asDouble(),
+                    (float) content.path(PicturePointContent.Y_ATTR).asDouble());
+                break;
+
+            case CHECK_ANSWER:
+                handleAnswer(content);
+                break;
+
+            case STOP_GAME:
+                stats.gamesFinished.increment();
+                cancelGameTask();
+                queue();
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession webSocketSession, Throwable exception) {
+
+        stats.botErrors.increment();
+        cancelGameTask();
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession webSocketSession, CloseStatus status) {
+
+        stats.botsConnected.decrement();
+        cancelGameTask();
+    }
+
+    private void startGame(@NotNull String role) {
+
+        cancelGameTask();
+        stats.gamesStarted.increment();
+
+        if (PAINTER_ROLE.equals(role)) {
+
+            final long period = TimeUnit.SECONDS.toMicros(1) / options.getPointRate();
+            gameTask = scheduler.scheduleAtFixedRate(this::sendPoint, period, period, TimeUnit.MICROSECONDS);
+
+        } else {
+
+            final long period = options.getAnswerPeriodMillis();
+            final long delay = ThreadLocalRandom.current().nextLong(period) + 1;
+            gameTask = scheduler.scheduleAtFixedRate(this::sendAnswer, delay, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void handleAnswer(@NotNull JsonNode content) throws IOException {
+
+        final String answer = content.path(AnswerResponseContent.ANSWER_ATTR).asText();
+
+        if (login.equals(content.path(AnswerResponseContent.PLAYER_ATTR).asText())) {
+
+            final Long sendNanos = pendingAnswers.remove(answer);
+            if (sendNanos != null) {
+                stats.answerReceived(sendNanos);
+            }
+
+        } else if (ThreadLocalRandom.current().nextDouble() < options.getVoteProbability()) {
+
+            send(MessageType.VOTE_ANSWER, new AnswerVoteContent(
+                content.path(AnswerResponseContent.ID_ATTR).asInt(),
+                ThreadLocalRandom.current().nextBoolean()));
+            stats.votesSent.increment();
+        }
+    }
+
+    private void sendPoint() {
+
+        final int sequence = stats.nextPointSequence();
+        final boolean down = (pointsInStroke % STROKE_LENGTH) == 0;
+        ++pointsInStroke;
+
+        try {
+            send(MessageType.NEW_POINT, new PicturePointContent(
+                LoadStats.pointX(sequence), LoadStats.pointY(sequence), down, down ? "black" : null));
+            stats.pointsSent.increment();
+
+        } catch (IOException | RuntimeException exception) {
+            stats.botErrors.increment();
+        }
+    }
+
+    private void sendAnswer() {
+
+        // Answers never match a catalog word, so games run for the whole time limit
+        final String answer = login + '#' + (++answersCount);
+        pendingAnswers.put(answer, System.nanoTime());
+
+        try {
+            send(MessageType.CHECK_ANSWER, new AnswerContent(answer));
+            stats.answersSent.increment();
+
+        } catch (IOException | RuntimeException exception) {
+            pendingAnswers.remove(answer);
+            stats.botErrors.increment();
+        }
+    }
+
+    private void queue() throws IOException {
+
+        pendingAnswers.clear();
+        send(MessageType.START_MULTIPLAYER_GAME, null);
+    }
+
+    private void send(@NotNull MessageType type, @Nullable EmptyContent content) throws IOException {
+
+        final WebSocketSession currentSession = session;
+        if ((currentSession == null) || !currentSession.isOpen()) {
+            return;
+        }
+
+        final String payload = (content != null) ?
+            OBJECT_MAPPER.writeValueAsString(new WebSocketMessage<>(type.toString(), content)) :
+            "{\"type\":\"" + type + "\",\"content\":{}}";
+
+        //noinspection SynchronizationOnLocalVariableOrMethodParameter
+        synchronized (currentSession) {
+            currentSession.sendMessage(new TextMessage(payload));
+        }
+    }
+
+    private void cancelGameTask() {
+
+        final ScheduledFuture<?> currentTask = gameTask;
+        if (currentTask != null) {
+            currentTask.cancel(false);
+        }
+    }
+
+    private @NotNull String authenticate() throws IOException {
+
+        final String body = OBJECT_MAPPER.createObjectNode()
+            .put(AccountData.LOGIN_ATTR, login)
+            .put(AccountData.PASSWORD_ATTR, PASSWORD)
+            .put(AccountData.EMAIL_ATTR, login + "@loadtest.local")
+            .toString();
+
+        String cookie = post("/register/", body);
+        if (cookie == null) {
+            cookie = post("/login/", body);
+        }
+
+        if (cookie == null) {
+            throw new IOException("can't log in as " + login);
+        }
+
+        return cookie;
+    }
+
+    private @Nullable String post(@NotNull String path, @NotNull String body) throws IOException {
+
+        final HttpURLConnection connection = (HttpURLConnection) new URL(options.getUrl() + path).openConnection();
+        connection.setRequestMethod("POST");
+        connection.setRequestProperty("Content-Type", "application/json");
+        connection.setDoOutput(true);
+
+        try (OutputStream output = connection.getOutputStream()) {
+            output.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        try {
+            if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
+                return null;
+            }
+
+            final String setCookie = connection.getHeaderField("Set-Cookie");
+            if ((setCookie == null) || !setCookie.startsWith(SESSION_COOKIE + '=')) {
+                return null;
+            }
+
+            return setCookie.split(";", 2)[0];
+
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package loadtest;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class LatencyRecorder {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final @NotNull String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+
+    public LatencyRecorder(@NotNull String name) {
+        this.name = name;
+    }
+
+    public void record(long startNanos) {
+
+        final long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        buckets.incrementAndGet(indexOf(Math.max(micros, 0)));
+        count.increment();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getPercentileMillis(double percentile) {
+
+        final long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+
+        final long rank = (long) Math.ceil((percentile / 100) * total);
+        long seen = 0;
+
+        for (int index = 0; index < BUCKET_COUNT; ++index) {
+
+            seen += buckets.get(index);
+            if (seen >= rank) {
+                return upperBoundOf(index) / 1000.0;
+            }
+        }
+
+        return upperBoundOf(BUCKET_COUNT - 1) / 1000.0;
+    }
+
+    public @NotNull String summary() {
+
+        return String.format("%s: n=%d p50=%.2fms p99=%.2fms p999=%.2fms",
+            name, getCount(), getPercentileMillis(50), getPercentileMillis(99), getPercentileMillis(99.9));
+    }
+
+    private static int indexOf(long micros) {
+
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+        final int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT) + subBucket;
+    }
+
+    private static long upperBoundOf(int index) {
+
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        final int exponent = (index / SUB_BUCKET_COUNT) + SUB_BUCKET_BITS - 1;
+        final long subBucket = index % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -0,0 +1,73 @@
+package loadtest;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class LoadStats {
+
+    // Point sequence numbers travel in the point coordinates, COORDINATE_BITS per axis as
+    // exact binary fractions of the normalized canvas
+    public static final int COORDINATE_BITS = 10;
+    private static final float COORDINATE_SCALE = 1 << COORDINATE_BITS;
+    private static final int SEQUENCE_MASK = (1 << (2 * COORDINATE_BITS)) - 1;
+    private static final int COORDINATE_MASK = (1 << COORDINATE_BITS) - 1;
+
+    private final AtomicInteger pointSequence = new AtomicInteger();
+    private final AtomicLongArray pointSendTimes = new AtomicLongArray(SEQUENCE_MASK + 1);
+
+    private final LatencyRecorder pointFanOut = new LatencyRecorder("point fan-out");
+    private final LatencyRecorder answerRoundTrip = new LatencyRecorder("answer round-trip");
+
+    final LongAdder botsConnected = new LongAdder();
+    final LongAdder botErrors = new LongAdder();
+    final LongAdder gamesStarted = new LongAdder();
+    final LongAdder gamesFinished = new LongAdder();
+    final LongAdder pointsSent = new LongAdder();
+    final LongAdder pointsReceived = new LongAdder();
+    final LongAdder answersSent = new LongAdder();
+    final LongAdder votesSent = new LongAdder();
+
+    int nextPointSequence() {
+
+        final int sequence = pointSequence.getAndIncrement() & SEQUENCE_MASK;
+        pointSendTimes.set(sequence, System.nanoTime());
+        return sequence;
+    }
+
+    static float pointX(int sequence) {
+        return (sequence & COORDINATE_MASK) / COORDINATE_SCALE;
+    }
+
+    static float pointY(int sequence) {
+        return (sequence >>> COORDINATE_BITS) / COORDINATE_SCALE;
+    }
+
+    void pointReceived(float pointX, float pointY) {
+
+        final int sequence = (Math.round(pointY * COORDINATE_SCALE) << COORDINATE_BITS) |
+            Math.round(pointX * COORDINATE_SCALE);
+        pointsReceived.increment();
+
+        if ((sequence >= 0) && (sequence <= SEQUENCE_MASK)) {
+            pointFanOut.record(pointSendTimes.get(sequence));
+        }
+    }
+
+    void answerReceived(long sendNanos) {
+        answerRoundTrip.record(sendNanos);
+    }
+
+    @NotNull String report(long elapsedMillis, long previousPointsReceived) {
+
+        final double seconds = Math.max(elapsedMillis, 1) / 1000.0;
+
+        return String.format(
+            "bots=%d errors=%d games=%d/%d points sent=%d received=%d (%.0f/s) answers=%d votes=%d%n  %s%n  %s",
+            botsConnected.sum(), botErrors.sum(), gamesStarted.sum(), gamesFinished.sum(),
+            pointsSent.sum(), pointsReceived.sum(), (pointsReceived.sum() - previousPointsReceived) / seconds,
+            answersSent.sum(), votesSent.sum(), pointFanOut.summary(), answerRoundTrip.summary());
+    }
+}
@@ -0,0 +1,109 @@
+package loadtest;
+
+import org.jetbrains.annotations.NotNull;
+import org.springframework.web.socket.client.WebSocketClient;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("UseOfSystemOutOrSystemErr")
+public final class LoadTest {
+
+    public static final class Options {
+
+        private final @NotNull String url = System.getProperty("loadtest.url", "http://localhost:8082");
+        private final @NotNull String origin = System.getProperty("loadtest.origin", "http://localhost");
+        private final @NotNull String loginPrefix = System.getProperty("loadtest.prefix", "bot");
+        private final int bots = Integer.getInteger("loadtest.bots", 100);
+        private final int rampMillis = Integer.getInteger("loadtest.ramp", 10000);
+        private final int durationSeconds = Integer.getInteger("loadtest.duration", 60);
+        private final int reportSeconds = Integer.getInteger("loadtest.report", 10);
+        private final int pointRate = Integer.getInteger("loadtest.pointRate", 30);
+        private final int answerPeriodMillis = Integer.getInteger("loadtest.answerPeriod", 5000);
+        private final double voteProbability = Double.parseDouble(System.getProperty("loadtest.voteProbability", "0.3"));
+        private final int threads = Integer.getInteger("loadtest.threads", Runtime.getRuntime().availableProcessors());
+
+        public @NotNull String getUrl() {
+            return url;
+        }
+
+        public @NotNull String getSocketUrl() {
+            return url.replaceFirst("^http", "ws") + "/sp-games/";
+        }
+
+        public @NotNull String getOrigin() {
+            return origin;
+        }
+
+        public int getPointRate() {
+            return pointRate;
+        }
+
+        public int getAnswerPeriodMillis() {
+            return answerPeriodMillis;
+        }
+
+        public double getVoteProbability() {
+            return voteProbability;
+        }
+    }
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+
+        final Options options = new Options();
+        final LoadStats stats = new LoadStats();
+        final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(options.threads);
+        final WebSocketClient client = new StandardWebSocketClient();
+        final ArrayList<Bot> bots = new ArrayList<>();
+
+        System.out.printf("Starting %d bots against %s for %d s.%n", options.bots, options.url, options.durationSeconds);
+        final long startMillis = System.currentTimeMillis();
+
+        for (int i = 0; i < options.bots; ++i) {
+
+            final Bot bot = new Bot(options.loginPrefix + i, options, stats, scheduler);
+            bots.add(bot);
+            scheduler.schedule(() -> {
+                try {
+                    bot.connect(client);
+                } catch (Exception exception) {
+                    stats.botErrors.increment();
+                    System.err.println("Bot connection failed: " + exception);
+                }
+            }, ((long) options.rampMillis * i) / options.bots, TimeUnit.MILLISECONDS);
+        }
+
+        long previousMillis = startMillis;
+        long previousPointsReceived = 0;
+
+        while (System.currentTimeMillis() - startMillis < TimeUnit.SECONDS.toMillis(options.durationSeconds)) {
+
+            Thread.sleep(TimeUnit.SECONDS.toMillis(options.reportSeconds));
+
+            final long currentMillis = System.currentTimeMillis();
+            System.out.printf("[%ds] %s%n",
+                TimeUnit.MILLISECONDS.toSeconds(currentMillis - startMillis),
+                stats.report(currentMillis - previousMillis, previousPointsReceived));
+
+            previousMillis = currentMillis;
+            previousPointsReceived = stats.pointsReceived.sum();
+        }
+
+        for (Bot bot : bots) {
+            try {
+                bot.stop();
+            } catch (Exception exception) {
+                stats.botErrors.increment();
+            }
+        }
+
+        scheduler.shutdownNow();
+        System.out.printf("Total: %s%n", stats.report(System.currentTimeMillis() - startMillis, 0));
+    }
+}
@@ -0,0 +1,11 @@
+package database;
+
+import entities.Account;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncAccountService {
+
+    @NotNull CompletableFuture<Account> updateAccountRating(@NotNull String login, int ratingDelta);
+}
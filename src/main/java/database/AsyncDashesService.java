@@ -0,0 +1,13 @@
+package database;
+
+import entities.Dashes;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncDashesService {
+
+    @NotNull CompletableFuture<Void> addUsedDashes(@NotNull String login, int dashesId);
+
+    @NotNull CompletableFuture<Dashes> getRandomDashes(@NotNull String login);
+}
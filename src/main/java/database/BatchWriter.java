@@ -0,0 +1,95 @@
+package database;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public abstract class BatchWriter<T> {
+
+    protected static final Logger LOGGER = LoggerFactory.getLogger(BatchWriter.class);
+    // A full queue drops on every submit, the warning comes at most this often with the running total
+    private static final long DROP_LOG_INTERVAL_MILLIS = 10000;
+
+    private final @NotNull String name;
+    private final ArrayBlockingQueue<T> queue;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong dropLoggedMillis = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+
+    protected BatchWriter(@NotNull String name, int capacity, int batchSize, int flushMillis) {
+
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+
+        scheduler.scheduleWithFixedDelay(
+            this::flush,
+            flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    protected abstract void writeBatch(@NotNull List<T> batch) throws DataAccessException;
+
+    public boolean submit(@NotNull T element) {
+
+        if (queue.offer(element)) {
+            return true;
+        }
+
+        final long droppedCount = dropped.incrementAndGet();
+        final long nowMillis = System.currentTimeMillis();
+        final long loggedMillis = dropLoggedMillis.get();
+        if (((nowMillis - loggedMillis) >= DROP_LOG_INTERVAL_MILLIS) &&
+            dropLoggedMillis.compareAndSet(loggedMillis, nowMillis)) {
+            LOGGER.warn("{} queue is full, {} elements dropped so far.", name, droppedCount);
+        }
+
+        return false;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public void shutdown() {
+
+        scheduler.shutdown();
+        flush();
+    }
+
+    private synchronized void flush() {
+
+        final ArrayList<T> batch = new ArrayList<>(batchSize);
+
+        while (queue.drainTo(batch, batchSize) > 0) {
+
+            try {
+                writeBatch(batch);
+                written.addAndGet(batch.size());
+
+            } catch (DataAccessException exception) {
+                LOGGER.error("{} failed to write {} elements: {}", name, batch.size(), exception.toString());
+            }
+
+            batch.clear();
+        }
+    }
+}
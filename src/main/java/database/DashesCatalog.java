@@ -0,0 +1,86 @@
+package database;
+
+import entities.Dashes;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class DashesCatalog {
+
+    public static final DashesCatalog EMPTY = new DashesCatalog(Collections.emptyList(), 0);
+
+    private final @NotNull List<Dashes> dashes;
+    private final @NotNull Map<Integer, Dashes> dashesById;
+    private final int highWaterMark;
+    // Order-independent, so a late row replacing a removed one still changes the version
+    private final int idsChecksum;
+
+    private DashesCatalog(@NotNull Collection<Dashes> dashes, int highWaterMark) {
+
+        this.dashes = Collections.unmodifiableList(new ArrayList<>(dashes));
+        this.dashesById = new HashMap<>();
+
+        int maxId = highWaterMark;
+        int checksum = 0;
+        for (Dashes element : this.dashes) {
+            dashesById.put(element.getId(), element);
+            maxId = Math.max(maxId, element.getId());
+            checksum += element.getId() * 0x9E3779B1;
+        }
+
+        this.highWaterMark = maxId;
+        this.idsChecksum = checksum;
+    }
+
+    public @NotNull DashesCatalog withChanges(@NotNull List<Dashes> added, @NotNull Set<Integer> removedIds) {
+
+        if (added.isEmpty() && removedIds.isEmpty()) {
+            return this;
+        }
+
+        final ArrayList<Dashes> changed = new ArrayList<>(dashes.size() + added.size());
+        for (Dashes element : dashes) {
+            if (!removedIds.contains(element.getId())) {
+                changed.add(element);
+            }
+        }
+        changed.addAll(added);
+
+        return new DashesCatalog(changed, highWaterMark);
+    }
+
+    public @NotNull List<Dashes> getDashes() {
+        return dashes;
+    }
+
+    public @Nullable Dashes getDashes(int id) {
+        return dashesById.get(id);
+    }
+
+    public @NotNull Set<Integer> getIds() {
+        return Collections.unmodifiableSet(dashesById.keySet());
+    }
+
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    public int size() {
+        return dashes.size();
+    }
+
+    public boolean isEmpty() {
+        return dashes.isEmpty();
+    }
+
+    public @NotNull String getVersion() {
+        return String.valueOf(dashes.size()) + '-' + highWaterMark + '-' + Integer.toHexString(idsChecksum);
+    }
+}
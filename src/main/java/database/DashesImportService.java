@@ -0,0 +1,240 @@
+package database;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class DashesImportService {
+
+    public static final int PROGRESS_STEP = 1000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DashesImportService.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String WORD_ATTR = "word";
+    private static final String POINTS_ATTR = "points";
+    private static final int MAX_WORD_LENGTH = 50;
+
+    private final NamedParameterJdbcTemplate database;
+    private final DashesService dashesService;
+
+    private volatile ImportProgress progress = new ImportProgress("none");
+
+    public static final class ImportProgress {
+
+        private final @NotNull String source;
+        private final AtomicLong linesRead = new AtomicLong();
+        private final AtomicLong rowsRejected = new AtomicLong();
+        private volatile long rowsCopied = 0;
+        private volatile long rowsInserted = 0;
+        private volatile boolean finished = false;
+        private volatile @Nullable String error = null;
+
+        ImportProgress(@NotNull String source) {
+            this.source = source;
+        }
+
+        public @NotNull String getSource() {
+            return source;
+        }
+
+        public long getLinesRead() {
+            return linesRead.get();
+        }
+
+        public long getRowsRejected() {
+            return rowsRejected.get();
+        }
+
+        public long getRowsCopied() {
+            return rowsCopied;
+        }
+
+        public long getRowsInserted() {
+            return rowsInserted;
+        }
+
+        public long getDuplicates() {
+            return rowsCopied - rowsInserted;
+        }
+
+        public boolean isFinished() {
+            return finished;
+        }
+
+        public @Nullable String getError() {
+            return error;
+        }
+    }
+
+    public DashesImportService(NamedParameterJdbcTemplate database, DashesService dashesService) {
+
+        this.database = database;
+        this.dashesService = dashesService;
+    }
+
+    public @NotNull ImportProgress getProgress() {
+        return progress;
+    }
+
+    public boolean isCatalogEmpty() {
+
+        final Integer count = database.getJdbcOperations().queryForObject(
+            " SELECT count(*) FROM dashes", Integer.class);
+
+        return (count == null) || (count == 0);
+    }
+
+    public synchronized @NotNull ImportProgress importDashes(
+        @NotNull InputStream input, @NotNull String source) throws DataRetrievalFailureException {
+
+        final ImportProgress currentProgress = new ImportProgress(source);
+        progress = currentProgress;
+        LOGGER.info("Dashes import from {} started.", source);
+
+        try {
+            database.getJdbcOperations().execute(
+                (ConnectionCallback<Void>) connection -> {
+                    copyDashes(connection, input, currentProgress);
+                    return null;
+                });
+
+        } catch (RuntimeException exception) {
+
+            currentProgress.error = exception.toString();
+            LOGGER.error("Dashes import from {} failed: {}", source, exception.toString());
+            throw new DataRetrievalFailureException("dashes import error", exception);
+
+        } finally {
+            currentProgress.finished = true;
+        }
+
+        LOGGER.info("Dashes import from {} finished: {} lines, {} rejected, {} inserted, {} duplicates.",
+            source, currentProgress.getLinesRead(), currentProgress.getRowsRejected(),
+            currentProgress.getRowsInserted(), currentProgress.getDuplicates());
+
+        if (currentProgress.getRowsInserted() > 0) {
+            dashesService.reloadCatalog();
+        }
+
+        return currentProgress;
+    }
+
+    private void copyDashes(
+        @NotNull Connection connection,
+        @NotNull InputStream input,
+        @NotNull ImportProgress currentProgress) throws SQLException {
+
+        try (Statement statement = connection.createStatement()) {
+
+            statement.execute(
+                " CREATE TEMP TABLE IF NOT EXISTS dashes_import (" +
+                    " word TEXT NOT NULL," +
+                    " points TEXT NOT NULL )");
+            statement.execute(" TRUNCATE dashes_import");
+
+            final CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                " COPY dashes_import ( word, points ) FROM STDIN WITH ( FORMAT csv )");
+
+            try {
+                streamRows(copyIn, input, currentProgress);
+                currentProgress.rowsCopied = copyIn.endCopy();
+
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+
+            currentProgress.rowsInserted = statement.executeUpdate(
+                " INSERT INTO dashes ( word, points, hash )" +
+                    " SELECT DISTINCT ON ( hash ) word, points, hash FROM (" +
+                    " SELECT word, points :: JSON AS points," +
+                    " md5( lower( word ) || ':' || points ) AS hash" +
+                    " FROM dashes_import ) AS source" +
+                    " ON CONFLICT ( hash ) DO NOTHING");
+
+            statement.execute(" DROP TABLE dashes_import");
+        }
+    }
+
+    private void streamRows(
+        @NotNull CopyIn copyIn,
+        @NotNull InputStream input,
+        @NotNull ImportProgress currentProgress) throws SQLException {
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+
+                final long linesRead = currentProgress.linesRead.incrementAndGet();
+                final String row = toCsvRow(line);
+
+                if (row != null) {
+
+                    final byte[] bytes = row.getBytes(StandardCharsets.UTF_8);
+                    copyIn.writeToCopy(bytes, 0, bytes.length);
+
+                } else if (!line.trim().isEmpty()) {
+                    currentProgress.rowsRejected.incrementAndGet();
+                }
+
+                if ((linesRead % PROGRESS_STEP) == 0) {
+                    LOGGER.info("Dashes import from {}: {} lines read, {} rejected.",
+                        currentProgress.getSource(), linesRead, currentProgress.getRowsRejected());
+                }
+            }
+
+        } catch (IOException exception) {
+            throw new DataRetrievalFailureException("dashes import stream error", exception);
+        }
+    }
+
+    @SuppressWarnings("OverlyBroadCatchBlock")
+    private static @Nullable String toCsvRow(@NotNull String line) {
+
+        if (line.trim().isEmpty()) {
+            return null;
+        }
+
+        try {
+            final JsonNode node = OBJECT_MAPPER.readTree(line);
+            final JsonNode word = node.get(WORD_ATTR);
+            final JsonNode points = node.get(POINTS_ATTR);
+
+            if ((word == null) || !word.isTextual() || word.asText().isEmpty() ||
+                (word.asText().length() > MAX_WORD_LENGTH) || (points == null) || !points.isArray()) {
+                return null;
+            }
+
+            return quoteCsv(word.asText()) + ',' + quoteCsv(OBJECT_MAPPER.writeValueAsString(points)) + '\n';
+
+        } catch (IOException exception) {
+            return null;
+        }
+    }
+
+    private static @NotNull String quoteCsv(@NotNull String value) {
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
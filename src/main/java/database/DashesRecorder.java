@@ -0,0 +1,105 @@
+package database;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import entities.DashesRecording;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import socketmessages.PicturePointContent;
+import socketmessages.PointBuffer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Locale;
+
+public class DashesRecorder extends BatchWriter<DashesRecording> {
+
+    public static final int QUEUE_CAPACITY = 256;
+    public static final int BATCH_SIZE = 32;
+    public static final int FLUSH_PERIOD = 1000;
+    public static final int MIN_POINTS = 20;
+
+    private static final String WORD_PARAM = "pword";
+    private static final String POINTS_PARAM = "ppoints";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final NamedParameterJdbcTemplate database;
+
+    public DashesRecorder(NamedParameterJdbcTemplate database) {
+
+        super("Dashes recorder", QUEUE_CAPACITY, BATCH_SIZE, FLUSH_PERIOD);
+        this.database = database;
+    }
+
+    @Override
+    public boolean submit(@NotNull DashesRecording recording) {
+
+        return (recording.getPoints().size() >= MIN_POINTS) && super.submit(recording);
+    }
+
+    @Override
+    protected void writeBatch(@NotNull List<DashesRecording> batch) throws DataAccessException {
+
+        final MapSqlParameterSource[] sources = new MapSqlParameterSource[batch.size()];
+
+        for (int i = 0; i < batch.size(); ++i) {
+
+            sources[i] = new MapSqlParameterSource();
+            sources[i].addValue(WORD_PARAM, batch.get(i).getWord());
+            sources[i].addValue(POINTS_PARAM, toPointsJson(batch.get(i)));
+        }
+
+        final String insertDashesSql = String.format(
+            " INSERT INTO dashes ( word, points, hash )" +
+                " VALUES ( :%1$s, CAST( :%2$s AS JSON ), md5( lower( :%1$s ) || ':' || :%2$s ) )" +
+                " ON CONFLICT ( hash ) DO NOTHING",
+            WORD_PARAM, POINTS_PARAM);
+
+        database.batchUpdate(insertDashesSql, sources);
+    }
+
+    private static @NotNull String toPointsJson(@NotNull DashesRecording recording) {
+
+        final PointBuffer.Snapshot points = recording.getPoints();
+        final int[] pointTimes = points.getTimesMillis();
+        final int count = points.size();
+        final StringWriter writer = new StringWriter(count * 40);
+
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+
+            generator.writeStartArray();
+            for (int i = 0; i < count; ++i) {
+
+                generator.writeStartObject();
+                generator.writeNumberField("time", pointTimes[i]);
+                generator.writeStringField(PicturePointContent.X_ATTR, formatCoordinate(points.getX(i)));
+                generator.writeStringField(PicturePointContent.Y_ATTR, formatCoordinate(points.getY(i)));
+
+                if (points.isDown(i)) {
+                    generator.writeBooleanField(PicturePointContent.DOWN_ATTR, true);
+                    if (points.getColor(i) != null) {
+                        generator.writeStringField(PicturePointContent.COLOR_ATTR, points.getColor(i));
+                    }
+                }
+
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+
+        } catch (IOException exception) {
+            throw new DataRetrievalFailureException("dashes recording encoding error", exception);
+        }
+
+        return writer.toString();
+    }
+
+    private static @NotNull String formatCoordinate(float coordinate) {
+
+        return String.format(Locale.US, "%.3f", coordinate);
+    }
+}
@@ -2,8 +2,11 @@ package database;
 
 import entities.Dashes;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.dao.DataAccessException;
 
+import java.util.List;
+
 public interface DashesService {
 
     boolean checkWord(@NotNull String word, int dashesId);
@@ -13,4 +16,13 @@ public interface DashesService {
     @NotNull Dashes getRandomDashes(@NotNull String login) throws DataAccessException;
 
     @NotNull Dashes getRandomDashes() throws DataAccessException;
+
+    // Picked from the loaded catalog without touching the database, null until it is loaded
+    @Nullable Dashes getCachedDashes();
+
+    @NotNull List<Dashes> getRandomDashes(int count) throws DataAccessException;
+
+    @NotNull String getCatalogVersion() throws DataAccessException;
+
+    @NotNull DashesCatalog reloadCatalog() throws DataAccessException;
 }
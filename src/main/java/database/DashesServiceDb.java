@@ -3,6 +3,9 @@ package database;
 import entities.Dashes;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -11,23 +14,49 @@ import org.springframework.stereotype.Service;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Service
 public class DashesServiceDb implements DashesService {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DashesServiceDb.class);
+
     private static final String LOGIN_PARAM = "plogin";
     private static final String ID_PARAM = "pid";
     private static final String WORD_PARAM = "pword";
+    private static final String HIGH_WATER_MARK_PARAM = "phwm";
+    private static final String IDS_PARAM = "pids";
+    // Keeps the expanded IN list far below the statement parameter limit
+    private static final int IDS_PER_QUERY = 1000;
 
     private static final Random RANDOM = new Random();
     private static final DashRowMapper DASH_MAPPER = new DashRowMapper();
 
     private final NamedParameterJdbcTemplate database;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final Object reloadLock = new Object();
+
+    private volatile DashesCatalog catalog = DashesCatalog.EMPTY;
 
-    public DashesServiceDb(NamedParameterJdbcTemplate database) {
+    public DashesServiceDb(NamedParameterJdbcTemplate database, int refreshSeconds) {
         this.database = database;
+
+        if (refreshSeconds > 0) {
+            scheduler.scheduleWithFixedDelay(
+                this::pollCatalog,
+                0, refreshSeconds, TimeUnit.SECONDS);
+        } else {
+            scheduler.execute(this::pollCatalog);
+        }
     }
 
     private static class DashRowMapper implements RowMapper<Dashes> {
@@ -45,6 +74,11 @@ public class DashesServiceDb implements DashesService {
     @Override
     public boolean checkWord(@Nullable String word, int dashesId) {
 
+        final Dashes dashes = getCatalog().getDashes(dashesId);
+        if (dashes != null) {
+            return (word != null) && dashes.getWord().equalsIgnoreCase(word);
+        }
+
         final MapSqlParameterSource source = new MapSqlParameterSource();
         source.addValue(ID_PARAM, dashesId);
         source.addValue(WORD_PARAM, word);
@@ -79,23 +113,16 @@ public class DashesServiceDb implements DashesService {
     @Override
     public @NotNull Dashes getRandomDashes(@NotNull String login) throws DataRetrievalFailureException {
 
-        if (checkAllWordsUsed(login)) {
-            removeUsedWords(login);
-        }
+        final List<Dashes> allDashes = getNotEmptyCatalog().getDashes();
+        final Set<Integer> usedIds = getUsedDashesIds(login);
 
-        final MapSqlParameterSource source = new MapSqlParameterSource();
-        source.addValue(LOGIN_PARAM, login);
-
-        final String selectDashSql = String.format(
-            " SELECT * FROM dashes" +
-                " WHERE dashes.id NOT IN (" +
-                " SELECT dashesid FROM account_dashes" +
-                " JOIN account ON account.login = :%1$s AND account.id = accountid )",
-            LOGIN_PARAM);
+        List<Dashes> result = allDashes.stream()
+            .filter(e -> !usedIds.contains(e.getId()))
+            .collect(Collectors.toList());
 
-        final List<Dashes> result = database.query(selectDashSql, source, DASH_MAPPER);
         if (result.isEmpty()) {
-            throw new DataRetrievalFailureException("dashes retrieval error");
+            removeUsedWords(login);
+            result = allDashes;
         }
 
         return result.get(RANDOM.nextInt(result.size()));
@@ -104,31 +131,137 @@ public class DashesServiceDb implements DashesService {
     @Override
     public @NotNull Dashes getRandomDashes() throws DataRetrievalFailureException {
 
-        final MapSqlParameterSource source = new MapSqlParameterSource();
-        final String selectDashSql = " SELECT * FROM dashes";
+        final List<Dashes> result = getNotEmptyCatalog().getDashes();
+        return result.get(RANDOM.nextInt(result.size()));
+    }
 
-        final List<Dashes> result = database.query(selectDashSql, source, DASH_MAPPER);
-        if (result.isEmpty()) {
-            throw new DataRetrievalFailureException("dashes retrieval error");
+    @Override
+    public @Nullable Dashes getCachedDashes() {
+
+        final List<Dashes> dashes = catalog.getDashes();
+        return dashes.isEmpty() ? null : dashes.get(RANDOM.nextInt(dashes.size()));
+    }
+
+    @Override
+    public @NotNull List<Dashes> getRandomDashes(int count) throws DataRetrievalFailureException {
+
+        final ArrayList<Dashes> result = new ArrayList<>(getNotEmptyCatalog().getDashes());
+        Collections.shuffle(result, RANDOM);
+
+        return new ArrayList<>(result.subList(0, Math.min(count, result.size())));
+    }
+
+    @Override
+    public @NotNull String getCatalogVersion() {
+
+        return getCatalog().getVersion();
+    }
+
+    @Override
+    public @NotNull DashesCatalog reloadCatalog() throws DataAccessException {
+
+        synchronized (reloadLock) {
+
+            final DashesCatalog currentCatalog = catalog;
+
+            final MapSqlParameterSource source = new MapSqlParameterSource();
+            source.addValue(HIGH_WATER_MARK_PARAM, currentCatalog.getHighWaterMark());
+
+            final String selectAddedSql = String.format(
+                " SELECT * FROM dashes" +
+                    " WHERE id > :%1$s" +
+                    " ORDER BY id",
+                HIGH_WATER_MARK_PARAM);
+
+            final String selectKnownIdsSql = String.format(
+                " SELECT id FROM dashes" +
+                    " WHERE id <= :%1$s",
+                HIGH_WATER_MARK_PARAM);
+
+            final ArrayList<Dashes> added = new ArrayList<>(database.query(selectAddedSql, source, DASH_MAPPER));
+            final Set<Integer> knownIds = new HashSet<>(database.queryForList(selectKnownIdsSql, source, Integer.class));
+
+            final Set<Integer> removedIds = new HashSet<>(currentCatalog.getIds());
+            removedIds.removeAll(knownIds);
+
+            // Rows below the mark that committed after a higher id was loaded, by an import or the recorder
+            final ArrayList<Integer> lateIds = new ArrayList<>(knownIds);
+            lateIds.removeAll(currentCatalog.getIds());
+            added.addAll(selectDashes(lateIds));
+
+            final DashesCatalog changedCatalog = currentCatalog.withChanges(added, removedIds);
+
+            if (changedCatalog != currentCatalog) {
+
+                catalog = changedCatalog;
+                LOGGER.info("Dashes catalog reloaded: {} added, {} removed, version {}.",
+                    added.size(), removedIds.size(), changedCatalog.getVersion());
+            }
+
+            return changedCatalog;
         }
+    }
 
-        return result.get(RANDOM.nextInt(result.size()));
+    public void shutdown() {
+
+        scheduler.shutdownNow();
     }
 
-    private boolean checkAllWordsUsed(@NotNull String login) {
+    private @NotNull List<Dashes> selectDashes(@NotNull List<Integer> ids) {
+
+        final ArrayList<Dashes> dashes = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += IDS_PER_QUERY) {
+
+            final MapSqlParameterSource source = new MapSqlParameterSource();
+            source.addValue(IDS_PARAM, ids.subList(i, Math.min(i + IDS_PER_QUERY, ids.size())));
+
+            final String selectDashesSql = String.format(
+                " SELECT * FROM dashes" +
+                    " WHERE id IN (:%1$s)",
+                IDS_PARAM);
+
+            dashes.addAll(database.query(selectDashesSql, source, DASH_MAPPER));
+        }
+
+        return dashes;
+    }
+
+    // Never loads on the caller's thread, game creation must not wait for the catalog queries
+    private @NotNull DashesCatalog getCatalog() {
+        return catalog;
+    }
+
+    private @NotNull DashesCatalog getNotEmptyCatalog() throws DataRetrievalFailureException {
+
+        final DashesCatalog currentCatalog = getCatalog();
+        if (currentCatalog.isEmpty()) {
+            throw new DataRetrievalFailureException("dashes catalog is not loaded");
+        }
+
+        return currentCatalog;
+    }
+
+    private void pollCatalog() {
+
+        try {
+            reloadCatalog();
+
+        } catch (DataAccessException exception) {
+            LOGGER.error("Can't reload dashes catalog: {}", exception.toString());
+        }
+    }
+
+    private @NotNull Set<Integer> getUsedDashesIds(@NotNull String login) {
 
         final MapSqlParameterSource source = new MapSqlParameterSource();
         source.addValue(LOGIN_PARAM, login);
 
-        final String checkWordsSql = String.format(
-            " SELECT count(*) FROM dashes" +
-                " WHERE dashes.id NOT IN (" +
-                " SELECT dashesid FROM account_dashes" +
-                " JOIN account ON account.login = :%1$s AND account.id = accountid )",
+        final String selectUsedSql = String.format(
+            " SELECT dashesid FROM account_dashes" +
+                " JOIN account ON account.login = :%1$s AND account.id = accountid",
             LOGIN_PARAM);
 
-        final int result = database.queryForObject(checkWordsSql, source, Integer.class);
-        return result == 0;
+        return new HashSet<>(database.queryForList(selectUsedSql, source, Integer.class));
     }
 
     private void removeUsedWords(@NotNull String login) {
@@ -138,7 +271,7 @@ public class DashesServiceDb implements DashesService {
 
         final String checkWordsSql = String.format(
             " DELETE FROM account_dashes USING account" +
-                " WHERE account.login = :%1$s",
+                " WHERE account.login = :%1$s AND account.id = account_dashes.accountid",
             LOGIN_PARAM);
 
         database.update(checkWordsSql, source);
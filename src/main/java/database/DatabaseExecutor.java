@@ -0,0 +1,89 @@
+package database;
+
+import metrics.Counter;
+import metrics.MetricsRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.dao.DataRetrievalFailureException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Bounded pool for blocking service calls made on behalf of websocket and timer threads.
+// A full queue fails the call at once rather than letting callers pile up behind a slow database.
+public class DatabaseExecutor implements Executor {
+
+    private static final Counter REJECTED_CALLS = MetricsRegistry.DEFAULT.counter(
+        "crocodile_database_calls_rejected_total", "Asynchronous database calls rejected by a full executor queue.");
+
+    private final ThreadPoolExecutor executor;
+
+    // Remembers when it was queued, so the age of the oldest waiting call can be read off the queue
+    private static final class QueuedCall implements Runnable {
+
+        private final Runnable task;
+        private final long queuedNanos = System.nanoTime();
+
+        QueuedCall(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            task.run();
+        }
+    }
+
+    public DatabaseExecutor(int threads, int queueCapacity) {
+
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        executor = new ThreadPoolExecutor(
+            threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            (Runnable task) -> {
+                final Thread thread = new Thread(task, "database-" + threadNumber.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+        MetricsRegistry.DEFAULT.gauge("crocodile_database_queue_depth", "Calls waiting for a database executor thread.")
+            .set(() -> executor.getQueue().size());
+    }
+
+    @Override
+    public void execute(@NotNull Runnable task) {
+        executor.execute(new QueuedCall(task));
+    }
+
+    // How long the oldest queued call has waited for a thread, 0 when nothing waits
+    public long getQueueWaitMillis() {
+
+        final Runnable oldest = executor.getQueue().peek();
+        return (oldest instanceof QueuedCall) ?
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ((QueuedCall) oldest).queuedNanos) :
+            0;
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public static <T> @NotNull CompletableFuture<T> supply(@NotNull Supplier<T> call, @NotNull Executor executor) {
+
+        try {
+            return CompletableFuture.supplyAsync(call, executor);
+
+        } catch (RejectedExecutionException exception) {
+
+            REJECTED_CALLS.increment();
+            final CompletableFuture<T> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(new DataRetrievalFailureException("database executor is full", exception));
+            return rejected;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package database;
+
+import entities.Account;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class ExecutorAccountService implements AsyncAccountService {
+
+    private final AccountService accountService;
+    private final Executor executor;
+
+    public ExecutorAccountService(AccountService accountService, Executor executor) {
+
+        this.accountService = accountService;
+        this.executor = executor;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Account> updateAccountRating(@NotNull String login, int ratingDelta) {
+
+        return DatabaseExecutor.supply(() -> accountService.updateAccountRating(login, ratingDelta), executor);
+    }
+}
@@ -0,0 +1,34 @@
+package database;
+
+import entities.Dashes;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+public class ExecutorDashesService implements AsyncDashesService {
+
+    private final DashesService dashesService;
+    private final Executor executor;
+
+    public ExecutorDashesService(DashesService dashesService, Executor executor) {
+
+        this.dashesService = dashesService;
+        this.executor = executor;
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> addUsedDashes(@NotNull String login, int dashesId) {
+
+        return DatabaseExecutor.supply(() -> {
+            dashesService.addUsedDashes(login, dashesId);
+            return null;
+        }, executor);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Dashes> getRandomDashes(@NotNull String login) {
+
+        return DatabaseExecutor.supply(() -> dashesService.getRandomDashes(login), executor);
+    }
+}
@@ -0,0 +1,71 @@
+package database;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import entities.GameRecord;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+
+public class GameHistoryWriter extends BatchWriter<GameRecord> {
+
+    public static final int QUEUE_CAPACITY = 4096;
+    public static final int BATCH_SIZE = 256;
+    public static final int FLUSH_PERIOD = 250;
+
+    private static final String TYPE_PARAM = "ptype";
+    private static final String WORD_PARAM = "pword";
+    private static final String PLAYERS_PARAM = "pplayers";
+    private static final String WINNER_PARAM = "pwinner";
+    private static final String DURATION_PARAM = "pduration";
+    private static final String POINT_COUNT_PARAM = "ppointcount";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final NamedParameterJdbcTemplate database;
+
+    public GameHistoryWriter(NamedParameterJdbcTemplate database) {
+
+        super("Game history writer", QUEUE_CAPACITY, BATCH_SIZE, FLUSH_PERIOD);
+        this.database = database;
+    }
+
+    @Override
+    protected void writeBatch(@NotNull List<GameRecord> batch) throws DataAccessException {
+
+        final MapSqlParameterSource source = new MapSqlParameterSource();
+        final StringBuilder insertResultsSql = new StringBuilder(
+            " INSERT INTO game_result ( type, word, players, winner, duration, point_count ) VALUES");
+
+        for (int i = 0; i < batch.size(); ++i) {
+
+            final GameRecord record = batch.get(i);
+            source.addValue(TYPE_PARAM + i, record.getType());
+            source.addValue(WORD_PARAM + i, record.getWord());
+            source.addValue(PLAYERS_PARAM + i, toJson(record.getPlayers()));
+            source.addValue(WINNER_PARAM + i, record.getWinner());
+            source.addValue(DURATION_PARAM + i, record.getDurationMillis());
+            source.addValue(POINT_COUNT_PARAM + i, record.getPointCount());
+
+            insertResultsSql.append((i == 0) ? " " : ", ").append(String.format(
+                "( :%1$s%7$d, :%2$s%7$d, CAST( :%3$s%7$d AS JSON ), :%4$s%7$d, :%5$s%7$d, :%6$s%7$d )",
+                TYPE_PARAM, WORD_PARAM, PLAYERS_PARAM, WINNER_PARAM, DURATION_PARAM, POINT_COUNT_PARAM, i));
+        }
+
+        database.update(insertResultsSql.toString(), source);
+    }
+
+    private static @NotNull String toJson(@NotNull List<String> players) {
+
+        try {
+            return OBJECT_MAPPER.writeValueAsString(players);
+
+        } catch (JsonProcessingException exception) {
+            throw new DataRetrievalFailureException("game record encoding error", exception);
+        }
+    }
+}
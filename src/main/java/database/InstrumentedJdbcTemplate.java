@@ -0,0 +1,180 @@
+package database;
+
+import metrics.KeyedCounter;
+import metrics.KeyedLatencySummary;
+import metrics.LatencySummary;
+import metrics.MetricsRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.InfrastructureProxy;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.StatementCallback;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+public class InstrumentedJdbcTemplate extends JdbcTemplate {
+
+    public static final int STATEMENT_LABEL_LENGTH = 100;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InstrumentedJdbcTemplate.class);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern LITERALS = Pattern.compile("'(?:[^']|'')*'|\\b\\d+\\b");
+
+    private static final KeyedLatencySummary STATEMENT_TIME = MetricsRegistry.DEFAULT.keyedLatencySummary(
+        "crocodile_jdbc_statement_seconds", "SQL statement execution time, last minute.", "statement");
+    private static final KeyedCounter STATEMENT_ROWS = MetricsRegistry.DEFAULT.keyedCounter(
+        "crocodile_jdbc_rows_total", "Rows returned or affected by SQL statements.", "statement");
+    private static final KeyedCounter STATEMENT_ERRORS = MetricsRegistry.DEFAULT.keyedCounter(
+        "crocodile_jdbc_errors_total", "Failed SQL statements.", "statement");
+    private static final LatencySummary CONNECTION_WAIT = MetricsRegistry.DEFAULT.latencySummary(
+        "crocodile_jdbc_connection_wait_seconds", "Time to get a pooled connection, last minute.");
+    private static final LatencySummary PERMIT_WAIT = MetricsRegistry.DEFAULT.latencySummary(
+        "crocodile_jdbc_permit_wait_seconds", "Time waiting for a statement permit, last minute.");
+
+    private final long slowNanos;
+    // Only set up for virtual threads: sized to the connection pool, so they queue here instead of timing out in the pool.
+    // Statements borrow and return their connection inside execute, so a permit stands for one connection.
+    private final @Nullable Semaphore permits;
+
+    // Transactions bind connections to the unwrapped data source, so the template keeps sharing them
+    private static final class TimedDataSource extends DelegatingDataSource implements InfrastructureProxy {
+
+        TimedDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+
+            final long startNanos = System.nanoTime();
+            try {
+                return super.getConnection();
+            } finally {
+                CONNECTION_WAIT.recordNanos(System.nanoTime() - startNanos);
+            }
+        }
+
+        @Override
+        public Object getWrappedObject() {
+            return getTargetDataSource();
+        }
+    }
+
+    public InstrumentedJdbcTemplate(DataSource dataSource, int slowMillis, int maxConcurrency) {
+
+        super(new TimedDataSource(dataSource));
+        this.slowNanos = TimeUnit.MILLISECONDS.toNanos(slowMillis);
+        this.permits = (maxConcurrency > 0) ? new Semaphore(maxConcurrency, true) : null;
+    }
+
+    @Override
+    public <T> T execute(PreparedStatementCreator psc, PreparedStatementCallback<T> action) throws DataAccessException {
+        return timed(psc, () -> super.execute(psc, action));
+    }
+
+    @Override
+    public <T> T execute(StatementCallback<T> action) throws DataAccessException {
+        return timed(action, () -> super.execute(action));
+    }
+
+    private <T> T timed(Object statement, Supplier<T> execution) {
+
+        if (permits == null) {
+            return measured(statement, execution);
+        }
+
+        final long waitNanos = System.nanoTime();
+        permits.acquireUninterruptibly();
+        PERMIT_WAIT.recordNanos(System.nanoTime() - waitNanos);
+
+        try {
+            return measured(statement, execution);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private <T> T measured(Object statement, Supplier<T> execution) {
+
+        final String sql = (statement instanceof SqlProvider) ? ((SqlProvider) statement).getSql() : null;
+        final String label = toLabel(sql);
+        final long startNanos = System.nanoTime();
+
+        try {
+            final T result = execution.get();
+            final long rows = countRows(result);
+            final long elapsedNanos = System.nanoTime() - startNanos;
+
+            STATEMENT_TIME.recordNanos(label, elapsedNanos);
+            STATEMENT_ROWS.add(label, rows);
+
+            if (elapsedNanos >= slowNanos) {
+                LOGGER.warn("Slow SQL statement: {} ms, {} rows: {}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rows, redact(sql));
+            }
+
+            return result;
+
+        } catch (RuntimeException exception) {
+
+            STATEMENT_TIME.recordNanos(label, System.nanoTime() - startNanos);
+            STATEMENT_ERRORS.add(label, 1);
+            throw exception;
+        }
+    }
+
+    private static @NotNull String toLabel(@Nullable String sql) {
+
+        if (sql == null) {
+            return "unknown";
+        }
+
+        final String normalized = redact(sql);
+        return (normalized.length() > STATEMENT_LABEL_LENGTH) ? normalized.substring(0, STATEMENT_LABEL_LENGTH) : normalized;
+    }
+
+    private static @NotNull String redact(@Nullable String sql) {
+
+        if (sql == null) {
+            return "unknown";
+        }
+
+        return LITERALS.matcher(WHITESPACE.matcher(sql).replaceAll(" ").trim()).replaceAll("?");
+    }
+
+    private static long countRows(@Nullable Object result) {
+
+        if (result instanceof Number) {
+            return ((Number) result).longValue();
+        }
+
+        if (result instanceof int[]) {
+
+            long rows = 0;
+            for (int count : (int[]) result) {
+                rows += Math.max(count, 0);
+            }
+            return rows;
+        }
+
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+
+        return (result != null) ? 1 : 0;
+    }
+}
@@ -3,13 +3,15 @@ package entities;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public abstract class BasicGame {
 
     protected final int id;
     protected final @NotNull String word;
-    protected final @NotNull ArrayList<String> logins;
+    // Read by handler and timer threads while the matchmaker adds players and exits remove them
+    protected final @NotNull List<String> logins;
 
     public BasicGame(
         int id,
@@ -17,7 +19,7 @@ public abstract class BasicGame {
 
         this.id = id;
         this.word = word;
-        logins = new ArrayList<>();
+        logins = new CopyOnWriteArrayList<>();
     }
 
     public int getId() {
@@ -34,7 +36,7 @@ public abstract class BasicGame {
             this.word.equalsIgnoreCase(answer);
     }
 
-    public ArrayList<String> getUserLogins() {
+    public List<String> getUserLogins() {
         return logins;
     }
 }
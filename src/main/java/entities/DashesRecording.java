@@ -0,0 +1,26 @@
+package entities;
+
+import org.jetbrains.annotations.NotNull;
+import socketmessages.PointBuffer;
+
+public class DashesRecording {
+
+    private final @NotNull String word;
+    private final @NotNull PointBuffer.Snapshot points;
+
+    public DashesRecording(
+        @NotNull String word,
+        @NotNull PointBuffer.Snapshot points) {
+
+        this.word = word;
+        this.points = points;
+    }
+
+    public @NotNull String getWord() {
+        return word;
+    }
+
+    public @NotNull PointBuffer.Snapshot getPoints() {
+        return points;
+    }
+}
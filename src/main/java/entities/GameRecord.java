@@ -0,0 +1,57 @@
+package entities;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GameRecord {
+
+    private final @NotNull String type;
+    private final @NotNull String word;
+    private final @NotNull ArrayList<String> players;
+    private final @Nullable String winner;
+    private final int durationMillis;
+    private final int pointCount;
+
+    public GameRecord(
+        @NotNull String type,
+        @NotNull String word,
+        @NotNull List<String> players,
+        @Nullable String winner,
+        int durationMillis,
+        int pointCount) {
+
+        this.type = type;
+        this.word = word;
+        this.players = new ArrayList<>(players);
+        this.winner = winner;
+        this.durationMillis = durationMillis;
+        this.pointCount = pointCount;
+    }
+
+    public @NotNull String getType() {
+        return type;
+    }
+
+    public @NotNull String getWord() {
+        return word;
+    }
+
+    public @NotNull ArrayList<String> getPlayers() {
+        return players;
+    }
+
+    public @Nullable String getWinner() {
+        return winner;
+    }
+
+    public int getDurationMillis() {
+        return durationMillis;
+    }
+
+    public int getPointCount() {
+        return pointCount;
+    }
+}
@@ -0,0 +1,42 @@
+package httpmessages;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import entities.Dashes;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+@SuppressWarnings("unused")
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DashesBundleData {
+
+    public static final String VERSION_ATTR = "version";
+    public static final String DASHES_ATTR = "dashes";
+
+    private final @NotNull String version;
+    private final @NotNull ArrayList<DashesData> dashes;
+
+    @SuppressWarnings("OverlyBroadThrowsClause")
+    public DashesBundleData(@NotNull String version, @NotNull List<Dashes> dashes) throws IOException {
+
+        this.version = version;
+        this.dashes = new ArrayList<>();
+
+        for (Dashes element : dashes) {
+            this.dashes.add(new DashesData(element));
+        }
+    }
+
+    @JsonProperty(VERSION_ATTR)
+    public @NotNull String getVersion() {
+        return version;
+    }
+
+    @JsonProperty(DASHES_ATTR)
+    public @NotNull ArrayList<DashesData> getDashes() {
+        return dashes;
+    }
+}
@@ -0,0 +1,41 @@
+package httpmessages;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import database.DashesCatalog;
+import org.jetbrains.annotations.NotNull;
+
+@SuppressWarnings("unused")
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DashesCatalogData {
+
+    public static final String VERSION_ATTR = "version";
+    public static final String SIZE_ATTR = "size";
+    public static final String HIGH_WATER_MARK_ATTR = "last_id";
+
+    private final @NotNull String version;
+    private final int size;
+    private final int highWaterMark;
+
+    public DashesCatalogData(@NotNull DashesCatalog catalog) {
+
+        this.version = catalog.getVersion();
+        this.size = catalog.size();
+        this.highWaterMark = catalog.getHighWaterMark();
+    }
+
+    @JsonProperty(VERSION_ATTR)
+    public @NotNull String getVersion() {
+        return version;
+    }
+
+    @JsonProperty(SIZE_ATTR)
+    public int getSize() {
+        return size;
+    }
+
+    @JsonProperty(HIGH_WATER_MARK_ATTR)
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+}
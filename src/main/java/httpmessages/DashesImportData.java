@@ -0,0 +1,70 @@
+package httpmessages;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import database.DashesImportService;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+@SuppressWarnings("unused")
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class DashesImportData {
+
+    public static final String SOURCE_ATTR = "source";
+    public static final String LINES_ATTR = "lines";
+    public static final String REJECTED_ATTR = "rejected";
+    public static final String COPIED_ATTR = "copied";
+    public static final String INSERTED_ATTR = "inserted";
+    public static final String DUPLICATES_ATTR = "duplicates";
+    public static final String FINISHED_ATTR = "finished";
+    public static final String ERROR_ATTR = "error";
+
+    private final @NotNull DashesImportService.ImportProgress progress;
+
+    public DashesImportData(@NotNull DashesImportService.ImportProgress progress) {
+
+        this.progress = progress;
+    }
+
+    @JsonProperty(SOURCE_ATTR)
+    public @NotNull String getSource() {
+        return progress.getSource();
+    }
+
+    @JsonProperty(LINES_ATTR)
+    public long getLines() {
+        return progress.getLinesRead();
+    }
+
+    @JsonProperty(REJECTED_ATTR)
+    public long getRejected() {
+        return progress.getRowsRejected();
+    }
+
+    @JsonProperty(COPIED_ATTR)
+    public long getCopied() {
+        return progress.getRowsCopied();
+    }
+
+    @JsonProperty(INSERTED_ATTR)
+    public long getInserted() {
+        return progress.getRowsInserted();
+    }
+
+    @JsonProperty(DUPLICATES_ATTR)
+    public long getDuplicates() {
+        return progress.getDuplicates();
+    }
+
+    @JsonProperty(FINISHED_ATTR)
+    public boolean isFinished() {
+        return progress.isFinished();
+    }
+
+    @JsonProperty(ERROR_ATTR)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public @Nullable String getError() {
+        return progress.getError();
+    }
+}
@@ -9,7 +9,8 @@ public enum ErrorCode {
     LOG_IN("log_in"),
     NOT_FOUND("not_found"),
     INVALID_FIELD("invalid_field"),
-    INTERNAL("internal");
+    INTERNAL("internal"),
+    UNAVAILABLE("unavailable");
 
     private final String text;
 
@@ -0,0 +1,70 @@
+package httpmessages;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.jetbrains.annotations.NotNull;
+import websocket.MemoryReport;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@SuppressWarnings("unused")
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MemoryData {
+
+    public static final String STRUCTURES_ATTR = "structures";
+    public static final String TOTAL_BYTES_ATTR = "total_bytes";
+    public static final String HEAVIEST_GAMES_ATTR = "heaviest_games";
+    public static final String COUNT_ATTR = "count";
+    public static final String BYTES_ATTR = "bytes";
+    public static final String ID_ATTR = "id";
+    public static final String TYPE_ATTR = "type";
+    public static final String POINTS_ATTR = "points";
+
+    private final @NotNull MemoryReport report;
+
+    public MemoryData(@NotNull MemoryReport report) {
+
+        this.report = report;
+    }
+
+    @JsonProperty(STRUCTURES_ATTR)
+    public @NotNull Map<String, Map<String, Long>> getStructures() {
+
+        final Map<String, Map<String, Long>> structures = new LinkedHashMap<>();
+        for (MemoryReport.Usage usage : report.getStructures()) {
+
+            final Map<String, Long> values = new LinkedHashMap<>();
+            values.put(COUNT_ATTR, usage.getCount());
+            values.put(BYTES_ATTR, usage.getBytes());
+            structures.put(usage.getName(), values);
+        }
+
+        return structures;
+    }
+
+    @JsonProperty(TOTAL_BYTES_ATTR)
+    public long getTotalBytes() {
+
+        return report.getStructures().stream()
+            .mapToLong(MemoryReport.Usage::getBytes)
+            .sum();
+    }
+
+    @JsonProperty(HEAVIEST_GAMES_ATTR)
+    public @NotNull List<Map<String, Object>> getHeaviestGames() {
+
+        return report.getHeaviestGames().stream()
+            .map(e -> {
+                final Map<String, Object> values = new LinkedHashMap<>();
+                values.put(ID_ATTR, e.getId());
+                values.put(TYPE_ATTR, e.getType());
+                values.put(POINTS_ATTR, e.getPoints());
+                values.put(BYTES_ATTR, e.getBytes());
+                return values;
+            })
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,14 @@
+package metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+public interface Collector {
+
+    @NotNull String getName();
+
+    @NotNull String getHelp();
+
+    @NotNull String getType();
+
+    void collect(@NotNull StringBuilder output);
+}
@@ -0,0 +1,50 @@
+package metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class Counter implements Collector {
+
+    private final @NotNull String name;
+    private final @NotNull String help;
+    private final LongAdder value = new LongAdder();
+
+    Counter(@NotNull String name, @NotNull String help) {
+
+        this.name = name;
+        this.help = help;
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return name;
+    }
+
+    @Override
+    public @NotNull String getHelp() {
+        return help;
+    }
+
+    @Override
+    public @NotNull String getType() {
+        return "counter";
+    }
+
+    @Override
+    public void collect(@NotNull StringBuilder output) {
+        MetricsRegistry.writeSample(output, name, null, null, value.sum());
+    }
+}
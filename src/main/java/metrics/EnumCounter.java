@@ -0,0 +1,62 @@
+package metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class EnumCounter<E extends Enum<E>> implements Collector {
+
+    private final @NotNull String name;
+    private final @NotNull String help;
+    private final @NotNull String labelName;
+    private final E[] constants;
+    private final LongAdder[] values;
+
+    EnumCounter(@NotNull String name, @NotNull String help, @NotNull String labelName, @NotNull Class<E> enumClass) {
+
+        this.name = name;
+        this.help = help;
+        this.labelName = labelName;
+        this.constants = enumClass.getEnumConstants();
+        this.values = new LongAdder[constants.length];
+
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = new LongAdder();
+        }
+    }
+
+    public void increment(@NotNull E label) {
+        values[label.ordinal()].increment();
+    }
+
+    public void add(@NotNull E label, long amount) {
+        values[label.ordinal()].add(amount);
+    }
+
+    public long get(@NotNull E label) {
+        return values[label.ordinal()].sum();
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return name;
+    }
+
+    @Override
+    public @NotNull String getHelp() {
+        return help;
+    }
+
+    @Override
+    public @NotNull String getType() {
+        return "counter";
+    }
+
+    @Override
+    public void collect(@NotNull StringBuilder output) {
+
+        for (E constant : constants) {
+            MetricsRegistry.writeSample(output, name, labelName, constant.name(), values[constant.ordinal()].sum());
+        }
+    }
+}
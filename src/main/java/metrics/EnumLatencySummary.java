@@ -0,0 +1,60 @@
+package metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+public class EnumLatencySummary<E extends Enum<E>> implements Collector {
+
+    private final @NotNull String name;
+    private final @NotNull String help;
+    private final @NotNull String labelName;
+    private final E[] constants;
+    private final LatencyHistogram[] histograms;
+
+    EnumLatencySummary(@NotNull String name, @NotNull String help, @NotNull String labelName, @NotNull Class<E> enumClass) {
+
+        this.name = name;
+        this.help = help;
+        this.labelName = labelName;
+        this.constants = enumClass.getEnumConstants();
+        this.histograms = new LatencyHistogram[constants.length];
+
+        for (int i = 0; i < histograms.length; ++i) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    public void recordNanos(@NotNull E label, long nanos) {
+        histograms[label.ordinal()].recordNanos(nanos);
+    }
+
+    public @NotNull LatencyHistogram.Snapshot snapshot(@NotNull E label) {
+        return histograms[label.ordinal()].snapshot();
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return name;
+    }
+
+    @Override
+    public @NotNull String getHelp() {
+        return help;
+    }
+
+    @Override
+    public @NotNull String getType() {
+        return "summary";
+    }
+
+    @Override
+    public void collect(@NotNull StringBuilder output) {
+
+        for (E constant : constants) {
+
+            final LatencyHistogram histogram = histograms[constant.ordinal()];
+            if (histogram.getTotalCount() > 0) {
+                LatencySummary.writeSummary(output, name, labelName + "=\"" + constant.name() + '"', histogram);
+            }
+        }
+    }
+}
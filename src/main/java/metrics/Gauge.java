@@ -0,0 +1,74 @@
+package metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+public class Gauge implements Collector {
+
+    private static final String NO_LABEL = "";
+
+    private final @NotNull String name;
+    private final @NotNull String help;
+    private final @Nullable String labelName;
+    private final Map<String, LongSupplier> suppliers = new ConcurrentSkipListMap<>();
+    private volatile @Nullable Supplier<Map<String, Long>> labeledSupplier = null;
+
+    Gauge(@NotNull String name, @NotNull String help, @Nullable String labelName) {
+
+        this.name = name;
+        this.help = help;
+        this.labelName = labelName;
+    }
+
+    public void set(@NotNull LongSupplier supplier) {
+        suppliers.put(NO_LABEL, supplier);
+    }
+
+    public void set(@NotNull String labelValue, @NotNull LongSupplier supplier) {
+        suppliers.put(labelValue, supplier);
+    }
+
+    // Values by label read in one call per scrape, for labels that share an expensive computation
+    public void setAll(@NotNull Supplier<Map<String, Long>> supplier) {
+        labeledSupplier = supplier;
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return name;
+    }
+
+    @Override
+    public @NotNull String getHelp() {
+        return help;
+    }
+
+    @Override
+    public @NotNull String getType() {
+        return "gauge";
+    }
+
+    @Override
+    public void collect(@NotNull StringBuilder output) {
+
+        for (Map.Entry<String, LongSupplier> entry : suppliers.entrySet()) {
+
+            final boolean labeled = (labelName != null) && !entry.getKey().equals(NO_LABEL);
+            MetricsRegistry.writeSample(output, name,
+                labeled ? labelName : null, labeled ? entry.getKey() : null,
+                entry.getValue().getAsLong());
+        }
+
+        final Supplier<Map<String, Long>> supplier = labeledSupplier;
+        if (supplier != null) {
+            for (Map.Entry<String, Long> entry : supplier.get().entrySet()) {
+                MetricsRegistry.writeSample(output, name, labelName, entry.getKey(), entry.getValue());
+            }
+        }
+    }
+}
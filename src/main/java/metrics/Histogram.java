@@ -0,0 +1,78 @@
+package metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+public class Histogram implements Collector {
+
+    private static final String BUCKET_LABEL = "le";
+
+    private final @NotNull String name;
+    private final @NotNull String help;
+    private final double[] bounds;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final DoubleAdder sum = new DoubleAdder();
+
+    Histogram(@NotNull String name, @NotNull String help, double... bounds) {
+
+        this.name = name;
+        this.help = help;
+        this.bounds = bounds.clone();
+        this.buckets = new LongAdder[bounds.length];
+
+        for (int i = 0; i < buckets.length; ++i) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void observe(double value) {
+
+        for (int i = 0; i < bounds.length; ++i) {
+            if (value <= bounds[i]) {
+                buckets[i].increment();
+                break;
+            }
+        }
+
+        count.increment();
+        sum.add(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return name;
+    }
+
+    @Override
+    public @NotNull String getHelp() {
+        return help;
+    }
+
+    @Override
+    public @NotNull String getType() {
+        return "histogram";
+    }
+
+    @Override
+    public void collect(@NotNull StringBuilder output) {
+
+        final long total = count.sum();
+        long cumulative = 0;
+
+        for (int i = 0; i < bounds.length; ++i) {
+            cumulative += buckets[i].sum();
+            MetricsRegistry.writeSample(output, name + "_bucket", BUCKET_LABEL, String.valueOf(bounds[i]), cumulative);
+        }
+
+        MetricsRegistry.writeSample(output, name + "_bucket", BUCKET_LABEL, "+Inf", Math.max(total, cumulative));
+        MetricsRegistry.writeSample(output, name + "_count", null, null, total);
+        output.append(name).append("_sum ").append(sum.sum()).append('\n');
+    }
+}
@@ -0,0 +1,49 @@
+package metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class KeyedCounter implements Collector {
+
+    private final @NotNull String name;
+    private final @NotNull String help;
+    private final @NotNull String labelName;
+    private final ConcurrentHashMap<String, LongAdder> values = new ConcurrentHashMap<>();
+
+    KeyedCounter(@NotNull String name, @NotNull String help, @NotNull String labelName) {
+
+        this.name = name;
+        this.help = help;
+        this.labelName = labelName;
+    }
+
+    public void add(@NotNull String key, long amount) {
+        values.computeIfAbsent(key, e -> new LongAdder()).add(amount);
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return name;
+    }
+
+    @Override
+    public @NotNull String getHelp() {
+        return help;
+    }
+
+    @Override
+    public @NotNull String getType() {
+        return "counter";
+    }
+
+    @Override
+    public void collect(@NotNull StringBuilder output) {
+
+        for (Map.Entry<String, LongAdder> entry : values.entrySet()) {
+            MetricsRegistry.writeSample(output, name, labelName, MetricsRegistry.escapeLabel(entry.getKey()), entry.getValue().sum());
+        }
+    }
+}
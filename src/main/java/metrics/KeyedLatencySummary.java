@@ -0,0 +1,49 @@
+package metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class KeyedLatencySummary implements Collector {
+
+    private final @NotNull String name;
+    private final @NotNull String help;
+    private final @NotNull String labelName;
+    private final ConcurrentHashMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    KeyedLatencySummary(@NotNull String name, @NotNull String help, @NotNull String labelName) {
+
+        this.name = name;
+        this.help = help;
+        this.labelName = labelName;
+    }
+
+    public void recordNanos(@NotNull String key, long nanos) {
+        histograms.computeIfAbsent(key, e -> new LatencyHistogram()).recordNanos(nanos);
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return name;
+    }
+
+    @Override
+    public @NotNull String getHelp() {
+        return help;
+    }
+
+    @Override
+    public @NotNull String getType() {
+        return "summary";
+    }
+
+    @Override
+    public void collect(@NotNull StringBuilder output) {
+
+        for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencySummary.writeSummary(output, name,
+                labelName + "=\"" + MetricsRegistry.escapeLabel(entry.getKey()) + '"', entry.getValue());
+        }
+    }
+}
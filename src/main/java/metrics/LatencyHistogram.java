@@ -0,0 +1,151 @@
+package metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Log-linear microsecond buckets (about 3% relative error) kept per time slot;
+// percentiles are read over the slots that are still inside the window
+public class LatencyHistogram {
+
+    public static final int WINDOW_SLOTS = 6;
+    public static final long SLOT_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 32;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final Slot[] slots = new Slot[WINDOW_SLOTS];
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+
+    private static final class Slot {
+
+        private final AtomicLong epoch = new AtomicLong(-1);
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+        private void reset() {
+
+            for (int i = 0; i < BUCKET_COUNT; ++i) {
+                buckets.set(i, 0);
+            }
+        }
+    }
+
+    public static final class Snapshot {
+
+        private final long[] buckets = new long[BUCKET_COUNT];
+        private long count = 0;
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getPercentileSeconds(double quantile) {
+
+            if (count == 0) {
+                return 0;
+            }
+
+            final long rank = Math.max((long) Math.ceil(quantile * count), 1);
+            long seen = 0;
+
+            for (int index = 0; index < BUCKET_COUNT; ++index) {
+
+                seen += buckets[index];
+                if (seen >= rank) {
+                    return upperBoundOf(index) / 1e6;
+                }
+            }
+
+            return upperBoundOf(BUCKET_COUNT - 1) / 1e6;
+        }
+    }
+
+    public LatencyHistogram() {
+
+        for (int i = 0; i < WINDOW_SLOTS; ++i) {
+            slots[i] = new Slot();
+        }
+    }
+
+    public void recordNanos(long nanos) {
+
+        final long micros = Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 0);
+        final long epoch = System.currentTimeMillis() / SLOT_MILLIS;
+        final Slot slot = slots[(int) (epoch % WINDOW_SLOTS)];
+
+        final long slotEpoch = slot.epoch.get();
+        if (slotEpoch != epoch) {
+
+            // Whoever moves the slot to the new epoch clears it; samples racing with the reset may be lost
+            if ((slotEpoch < epoch) && slot.epoch.compareAndSet(slotEpoch, epoch)) {
+                slot.reset();
+            }
+        }
+
+        slot.buckets.incrementAndGet(indexOf(micros));
+        totalCount.increment();
+        totalMicros.add(micros);
+    }
+
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    public double getTotalSeconds() {
+        return totalMicros.sum() / 1e6;
+    }
+
+    public @NotNull Snapshot snapshot() {
+
+        final Snapshot snapshot = new Snapshot();
+        final long oldestEpoch = (System.currentTimeMillis() / SLOT_MILLIS) - WINDOW_SLOTS + 1;
+
+        for (Slot slot : slots) {
+
+            if (slot.epoch.get() < oldestEpoch) {
+                continue;
+            }
+
+            for (int index = 0; index < BUCKET_COUNT; ++index) {
+
+                final long value = slot.buckets.get(index);
+                snapshot.buckets[index] += value;
+                snapshot.count += value;
+            }
+        }
+
+        return snapshot;
+    }
+
+    private static int indexOf(long micros) {
+
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+
+        final int exponent = Math.min(Long.SIZE - 1 - Long.numberOfLeadingZeros(micros), MAX_EXPONENT);
+        if (exponent == MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+
+        final int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT) + subBucket;
+    }
+
+    private static long upperBoundOf(int index) {
+
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        final int exponent = (index / SUB_BUCKET_COUNT) + SUB_BUCKET_BITS - 1;
+        final long subBucket = index % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
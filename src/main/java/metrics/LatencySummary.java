@@ -0,0 +1,65 @@
+package metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+public class LatencySummary implements Collector {
+
+    static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final @NotNull String name;
+    private final @NotNull String help;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    LatencySummary(@NotNull String name, @NotNull String help) {
+
+        this.name = name;
+        this.help = help;
+    }
+
+    public void recordNanos(long nanos) {
+        histogram.recordNanos(nanos);
+    }
+
+    public @NotNull LatencyHistogram.Snapshot snapshot() {
+        return histogram.snapshot();
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return name;
+    }
+
+    @Override
+    public @NotNull String getHelp() {
+        return help;
+    }
+
+    @Override
+    public @NotNull String getType() {
+        return "summary";
+    }
+
+    @Override
+    public void collect(@NotNull StringBuilder output) {
+        writeSummary(output, name, null, histogram);
+    }
+
+    static void writeSummary(
+        @NotNull StringBuilder output,
+        @NotNull String name,
+        @Nullable String labels,
+        @NotNull LatencyHistogram histogram) {
+
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        final String prefix = (labels != null) ? labels + ',' : "";
+
+        for (double quantile : QUANTILES) {
+            MetricsRegistry.writeSample(output, name,
+                prefix + "quantile=\"" + quantile + '"', snapshot.getPercentileSeconds(quantile));
+        }
+
+        MetricsRegistry.writeSample(output, name + "_count", labels, histogram.getTotalCount());
+        MetricsRegistry.writeSample(output, name + "_sum", labels, histogram.getTotalSeconds());
+    }
+}
@@ -0,0 +1,119 @@
+package metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public final class MetricsRegistry {
+
+    public static final MetricsRegistry DEFAULT = new MetricsRegistry();
+    public static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final ConcurrentMap<String, Collector> collectors = new ConcurrentSkipListMap<>();
+
+    public @NotNull Counter counter(@NotNull String name, @NotNull String help) {
+        return register(new Counter(name, help), Counter.class);
+    }
+
+    public @NotNull <E extends Enum<E>> EnumCounter<E> enumCounter(
+        @NotNull String name, @NotNull String help, @NotNull String labelName, @NotNull Class<E> enumClass) {
+
+        //noinspection unchecked
+        return register(new EnumCounter<>(name, help, labelName, enumClass), EnumCounter.class);
+    }
+
+    public @NotNull Gauge gauge(@NotNull String name, @NotNull String help) {
+        return register(new Gauge(name, help, null), Gauge.class);
+    }
+
+    public @NotNull Gauge gauge(@NotNull String name, @NotNull String help, @NotNull String labelName) {
+        return register(new Gauge(name, help, labelName), Gauge.class);
+    }
+
+    public @NotNull Histogram histogram(@NotNull String name, @NotNull String help, double... bounds) {
+        return register(new Histogram(name, help, bounds), Histogram.class);
+    }
+
+    public @NotNull LatencySummary latencySummary(@NotNull String name, @NotNull String help) {
+        return register(new LatencySummary(name, help), LatencySummary.class);
+    }
+
+    public @NotNull <E extends Enum<E>> EnumLatencySummary<E> enumLatencySummary(
+        @NotNull String name, @NotNull String help, @NotNull String labelName, @NotNull Class<E> enumClass) {
+
+        //noinspection unchecked
+        return register(new EnumLatencySummary<>(name, help, labelName, enumClass), EnumLatencySummary.class);
+    }
+
+    public @NotNull KeyedCounter keyedCounter(@NotNull String name, @NotNull String help, @NotNull String labelName) {
+        return register(new KeyedCounter(name, help, labelName), KeyedCounter.class);
+    }
+
+    public @NotNull KeyedLatencySummary keyedLatencySummary(
+        @NotNull String name, @NotNull String help, @NotNull String labelName) {
+
+        return register(new KeyedLatencySummary(name, help, labelName), KeyedLatencySummary.class);
+    }
+
+    public @NotNull String writePrometheus() {
+
+        final StringBuilder output = new StringBuilder();
+
+        for (Collector collector : collectors.values()) {
+
+            output.append("# HELP ").append(collector.getName()).append(' ').append(collector.getHelp()).append('\n');
+            output.append("# TYPE ").append(collector.getName()).append(' ').append(collector.getType()).append('\n');
+            collector.collect(output);
+        }
+
+        return output.toString();
+    }
+
+    static void writeSample(
+        @NotNull StringBuilder output,
+        @NotNull String name,
+        @Nullable String labelName,
+        @Nullable String labelValue,
+        long value) {
+
+        output.append(name);
+        if (labelName != null) {
+            output.append('{').append(labelName).append("=\"").append(labelValue).append("\"}");
+        }
+        output.append(' ').append(value).append('\n');
+    }
+
+    static void writeSample(
+        @NotNull StringBuilder output,
+        @NotNull String name,
+        @Nullable String labels,
+        double value) {
+
+        output.append(name);
+        if (labels != null) {
+            output.append('{').append(labels).append('}');
+        }
+        output.append(' ').append(value).append('\n');
+    }
+
+    static @NotNull String escapeLabel(@NotNull String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private @NotNull <C extends Collector> C register(@NotNull C collector, @NotNull Class<?> collectorClass) {
+
+        final Collector existing = collectors.putIfAbsent(collector.getName(), collector);
+        if (existing == null) {
+            return collector;
+        }
+
+        if (!collectorClass.isInstance(existing)) {
+            throw new IllegalArgumentException("metric " + collector.getName() + " is already registered as " + existing.getType());
+        }
+
+        //noinspection unchecked
+        return (C) existing;
+    }
+}
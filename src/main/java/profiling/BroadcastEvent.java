@@ -0,0 +1,24 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("crocodile.Broadcast")
+@Label("Slow Broadcast")
+@Category("Crocodile")
+@StackTrace(false)
+class BroadcastEvent extends jdk.jfr.Event {
+
+    @Label("Message Type")
+    String messageType;
+
+    @Label("Recipients")
+    int recipients;
+
+    @Label("Send Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long sendTime;
+}
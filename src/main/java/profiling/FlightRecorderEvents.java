@@ -0,0 +1,77 @@
+package profiling;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+// Only touched when jdk.jfr is present, so the JFR classes are never loaded on older runtimes
+final class FlightRecorderEvents {
+
+    private FlightRecorderEvents() {
+    }
+
+    static void record(String profile, int durationSeconds, Path file)
+        throws IOException, ParseException, InterruptedException {
+
+        try (jdk.jfr.Recording recording = new jdk.jfr.Recording(jdk.jfr.Configuration.getConfiguration(profile))) {
+
+            recording.setName("crocodile-" + profile);
+            recording.setToDisk(true);
+            // The send time is measured by the caller and the event itself has no duration, GameEvents filters it
+            recording.enable(BroadcastEvent.class).withThreshold(Duration.ZERO);
+
+            recording.start();
+            Thread.sleep(Duration.ofSeconds(durationSeconds).toMillis());
+            recording.stop();
+            recording.dump(file);
+        }
+    }
+
+    static void gameStarted(String gameType, int gameId, int players) {
+
+        final GameStartEvent event = new GameStartEvent();
+        if (event.shouldCommit()) {
+            event.gameType = gameType;
+            event.gameId = gameId;
+            event.players = players;
+            event.commit();
+        }
+    }
+
+    static void gameEnded(String gameType, int gameId, boolean won, long durationMillis, int points) {
+
+        final GameEndEvent event = new GameEndEvent();
+        if (event.shouldCommit()) {
+            event.gameType = gameType;
+            event.gameId = gameId;
+            event.won = won;
+            event.gameDuration = durationMillis;
+            event.points = points;
+            event.commit();
+        }
+    }
+
+    static void matchmakingRound(int queuedPlayers, int gamesCreated, int playersMatched, long roundNanos) {
+
+        final MatchmakingEvent event = new MatchmakingEvent();
+        if (event.shouldCommit()) {
+            event.queuedPlayers = queuedPlayers;
+            event.gamesCreated = gamesCreated;
+            event.playersMatched = playersMatched;
+            event.roundTime = roundNanos;
+            event.commit();
+        }
+    }
+
+    static void broadcast(String messageType, int recipients, long sendNanos) {
+
+        final BroadcastEvent event = new BroadcastEvent();
+        if (event.shouldCommit()) {
+            event.messageType = messageType;
+            event.recipients = recipients;
+            event.sendTime = sendNanos;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package profiling;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class FlightRecorderService {
+
+    public static final int MAX_DURATION_SECONDS = 300;
+    public static final List<String> PROFILES = Collections.unmodifiableList(Arrays.asList("default", "profile"));
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FlightRecorderService.class);
+
+    private final AtomicBoolean recording = new AtomicBoolean(false);
+
+    public boolean isAvailable() {
+        return GameEvents.isAvailable();
+    }
+
+    public boolean isRecording() {
+        return recording.get();
+    }
+
+    // Blocks the calling thread for the whole recording; only one recording runs at a time
+    public boolean record(
+        @NotNull String profile,
+        int durationSeconds,
+        @NotNull OutputStream output) throws IOException, ParseException, InterruptedException {
+
+        if (!isAvailable() || !recording.compareAndSet(false, true)) {
+            return false;
+        }
+
+        Path file = null;
+
+        try {
+            file = Files.createTempFile("crocodile-", ".jfr");
+            LOGGER.info("JFR recording with profile {} started for {} s.", profile, durationSeconds);
+            FlightRecorderEvents.record(profile, durationSeconds, file);
+            LOGGER.info("JFR recording with profile {} finished, {} bytes.", profile, Files.size(file));
+            Files.copy(file, output);
+            return true;
+
+        } finally {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+            recording.set(false);
+        }
+    }
+}
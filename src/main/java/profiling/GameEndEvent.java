@@ -0,0 +1,30 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("crocodile.GameEnd")
+@Label("Game End")
+@Category("Crocodile")
+@StackTrace(false)
+class GameEndEvent extends jdk.jfr.Event {
+
+    @Label("Game Type")
+    String gameType;
+
+    @Label("Game Id")
+    int gameId;
+
+    @Label("Won")
+    boolean won;
+
+    @Label("Game Duration")
+    @Timespan(Timespan.MILLISECONDS)
+    long gameDuration;
+
+    @Label("Points")
+    int points;
+}
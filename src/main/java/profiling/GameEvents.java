@@ -0,0 +1,62 @@
+package profiling;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+public final class GameEvents {
+
+    // Only slow fan-outs are recorded: a recipient count would match every message of a full room
+    public static final long SLOW_BROADCAST_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+    private GameEvents() {
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    public static void gameStarted(@NotNull String gameType, int gameId, int players) {
+
+        if (AVAILABLE) {
+            FlightRecorderEvents.gameStarted(gameType, gameId, players);
+        }
+    }
+
+    public static void gameEnded(@NotNull String gameType, int gameId, boolean won, long durationMillis, int points) {
+
+        if (AVAILABLE) {
+            FlightRecorderEvents.gameEnded(gameType, gameId, won, durationMillis, points);
+        }
+    }
+
+    public static void matchmakingRound(int queuedPlayers, int gamesCreated, int playersMatched, long startNanos) {
+
+        if (AVAILABLE) {
+            FlightRecorderEvents.matchmakingRound(queuedPlayers, gamesCreated, playersMatched, System.nanoTime() - startNanos);
+        }
+    }
+
+    public static void broadcast(@NotNull Object messageType, int recipients, long startNanos) {
+
+        if (AVAILABLE) {
+
+            final long sendNanos = System.nanoTime() - startNanos;
+            if (sendNanos >= SLOW_BROADCAST_NANOS) {
+                FlightRecorderEvents.broadcast(messageType.toString(), recipients, sendNanos);
+            }
+        }
+    }
+
+    private static boolean isFlightRecorderAvailable() {
+
+        try {
+            Class.forName("jdk.jfr.FlightRecorder");
+            return true;
+        } catch (ClassNotFoundException exception) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("crocodile.GameStart")
+@Label("Game Start")
+@Category("Crocodile")
+@StackTrace(false)
+class GameStartEvent extends jdk.jfr.Event {
+
+    @Label("Game Type")
+    String gameType;
+
+    @Label("Game Id")
+    int gameId;
+
+    @Label("Players")
+    int players;
+}
@@ -0,0 +1,27 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("crocodile.Matchmaking")
+@Label("Matchmaking Round")
+@Category("Crocodile")
+@StackTrace(false)
+class MatchmakingEvent extends jdk.jfr.Event {
+
+    @Label("Queued Players")
+    int queuedPlayers;
+
+    @Label("Games Created")
+    int gamesCreated;
+
+    @Label("Players Matched")
+    int playersMatched;
+
+    @Label("Round Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long roundTime;
+}
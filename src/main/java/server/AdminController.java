@@ -0,0 +1,193 @@
+package server;
+
+import database.DashesImportService;
+import database.DashesService;
+import database.DashesServiceDb;
+import httpmessages.DashesCatalogData;
+import httpmessages.DashesImportData;
+import httpmessages.ErrorCode;
+import httpmessages.ErrorData;
+import httpmessages.MemoryData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import profiling.FlightRecorderService;
+import websocket.GameManagerService;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping(path = "/admin")
+public class AdminController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdminController.class);
+
+    private final Set<String> adminLogins;
+    private final DashesService dashesService;
+    private final DashesImportService dashesImportService;
+    private final FlightRecorderService flightRecorderService;
+    private final GameManagerService gameManagerService;
+
+    @Autowired
+    public AdminController(
+        @Value("${admin.logins}") String adminLogins,
+        DashesServiceDb dashesService,
+        DashesImportService dashesImportService,
+        FlightRecorderService flightRecorderService,
+        GameManagerService gameManagerService) {
+
+        this.adminLogins = parseLogins(adminLogins);
+        this.dashesService = dashesService;
+        this.dashesImportService = dashesImportService;
+        this.flightRecorderService = flightRecorderService;
+        this.gameManagerService = gameManagerService;
+    }
+
+    @ExceptionHandler(DataAccessException.class)
+    public ResponseEntity databaseError(HttpServletRequest request, DataAccessException exception) {
+
+        LOGGER.error("Request: " + request.getRequestURL() + " raised " + exception);
+        return ResponseEntity
+            .status(HttpStatus.INTERNAL_SERVER_ERROR)
+            .body(new ErrorData(ErrorCode.INTERNAL, "Internal database error."));
+    }
+
+    @PostMapping(path = "/dashes/import/", produces = "application/json")
+    public ResponseEntity importDashes(HttpServletRequest request, HttpSession session) throws IOException {
+
+        if (!isAdmin(session)) {
+            return forbidden(session);
+        }
+
+        try (InputStream input = request.getInputStream()) {
+
+            final DashesImportService.ImportProgress progress = dashesImportService.importDashes(
+                input, "request from " + session.getAttribute(ApplicationController.SESSION_LOGIN_ATTR));
+
+            return ResponseEntity.ok(new DashesImportData(progress));
+        }
+    }
+
+    @GetMapping(path = "/dashes/import/", produces = "application/json")
+    public ResponseEntity getImportProgress(HttpSession session) {
+
+        if (!isAdmin(session)) {
+            return forbidden(session);
+        }
+
+        return ResponseEntity.ok(new DashesImportData(dashesImportService.getProgress()));
+    }
+
+    @PostMapping(path = "/dashes/reload/", produces = "application/json")
+    public ResponseEntity reloadDashes(HttpSession session) {
+
+        if (!isAdmin(session)) {
+            return forbidden(session);
+        }
+
+        return ResponseEntity.ok(new DashesCatalogData(dashesService.reloadCatalog()));
+    }
+
+    @GetMapping(path = "/memory/", produces = "application/json")
+    public ResponseEntity getMemory(
+        @RequestParam(name = "games", defaultValue = "10") int gamesLimit,
+        HttpSession session) {
+
+        if (!isAdmin(session)) {
+            return forbidden(session);
+        }
+
+        if ((gamesLimit < 0) || (gamesLimit > GameManagerService.MEMORY_REPORT_GAMES_LIMIT)) {
+
+            return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorData(ErrorCode.INVALID_FIELD,
+                    "Games limit must be from 0 to " + GameManagerService.MEMORY_REPORT_GAMES_LIMIT + '.'));
+        }
+
+        return ResponseEntity.ok(new MemoryData(gameManagerService.getMemoryReport(gamesLimit)));
+    }
+
+    @PostMapping(path = "/profiling/jfr/")
+    public ResponseEntity recordFlight(
+        @RequestParam(name = "profile", defaultValue = "default") String profile,
+        @RequestParam(name = "duration", defaultValue = "30") int durationSeconds,
+        HttpSession session,
+        HttpServletResponse response) throws IOException, ParseException, InterruptedException {
+
+        if (!isAdmin(session)) {
+            return forbidden(session);
+        }
+
+        if (!FlightRecorderService.PROFILES.contains(profile) ||
+            (durationSeconds <= 0) || (durationSeconds > FlightRecorderService.MAX_DURATION_SECONDS)) {
+
+            return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorData(ErrorCode.INVALID_FIELD, "Profile must be one of " + FlightRecorderService.PROFILES +
+                    ", duration from 1 to " + FlightRecorderService.MAX_DURATION_SECONDS + " seconds."));
+        }
+
+        if (!flightRecorderService.isAvailable() || flightRecorderService.isRecording()) {
+            return profilingUnavailable();
+        }
+
+        response.setContentType("application/octet-stream");
+        response.setHeader("Content-Disposition",
+            "attachment; filename=\"crocodile-" + System.currentTimeMillis() + ".jfr\"");
+
+        if (!flightRecorderService.record(profile, durationSeconds, response.getOutputStream())) {
+            response.reset();
+            return profilingUnavailable();
+        }
+
+        return null;
+    }
+
+    static Set<String> parseLogins(String logins) {
+
+        return new HashSet<>(Arrays.stream(logins.split(","))
+            .map(String::trim)
+            .filter(e -> !e.isEmpty())
+            .collect(Collectors.toList()));
+    }
+
+    static boolean isAdmin(Set<String> adminLogins, HttpSession session) {
+
+        final Object login = session.getAttribute(ApplicationController.SESSION_LOGIN_ATTR);
+        return (login != null) && adminLogins.contains(login);
+    }
+
+    private boolean isAdmin(HttpSession session) {
+        return isAdmin(adminLogins, session);
+    }
+
+    private ResponseEntity profilingUnavailable() {
+
+        return ResponseEntity
+            .status(HttpStatus.SERVICE_UNAVAILABLE)
+            .body(new ErrorData(ErrorCode.UNAVAILABLE, "Flight recorder is unavailable or already recording."));
+    }
+
+    private ResponseEntity forbidden(HttpSession session) {
+
+        LOGGER.warn("User {} tried to access admin interface.", session.getAttribute(ApplicationController.SESSION_LOGIN_ATTR));
+        return ResponseEntity
+            .status(HttpStatus.FORBIDDEN)
+            .body(new ErrorData(ErrorCode.FORBIDDEN, "Only administrators are allowed to perform this operation."));
+    }
+}
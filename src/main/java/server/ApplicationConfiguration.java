@@ -1,28 +1,135 @@
 package server;
 
 import database.AccountServiceDb;
+import database.DashesImportService;
+import database.DashesRecorder;
 import database.DashesServiceDb;
+import database.DatabaseExecutor;
+import database.ExecutorAccountService;
+import database.ExecutorDashesService;
+import database.GameHistoryWriter;
+import database.InstrumentedJdbcTemplate;
+import metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.web.socket.WebSocketHandler;
+import profiling.FlightRecorderService;
 import org.springframework.web.socket.handler.PerConnectionWebSocketHandler;
+import websocket.AdmissionControl;
 import websocket.GameManagerService;
 import websocket.GameSocketHandler;
+import websocket.HandlerExecutor;
+import websocket.PointBudget;
+import websocket.SessionTransport;
 import websocket.WebSocketMessageHandler;
 
+import javax.sql.DataSource;
+
 @SuppressWarnings("SpringJavaAutowiringInspection")
 @Configuration
 public class ApplicationConfiguration {
 
+    @Bean
+    public NamedParameterJdbcTemplate namedParameterJdbcTemplate(
+        DataSource dataSource,
+        @Value("${jdbc.slow.millis}") int slowMillis,
+        @Value("${jdbc.max.concurrency}") int maxConcurrency,
+        HandlerExecutor handlerExecutor) {
+
+        // Platform threads are already bounded by their pools, only virtual threads need the permits
+        return new NamedParameterJdbcTemplate(new InstrumentedJdbcTemplate(
+            dataSource, slowMillis, handlerExecutor.isVirtual() ? maxConcurrency : 0));
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public HandlerExecutor handlerExecutor(@Value("${game.execution}") String mode) {
+        return HandlerExecutor.create(mode);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public SessionTransport sessionTransport(
+        @Value("${socket.transport}") String mode,
+        @Value("${socket.writer.threads}") int writerThreads,
+        @Value("${socket.outbound.limit}") int queueLimit,
+        @Value("${socket.send.timeout.millis}") int sendTimeLimitMillis) {
+
+        return SessionTransport.create(mode, writerThreads, queueLimit, sendTimeLimitMillis);
+    }
+
     @Bean
     public AccountServiceDb accountService(NamedParameterJdbcTemplate database) {
         return new AccountServiceDb(database);
     }
 
     @Bean
-    public DashesServiceDb dashesService(NamedParameterJdbcTemplate database) {
-        return new DashesServiceDb(database);
+    public DashesServiceDb dashesService(
+        NamedParameterJdbcTemplate database,
+        @Value("${dashes.catalog.refresh}") int refreshSeconds) {
+
+        return new DashesServiceDb(database, refreshSeconds);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public DatabaseExecutor databaseExecutor(
+        @Value("${jdbc.async.threads}") int threads,
+        @Value("${jdbc.async.queue}") int queueCapacity) {
+
+        return new DatabaseExecutor(threads, queueCapacity);
+    }
+
+    @Bean
+    public ExecutorAccountService asyncAccountService(AccountServiceDb accountService, DatabaseExecutor databaseExecutor) {
+        return new ExecutorAccountService(accountService, databaseExecutor);
+    }
+
+    @Bean
+    public ExecutorDashesService asyncDashesService(DashesServiceDb dashesService, DatabaseExecutor databaseExecutor) {
+        return new ExecutorDashesService(dashesService, databaseExecutor);
+    }
+
+    @Bean
+    public AdmissionControl admissionControl(
+        DatabaseExecutor databaseExecutor,
+        @Value("${admission.games}") int maxGames,
+        @Value("${admission.queued}") int maxQueued,
+        @Value("${admission.sessions}") int maxSessions,
+        @Value("${admission.scheduler.lag.millis}") long maxSchedulerLagMillis,
+        @Value("${admission.database.wait.millis}") long maxDatabaseWaitMillis,
+        @Value("${admission.retry.after}") int retryAfterSeconds) {
+
+        return new AdmissionControl(maxGames, maxQueued, maxSessions, maxSchedulerLagMillis, maxDatabaseWaitMillis,
+            retryAfterSeconds, databaseExecutor::getQueueWaitMillis);
+    }
+
+    @Bean
+    public DashesImportService dashesImportService(NamedParameterJdbcTemplate database, DashesServiceDb dashesService) {
+        return new DashesImportService(database, dashesService);
+    }
+
+    @Bean
+    public DashesImportRunner dashesImportRunner(
+        DashesImportService dashesImportService,
+        DashesServiceDb dashesService,
+        @Value("${dashes.import.seed}") String seedResource,
+        @Value("${dashes.import.file}") String importFile) {
+
+        return new DashesImportRunner(dashesImportService, dashesService, seedResource, importFile);
+    }
+
+    @Bean
+    public DashesBundleService dashesBundleService(
+        DashesServiceDb dashesService,
+        @Value("${dashes.bundle.size}") int bundleSize,
+        @Value("${dashes.bundle.refresh}") int refreshSeconds) {
+
+        return new DashesBundleService(dashesService, bundleSize, refreshSeconds);
+    }
+
+    @Bean
+    public FlightRecorderService flightRecorderService() {
+        return new FlightRecorderService();
     }
 
     @Bean
@@ -31,8 +138,38 @@ public class ApplicationConfiguration {
     }
 
     @Bean
-    public GameManagerService gameManagerService(AccountServiceDb accountServiceDb, DashesServiceDb dashesService) {
-        return new GameManagerService(accountServiceDb, dashesService);
+    public DashesRecorder dashesRecorder(NamedParameterJdbcTemplate database) {
+        return new DashesRecorder(database);
+    }
+
+    @Bean
+    public GameHistoryWriter gameHistoryWriter(NamedParameterJdbcTemplate database) {
+        return new GameHistoryWriter(database);
+    }
+
+    @Bean
+    public GameManagerService gameManagerService(
+        ExecutorAccountService asyncAccountService,
+        DashesServiceDb dashesService,
+        ExecutorDashesService asyncDashesService,
+        DashesRecorder dashesRecorder,
+        GameHistoryWriter gameHistoryWriter,
+        AdmissionControl admissionControl,
+        HandlerExecutor handlerExecutor,
+        @Value("${game.points.limit}") int pointsLimit,
+        @Value("${game.points.bytes}") long pointsBytes,
+        @Value("${game.points.tolerance}") float pointsTolerance,
+        @Value("${game.shards}") int shards) {
+
+        final GameManagerService gameManagerService = new GameManagerService(
+            asyncAccountService, dashesService, asyncDashesService, dashesRecorder, gameHistoryWriter,
+            new PointBudget(pointsLimit, pointsBytes, pointsTolerance),
+            admissionControl,
+            (shards > 0) ? shards : Runtime.getRuntime().availableProcessors(),
+            handlerExecutor);
+
+        gameManagerService.registerGauges(MetricsRegistry.DEFAULT);
+        return gameManagerService;
     }
 
     @Bean
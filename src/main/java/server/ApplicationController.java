@@ -9,11 +9,14 @@ import httpmessages.AccountData;
 import httpmessages.DashesData;
 import httpmessages.ErrorCode;
 import httpmessages.ErrorData;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,6 +25,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 import java.io.IOException;
 import java.util.LinkedHashSet;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @RestController
@@ -31,18 +35,21 @@ import java.util.stream.Collectors;
 public class ApplicationController {
 
     public static final String SESSION_LOGIN_ATTR = "login";
+    public static final int BUNDLE_MAX_AGE = 3600;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationController.class);
 
     private final AccountService accountService;
     private final DashesService dashesService;
+    private final DashesBundleService dashesBundleService;
 
     @Autowired
     public ApplicationController(
-        AccountServiceDb accountService, DashesServiceDb dashesService) {
+        AccountServiceDb accountService, DashesServiceDb dashesService, DashesBundleService dashesBundleService) {
 
         this.accountService = accountService;
         this.dashesService = dashesService;
+        this.dashesBundleService = dashesBundleService;
     }
 
     @ExceptionHandler(DataAccessException.class)
@@ -246,4 +253,83 @@ public class ApplicationController {
 
         return ResponseEntity.ok(new DashesData(dashesService.getRandomDashes()));
     }
+
+    //frontend offline session in one request
+    @GetMapping(path = "/dashes/bundle", produces = "application/json")
+    public ResponseEntity getDashesBundle(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String eTag,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        final DashesBundleService.Bundle bundle = dashesBundleService.getBundle();
+
+        if (bundle == null) {
+
+            LOGGER.error("Dashes bundle is not available.");
+            return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorData(ErrorCode.UNAVAILABLE, "Dashes bundle is not ready yet."));
+        }
+
+        final boolean gzipped = acceptsGzip(acceptEncoding);
+        final String bundleETag = bundle.getETag(gzipped);
+
+        if (bundleETag.equals(eTag)) {
+            return ResponseEntity
+                .status(HttpStatus.NOT_MODIFIED)
+                .eTag(bundleETag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+        }
+
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .eTag(bundleETag)
+            .cacheControl(CacheControl.maxAge(BUNDLE_MAX_AGE, TimeUnit.SECONDS).cachePublic())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzipped) {
+            return response
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(bundle.getGzippedJson());
+        }
+
+        return response.body(bundle.getJson());
+    }
+
+    // An explicit gzip entry wins over "*", and a zero quality means the coding is not acceptable
+    static boolean acceptsGzip(@Nullable String acceptEncoding) {
+
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Float gzipQuality = null;
+        Float anyQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+
+            final String[] parts = element.split(";");
+            final String coding = parts[0].trim().toLowerCase();
+            float quality = 1;
+
+            for (int i = 1; i < parts.length; ++i) {
+
+                final String parameter = parts[i].trim().toLowerCase();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Float.parseFloat(parameter.substring(2).trim());
+                    } catch (NumberFormatException ignored) {
+                        quality = 0;
+                    }
+                }
+            }
+
+            if ("gzip".equals(coding) || "x-gzip".equals(coding)) {
+                gzipQuality = quality;
+            } else if ("*".equals(coding)) {
+                anyQuality = quality;
+            }
+        }
+
+        final Float quality = (gzipQuality != null) ? gzipQuality : anyQuality;
+        return (quality != null) && (quality > 0);
+    }
 }
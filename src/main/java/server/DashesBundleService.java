@@ -0,0 +1,116 @@
+package server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import database.DashesService;
+import httpmessages.DashesBundleData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+public class DashesBundleService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DashesBundleService.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final DashesService dashesService;
+    private final int bundleSize;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    private volatile @Nullable Bundle bundle = null;
+
+    public static final class Bundle {
+
+        private final @NotNull String version;
+        private final byte[] json;
+        private final byte[] gzippedJson;
+
+        Bundle(@NotNull String version, byte[] json, byte[] gzippedJson) {
+
+            this.version = version;
+            this.json = json;
+            this.gzippedJson = gzippedJson;
+        }
+
+        public @NotNull String getVersion() {
+            return version;
+        }
+
+        // The encodings have different bytes, so each gets its own strong validator
+        public @NotNull String getETag(boolean gzipped) {
+            return '"' + version + (gzipped ? "-gz" : "") + '"';
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public byte[] getGzippedJson() {
+            return gzippedJson;
+        }
+    }
+
+    public DashesBundleService(DashesService dashesService, int bundleSize, int refreshSeconds) {
+
+        this.dashesService = dashesService;
+        this.bundleSize = bundleSize;
+
+        scheduler.scheduleWithFixedDelay(
+            this::refreshBundle,
+            0, refreshSeconds, TimeUnit.SECONDS);
+    }
+
+    public @Nullable Bundle getBundle() {
+
+        if (bundle == null) {
+            refreshBundle();
+        }
+
+        return bundle;
+    }
+
+    public void shutdown() {
+
+        scheduler.shutdownNow();
+    }
+
+    @SuppressWarnings("OverlyBroadCatchBlock")
+    private synchronized void refreshBundle() {
+
+        try {
+            final String version = dashesService.getCatalogVersion() + '-' + bundleSize;
+            final Bundle currentBundle = bundle;
+
+            if ((currentBundle != null) && currentBundle.getVersion().equals(version)) {
+                return;
+            }
+
+            final byte[] json = OBJECT_MAPPER.writeValueAsBytes(
+                new DashesBundleData(version, dashesService.getRandomDashes(bundleSize)));
+
+            bundle = new Bundle(version, json, gzip(json));
+            LOGGER.info("Dashes bundle {} built, {} bytes.", version, json.length);
+
+        } catch (DataAccessException | IOException exception) {
+            LOGGER.error("Can't build dashes bundle: {}", exception.toString());
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzipOutput = new GZIPOutputStream(output)) {
+            gzipOutput.write(data);
+        }
+
+        return output.toByteArray();
+    }
+}
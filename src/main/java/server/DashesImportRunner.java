@@ -0,0 +1,58 @@
+package server;
+
+import database.DashesImportService;
+import database.DashesService;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class DashesImportRunner implements ApplicationRunner {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DashesImportRunner.class);
+
+    private final DashesImportService dashesImportService;
+    private final DashesService dashesService;
+    private final @NotNull String seedResource;
+    private final @NotNull String importFile;
+
+    public DashesImportRunner(
+        DashesImportService dashesImportService,
+        DashesService dashesService,
+        @NotNull String seedResource,
+        @NotNull String importFile) {
+
+        this.dashesImportService = dashesImportService;
+        this.dashesService = dashesService;
+        this.seedResource = seedResource;
+        this.importFile = importFile;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+
+        if (!seedResource.isEmpty() && dashesImportService.isCatalogEmpty()) {
+
+            LOGGER.info("Dashes catalog is empty, seeding from {}.", seedResource);
+            try (InputStream input = new ClassPathResource(seedResource).getInputStream()) {
+                dashesImportService.importDashes(input, seedResource);
+            }
+        }
+
+        if (!importFile.isEmpty()) {
+
+            try (InputStream input = new FileInputStream(importFile)) {
+                dashesImportService.importDashes(input, importFile);
+            }
+        }
+
+        // Game creation only reads the loaded catalog, so it is in place before players arrive
+        dashesService.reloadCatalog();
+    }
+}
@@ -0,0 +1,67 @@
+package server;
+
+import httpmessages.ErrorCode;
+import httpmessages.ErrorData;
+import metrics.MetricsRegistry;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpSession;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Set;
+
+// Metrics name games, queues and statements, so only administrators and a scraper holding the token may read them
+@RestController
+public class MetricsController {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final Set<String> adminLogins;
+    private final byte[] token;
+
+    @Autowired
+    public MetricsController(
+        @Value("${admin.logins}") String adminLogins,
+        @Value("${metrics.token}") String token) {
+
+        this.adminLogins = AdminController.parseLogins(adminLogins);
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @GetMapping(path = "/metrics")
+    public ResponseEntity metrics(
+        @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) @Nullable String authorization,
+        HttpSession session) {
+
+        if (!hasToken(authorization) && !AdminController.isAdmin(adminLogins, session)) {
+
+            return ResponseEntity
+                .status(HttpStatus.FORBIDDEN)
+                .body(new ErrorData(ErrorCode.FORBIDDEN, "Metrics are available to administrators and the configured scraper."));
+        }
+
+        return ResponseEntity
+            .ok()
+            .header(HttpHeaders.CONTENT_TYPE, MetricsRegistry.PROMETHEUS_CONTENT_TYPE)
+            .body(MetricsRegistry.DEFAULT.writePrometheus());
+    }
+
+    // An empty token turns scraping by token off
+    private boolean hasToken(@Nullable String authorization) {
+
+        if ((token.length == 0) || (authorization == null) || !authorization.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+
+        final byte[] presented = authorization.substring(BEARER_PREFIX.length()).trim().getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(token, presented);
+    }
+}
@@ -18,7 +18,12 @@ public enum MessageType {
     PLAYERS_CONNECT("PLAYERS_CONNECT"),
     PLAYER_DISCONNECT("PLAYER_DISCONNECT"),
     VOTE_ANSWER("VOTE_ANSWER"),
-    NEW_VOTE("NEW_VOTE");
+    NEW_VOTE("NEW_VOTE"),
+    RESUME("RESUME"),
+    RESUME_FAILED("RESUME_FAILED"),
+    SERVER_BUSY("SERVER_BUSY");
+
+    private static final MessageType[] VALUES = values();
 
     private final String type;
 
@@ -28,7 +33,7 @@ public enum MessageType {
 
     public static MessageType fromString(String stringType) {
 
-        for (MessageType messageType : MessageType.values()) {
+        for (MessageType messageType : VALUES) {
 
             if (messageType.type.equalsIgnoreCase(stringType)) {
 
@@ -15,25 +15,29 @@ public class MultiplayerGameStateContent extends BaseGameContent {
     public static final String ROLE_ATTR = "role";
     public static final String PLAYERS_ATTR = "players";
     public static final String WORD_ATTR = "word";
+    public static final String RESUME_TOKEN_ATTR = "resume_token";
 
     private final @NotNull PlayerRole role;
     private final @NotNull ArrayList<PlayerInfo> players;
-    private final @NotNull ArrayList<PicturePointContent> points;
+    private final @NotNull PointBuffer.Snapshot points;
     private final @Nullable String word;
+    private final @Nullable String resumeToken;
 
     public MultiplayerGameStateContent(
         float timePassed,
         float timeLimit,
         @NotNull PlayerRole role,
         @NotNull ArrayList<PlayerInfo> players,
-        @NotNull ArrayList<PicturePointContent> points,
-        @Nullable String word) {
+        @NotNull PointBuffer.Snapshot points,
+        @Nullable String word,
+        @Nullable String resumeToken) {
 
         super(GameType.MULTIPLAYER, timePassed, timeLimit);
         this.role = role;
         this.players = players;
         this.points = points;
         this.word = (role == PlayerRole.PAINTER) ? word : null;
+        this.resumeToken = resumeToken;
     }
 
     @JsonProperty(ROLE_ATTR)
@@ -47,7 +51,7 @@ public class MultiplayerGameStateContent extends BaseGameContent {
     }
 
     @JsonProperty(POINTS_ATTR)
-    public @NotNull ArrayList<PicturePointContent> getPoints() {
+    public @NotNull PointBuffer.Snapshot getPoints() {
         return points;
     }
 
@@ -56,4 +60,10 @@ public class MultiplayerGameStateContent extends BaseGameContent {
     public @Nullable String getWord() {
         return word;
     }
+
+    @JsonInclude(NON_NULL)
+    @JsonProperty(RESUME_TOKEN_ATTR)
+    public @Nullable String getResumeToken() {
+        return resumeToken;
+    }
 }
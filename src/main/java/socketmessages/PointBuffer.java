@@ -0,0 +1,359 @@
+package socketmessages;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Append-only columnar store of drawn points: coordinates are normalized to [0, 1] by the client
+// and kept as 16-bit fixed point, times as 16-bit deltas, colors as indices into a per-buffer palette.
+// A pause longer than a delta holds is carried into the following deltas, so later times catch up.
+// Every CHUNK_SIZE points the filled chunk is encoded to UTF-8 JSON once, so state messages only encode the open tail.
+// Not thread safe, callers guard appends; snapshots are immutable and may be read from any thread.
+public final class PointBuffer {
+
+    public static final float COORDINATE_SCALE = 16000;
+    public static final int PALETTE_LIMIT = 255;
+
+    public static final int CHUNK_SIZE = 64;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int INITIAL_CAPACITY = CHUNK_SIZE;
+    private static final int ARRAY_BYTES = 16;
+    private static final int COLUMNS_BYTES = 2 + 2 + 2 + 1;
+    private static final int COLOR_BYTES = 48;
+    private static final int NO_COLOR = 0;
+
+    private short[] pointsX;
+    private short[] pointsY;
+    private char[] timeDeltas;
+    private byte[] colors;
+    private long[] downs;
+    private byte[][] encodedChunks;
+    private String[] palette = new String[0];
+    private int size = 0;
+    // Sum of the stored deltas, behind the latest time only while a long pause is being carried
+    private int storedTimeMillis = 0;
+    private long encodedBytes = 0;
+
+    public PointBuffer() {
+        this(INITIAL_CAPACITY);
+    }
+
+    private PointBuffer(int capacity) {
+
+        pointsX = new short[capacity];
+        pointsY = new short[capacity];
+        timeDeltas = new char[capacity];
+        colors = new byte[capacity];
+        downs = new long[capacity / Long.SIZE];
+        encodedChunks = new byte[capacity / CHUNK_SIZE][];
+    }
+
+    @JsonSerialize(using = SnapshotSerializer.class)
+    public static final class Snapshot {
+
+        private final short[] pointsX;
+        private final short[] pointsY;
+        private final char[] timeDeltas;
+        private final byte[] colors;
+        private final long[] downs;
+        private final byte[][] encodedChunks;
+        private final String[] palette;
+        private final int size;
+
+        private Snapshot(@NotNull PointBuffer buffer) {
+
+            this.pointsX = buffer.pointsX;
+            this.pointsY = buffer.pointsY;
+            this.timeDeltas = buffer.timeDeltas;
+            this.colors = buffer.colors;
+            this.downs = buffer.downs;
+            this.encodedChunks = buffer.encodedChunks;
+            this.palette = buffer.palette;
+            this.size = buffer.size;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public float getX(int index) {
+            return pointsX[index] / COORDINATE_SCALE;
+        }
+
+        public float getY(int index) {
+            return pointsY[index] / COORDINATE_SCALE;
+        }
+
+        public boolean isDown(int index) {
+            return (downs[index / Long.SIZE] & (1L << index)) != 0;
+        }
+
+        public @Nullable String getColor(int index) {
+
+            final int color = colors[index] & 0xFF;
+            return (color == NO_COLOR) ? null : palette[color - 1];
+        }
+
+        public @NotNull int[] getTimesMillis() {
+
+            final int[] times = new int[size];
+            int time = 0;
+            for (int i = 0; i < size; ++i) {
+                time += timeDeltas[i];
+                times[i] = time;
+            }
+
+            return times;
+        }
+
+        public @NotNull PicturePointContent get(int index) {
+
+            return new PicturePointContent(getX(index), getY(index), isDown(index), getColor(index));
+        }
+    }
+
+    public static final class SnapshotSerializer extends JsonSerializer<Snapshot> {
+
+        // Same shape PicturePointContent serializes to; each sealed chunk goes out as one raw value
+        // holding its comma separated points, so the array still gets its separators right.
+        // Chunks are kept as UTF-8 to halve their footprint and decoded only for the message being written.
+        @Override
+        public void serialize(Snapshot snapshot, JsonGenerator generator, SerializerProvider provider) throws IOException {
+
+            final int sealedCount = snapshot.size() / CHUNK_SIZE;
+
+            generator.writeStartArray();
+            for (int chunk = 0; chunk < sealedCount; ++chunk) {
+                generator.writeRawValue(new String(snapshot.encodedChunks[chunk], StandardCharsets.UTF_8));
+            }
+
+            for (int i = sealedCount * CHUNK_SIZE; i < snapshot.size(); ++i) {
+                writePoint(generator, snapshot, i);
+            }
+            generator.writeEndArray();
+        }
+
+        static void writePoint(JsonGenerator generator, Snapshot snapshot, int index) throws IOException {
+
+            generator.writeStartObject();
+            generator.writeNumberField(PicturePointContent.X_ATTR, snapshot.getX(index));
+            generator.writeNumberField(PicturePointContent.Y_ATTR, snapshot.getY(index));
+            generator.writeBooleanField(PicturePointContent.DOWN_ATTR, snapshot.isDown(index));
+
+            final String color = snapshot.getColor(index);
+            if (color != null) {
+                generator.writeStringField(PicturePointContent.COLOR_ATTR, color);
+            }
+
+            generator.writeEndObject();
+        }
+    }
+
+    public void add(@NotNull PicturePointContent point, int timeMillis) {
+
+        append(quantize(point.getPointX()), quantize(point.getPointY()), timeMillis,
+            point.getDown(), point.getColor());
+    }
+
+    // Ramer-Douglas-Peucker over each stroke; stroke starts and colored points are always kept.
+    // Returns a new buffer so snapshots of this one stay valid.
+    public @NotNull PointBuffer simplify(float tolerance) {
+
+        final Snapshot snapshot = getSnapshot();
+        final boolean[] keep = new boolean[size];
+        final double scaledTolerance = tolerance * COORDINATE_SCALE;
+
+        int strokeStart = 0;
+        for (int i = 1; i <= size; ++i) {
+
+            if ((i == size) || snapshot.isDown(i) || (colors[i] != NO_COLOR)) {
+                simplifyStroke(strokeStart, i - 1, scaledTolerance, keep);
+                strokeStart = i;
+            }
+        }
+
+        int keptCount = 0;
+        for (boolean kept : keep) {
+            keptCount += kept ? 1 : 0;
+        }
+
+        final PointBuffer simplified = new PointBuffer(
+            Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, keptCount - 1)) * 2));
+        final int[] times = snapshot.getTimesMillis();
+
+        for (int i = 0; i < size; ++i) {
+            if (keep[i]) {
+                simplified.append(pointsX[i], pointsY[i], times[i], snapshot.isDown(i), snapshot.getColor(i));
+            }
+        }
+
+        return simplified;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public @NotNull Snapshot getSnapshot() {
+        return new Snapshot(this);
+    }
+
+    public long getRetainedBytes() {
+
+        return ((long) pointsX.length * COLUMNS_BYTES) + ((long) downs.length * Long.BYTES) +
+            ((long) palette.length * COLOR_BYTES) + ((long) encodedChunks.length * Integer.BYTES) + encodedBytes;
+    }
+
+    private void append(short pointX, short pointY, int timeMillis, boolean down, @Nullable String color) {
+
+        if (size == pointsX.length) {
+            grow();
+        }
+
+        pointsX[size] = pointX;
+        pointsY[size] = pointY;
+        timeDeltas[size] = (char) Math.max(0, Math.min(Character.MAX_VALUE, timeMillis - storedTimeMillis));
+        colors[size] = (byte) getColorIndex(color);
+
+        if (down) {
+            downs[size / Long.SIZE] |= 1L << size;
+        }
+
+        storedTimeMillis += timeDeltas[size];
+        ++size;
+
+        if ((size % CHUNK_SIZE) == 0) {
+            sealChunk(size / CHUNK_SIZE - 1);
+        }
+    }
+
+    private void sealChunk(int chunk) {
+
+        final Snapshot snapshot = getSnapshot();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(CHUNK_SIZE * 48);
+
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(output, JsonEncoding.UTF8)) {
+
+            generator.writeStartArray();
+            for (int i = chunk * CHUNK_SIZE; i < (chunk + 1) * CHUNK_SIZE; ++i) {
+                SnapshotSerializer.writePoint(generator, snapshot, i);
+            }
+            generator.writeEndArray();
+
+        } catch (IOException exception) {
+            throw new IllegalStateException("point chunk encoding error", exception);
+        }
+
+        final byte[] encoded = output.toByteArray();
+        encodedChunks[chunk] = Arrays.copyOfRange(encoded, 1, encoded.length - 1);
+        encodedBytes += ARRAY_BYTES + encodedChunks[chunk].length;
+    }
+
+    private void simplifyStroke(int first, int last, double tolerance, boolean[] keep) {
+
+        if (first > last) {
+            return;
+        }
+
+        keep[first] = true;
+        keep[last] = true;
+
+        final int[] stack = new int[2 * (last - first + 1)];
+        int top = 0;
+        stack[top++] = first;
+        stack[top++] = last;
+
+        while (top > 0) {
+
+            final int end = stack[--top];
+            final int start = stack[--top];
+
+            int farthest = -1;
+            double farthestDistance = tolerance;
+
+            for (int i = start + 1; i < end; ++i) {
+
+                final double distance = getDistance(i, start, end);
+                if (distance > farthestDistance) {
+                    farthest = i;
+                    farthestDistance = distance;
+                }
+            }
+
+            if (farthest >= 0) {
+
+                keep[farthest] = true;
+                stack[top++] = start;
+                stack[top++] = farthest;
+                stack[top++] = farthest;
+                stack[top++] = end;
+            }
+        }
+    }
+
+    private double getDistance(int index, int start, int end) {
+
+        final double segmentX = pointsX[end] - pointsX[start];
+        final double segmentY = pointsY[end] - pointsY[start];
+        final double offsetX = pointsX[index] - pointsX[start];
+        final double offsetY = pointsY[index] - pointsY[start];
+        final double length = Math.hypot(segmentX, segmentY);
+
+        if (length == 0) {
+            return Math.hypot(offsetX, offsetY);
+        }
+
+        return Math.abs((segmentX * offsetY) - (segmentY * offsetX)) / length;
+    }
+
+    private static short quantize(float coordinate) {
+
+        final float scaled = coordinate * COORDINATE_SCALE;
+        return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(scaled)));
+    }
+
+    // Colors past the palette limit are dropped, the client keeps drawing with the previous one
+    private int getColorIndex(@Nullable String color) {
+
+        if (color == null) {
+            return NO_COLOR;
+        }
+
+        for (int i = palette.length - 1; i >= 0; --i) {
+            if (palette[i].equals(color)) {
+                return i + 1;
+            }
+        }
+
+        if (palette.length == PALETTE_LIMIT) {
+            return NO_COLOR;
+        }
+
+        // Snapshots keep the previous palette array, so it is copied rather than grown in place
+        palette = Arrays.copyOf(palette, palette.length + 1);
+        palette[palette.length - 1] = color;
+        return palette.length;
+    }
+
+    private void grow() {
+
+        final int capacity = pointsX.length * 2;
+        pointsX = Arrays.copyOf(pointsX, capacity);
+        pointsY = Arrays.copyOf(pointsY, capacity);
+        timeDeltas = Arrays.copyOf(timeDeltas, capacity);
+        colors = Arrays.copyOf(colors, capacity);
+        downs = Arrays.copyOf(downs, capacity / Long.SIZE);
+        encodedChunks = Arrays.copyOf(encodedChunks, capacity / CHUNK_SIZE);
+    }
+}
@@ -0,0 +1,36 @@
+package socketmessages;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.jetbrains.annotations.Nullable;
+
+@SuppressWarnings("unused")
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ResumeContent extends EmptyContent {
+
+    public static final String TOKEN_ATTR = "token";
+    public static final String SEQUENCE_ATTR = "seq";
+
+    private final @Nullable String token;
+    private final long sequence;
+
+    @JsonCreator
+    public ResumeContent(
+        @Nullable @JsonProperty(TOKEN_ATTR) String token,
+        @JsonProperty(SEQUENCE_ATTR) long sequence) {
+
+        this.token = token;
+        this.sequence = sequence;
+    }
+
+    @JsonProperty(TOKEN_ATTR)
+    public @Nullable String getToken() {
+        return token;
+    }
+
+    @JsonProperty(SEQUENCE_ATTR)
+    public long getSequence() {
+        return sequence;
+    }
+}
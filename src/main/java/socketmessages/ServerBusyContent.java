@@ -0,0 +1,32 @@
+package socketmessages;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.jetbrains.annotations.NotNull;
+
+@SuppressWarnings("unused")
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ServerBusyContent extends EmptyContent {
+
+    public static final String REASON_ATTR = "reason";
+    public static final String RETRY_AFTER_ATTR = "retry_after";
+
+    private final @NotNull String reason;
+    private final int retryAfterSeconds;
+
+    public ServerBusyContent(@NotNull String reason, int retryAfterSeconds) {
+
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @JsonProperty(REASON_ATTR)
+    public @NotNull String getReason() {
+        return reason;
+    }
+
+    @JsonProperty(RETRY_AFTER_ATTR)
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
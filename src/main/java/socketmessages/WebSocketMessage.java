@@ -2,24 +2,35 @@ package socketmessages;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class WebSocketMessage <T extends EmptyContent> {
 
     public static final String TYPE_ATTR = "type";
     public static final String CONTENT_ATTR = "content";
+    public static final String SEQUENCE_ATTR = "seq";
 
     private final @NotNull String type;
     private final @NotNull T content;
+    private final @Nullable Long sequence;
 
     @JsonCreator
     public WebSocketMessage(
         @NotNull @JsonProperty(TYPE_ATTR) String type,
         @NotNull @JsonProperty(CONTENT_ATTR) T content) {
 
+        this(type, content, null);
+    }
+
+    // Game events and state snapshots carry the game's event sequence number, see GameEventLog
+    public WebSocketMessage(@NotNull String type, @NotNull T content, @Nullable Long sequence) {
+
         this.type = type;
         this.content = content;
+        this.sequence = sequence;
     }
 
     @JsonProperty(TYPE_ATTR)
@@ -36,4 +47,10 @@ public class WebSocketMessage <T extends EmptyContent> {
     public @NotNull T getContent() {
         return content;
     }
+
+    @JsonProperty(SEQUENCE_ATTR)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public @Nullable Long getSequence() {
+        return sequence;
+    }
 }
@@ -0,0 +1,100 @@
+package websocket;
+
+import metrics.EnumCounter;
+import metrics.MetricsRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import socketmessages.MessageType;
+import socketmessages.ServerBusyContent;
+import socketmessages.WebSocketMessage;
+
+import java.util.function.LongSupplier;
+
+// Decides whether the node takes new sessions, games and queued players. Fixed limits cap the load,
+// scheduler lag and database queue wait show when the node is saturated below them. Zero turns a limit off.
+// Only new work is turned away, running games are never cut short.
+public final class AdmissionControl {
+
+    public enum Reason {
+        GAMES,
+        QUEUE,
+        SESSIONS,
+        SCHEDULER_LAG,
+        DATABASE_WAIT
+    }
+
+    public static final int DEFAULT_RETRY_AFTER_SECONDS = 5;
+    public static final AdmissionControl UNLIMITED = new AdmissionControl(0, 0, 0, 0, 0, DEFAULT_RETRY_AFTER_SECONDS, () -> 0);
+
+    private static final EnumCounter<Reason> REJECTED = MetricsRegistry.DEFAULT.enumCounter(
+        "crocodile_admission_rejected_total", "Sessions, game starts and queue requests turned away by reason.",
+        "reason", Reason.class);
+
+    private final int maxGames;
+    private final int maxQueued;
+    private final int maxSessions;
+    private final long maxSchedulerLagMillis;
+    private final long maxDatabaseWaitMillis;
+    private final int retryAfterSeconds;
+    private final LongSupplier databaseWaitMillis;
+
+    public AdmissionControl(
+        int maxGames,
+        int maxQueued,
+        int maxSessions,
+        long maxSchedulerLagMillis,
+        long maxDatabaseWaitMillis,
+        int retryAfterSeconds,
+        @NotNull LongSupplier databaseWaitMillis) {
+
+        this.maxGames = maxGames;
+        this.maxQueued = maxQueued;
+        this.maxSessions = maxSessions;
+        this.maxSchedulerLagMillis = maxSchedulerLagMillis;
+        this.maxDatabaseWaitMillis = maxDatabaseWaitMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.databaseWaitMillis = databaseWaitMillis;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public @Nullable Reason checkSession(long sessions) {
+
+        return isOver(sessions, maxSessions) ? Reason.SESSIONS : null;
+    }
+
+    public @Nullable Reason checkGame(long games, long schedulerLagMillis) {
+
+        return isOver(games, maxGames) ? Reason.GAMES : checkSaturation(schedulerLagMillis);
+    }
+
+    // Queued players only wait while games are at the limit, the matchmaker starts them once there is room
+    public @Nullable Reason checkQueue(long queued, long schedulerLagMillis) {
+
+        return isOver(queued, maxQueued) ? Reason.QUEUE : checkSaturation(schedulerLagMillis);
+    }
+
+    private @Nullable Reason checkSaturation(long schedulerLagMillis) {
+
+        if (isOver(schedulerLagMillis, maxSchedulerLagMillis)) {
+            return Reason.SCHEDULER_LAG;
+        }
+
+        return isOver(databaseWaitMillis.getAsLong(), maxDatabaseWaitMillis) ? Reason.DATABASE_WAIT : null;
+    }
+
+    private static boolean isOver(long value, long limit) {
+
+        return (limit > 0) && (value >= limit);
+    }
+
+    public @NotNull WebSocketMessage<ServerBusyContent> reject(@NotNull Reason reason) {
+
+        REJECTED.increment(reason);
+        return new WebSocketMessage<>(
+            MessageType.SERVER_BUSY.toString(),
+            new ServerBusyContent(reason.name().toLowerCase(), retryAfterSeconds));
+    }
+}
@@ -0,0 +1,38 @@
+package websocket;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import javax.websocket.RemoteEndpoint;
+import javax.websocket.Session;
+import java.util.function.Consumer;
+
+// Hands a text message to the container and returns at once, the completion gets null or the error once
+// the write is over. Only one message may be in flight per session.
+interface AsyncTextSender {
+
+    void sendText(@NotNull String text, @NotNull Consumer<Throwable> completion);
+
+    // Null when the session is not backed by a JSR-356 container session, its messages are then written blocking
+    static @Nullable AsyncTextSender of(@NotNull WebSocketSession session, long sendTimeLimitMillis) {
+
+        final WebSocketSession containerSession = WebSocketSessionDecorator.unwrap(session);
+        if (!(containerSession instanceof NativeWebSocketSession)) {
+            return null;
+        }
+
+        final Session nativeSession = ((NativeWebSocketSession) containerSession).getNativeSession(Session.class);
+        if (nativeSession == null) {
+            return null;
+        }
+
+        final RemoteEndpoint.Async endpoint = nativeSession.getAsyncRemote();
+        // The container fails the write itself once it is over the limit
+        endpoint.setSendTimeout(sendTimeLimitMillis);
+        return (String text, Consumer<Throwable> completion) ->
+            endpoint.sendText(text, result -> completion.accept(result.isOK() ? null : result.getException()));
+    }
+}
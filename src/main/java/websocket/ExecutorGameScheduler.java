@@ -0,0 +1,48 @@
+package websocket;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class ExecutorGameScheduler implements GameScheduler {
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final HandlerExecutor handlerExecutor;
+
+    public ExecutorGameScheduler(int threads) {
+        this(threads, HandlerExecutor.PLATFORM);
+    }
+
+    // Fired tasks run on the handler executor, the timer threads only keep time
+    public ExecutorGameScheduler(int threads, HandlerExecutor handlerExecutor) {
+
+        executor = new ScheduledThreadPoolExecutor(threads);
+        executor.setRemoveOnCancelPolicy(true);
+        this.handlerExecutor = handlerExecutor;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        return executor.schedule(handlerExecutor.offload(task), delay, unit);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return executor.scheduleAtFixedRate(handlerExecutor.offload(task), initialDelay, period, unit);
+    }
+
+    @Override
+    public int getPendingCount() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,211 @@
+package websocket;
+
+import metrics.Counter;
+import metrics.MetricsRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import socketmessages.MessageType;
+import socketmessages.WebSocketMessage;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Numbers a game's events and keeps those of the last RETENTION_MILLIS so a reconnecting player can catch up.
+// Events are numbered and queued for delivery under the log lock and written to the sockets outside it:
+// the sender that finds no delivery running sends everything queued, the others only queue,
+// so every player still sees events in sequence order and nobody waits on a slow socket for the lock.
+final class GameEventLog {
+
+    // Twice the resume grace period, a drop is often noticed some time after the last event arrived
+    static final long RETENTION_MILLIS = TimeUnit.SECONDS.toMillis(2 * GameManagerService.RESUME_GRACE_TIME);
+    // Bounds a log that fills faster than any drawing should, 30 points a second take 900
+    static final int CAPACITY = 2048;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GameEventLog.class);
+    private static final Counter REPLAYED_EVENTS = MetricsRegistry.DEFAULT.counter(
+        "crocodile_resume_replayed_events_total", "Game events replayed to resumed sessions.");
+
+    private final GameScheduler scheduler;
+    private final ArrayDeque<Event> events = new ArrayDeque<>();
+    private final ArrayDeque<Delivery> deliveries = new ArrayDeque<>();
+    private long sequence = 0;
+    private boolean delivering = false;
+
+    private static final class Event {
+
+        private final long sequence;
+        private final long timeMillis;
+        private final MessageType type;
+        private final TextMessage message;
+        private final String[] recipients;
+
+        Event(long sequence, long timeMillis, MessageType type, TextMessage message, String[] recipients) {
+
+            this.sequence = sequence;
+            this.timeMillis = timeMillis;
+            this.type = type;
+            this.message = message;
+            this.recipients = recipients;
+        }
+
+        boolean isAddressedTo(@NotNull String login) {
+            return Arrays.asList(recipients).contains(login);
+        }
+    }
+
+    // Events to write to sessions, resolved when they were queued
+    private static final class Delivery {
+
+        private final List<WebSocketSession> sessions;
+        private final List<Event> events;
+
+        Delivery(List<WebSocketSession> sessions, List<Event> events) {
+
+            this.sessions = sessions;
+            this.events = events;
+        }
+
+        void send() {
+
+            for (Event event : events) {
+                for (WebSocketSession session : sessions) {
+
+                    try {
+                        SessionOperator.sendMessage(session, event.message, event.type);
+                    } catch (RuntimeException exception) {
+                        LOGGER.error("Can't deliver game event {} to {}: {}",
+                            event.sequence, SessionOperator.getLogin(session), exception.toString());
+                    }
+                }
+            }
+        }
+    }
+
+    GameEventLog(@NotNull GameScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    synchronized long getSequence() {
+        return sequence;
+    }
+
+    // Recipients are resolved through their relations under the lock, so a session swapped in by
+    // a resume either gets the event directly or finds it in the log
+    void send(
+        @NotNull List<WebSocketSession> recipients,
+        @NotNull WebSocketMessage<?> message,
+        @NotNull GameRelationManager gameRelationManager) {
+
+        final String[] logins = recipients.stream()
+            .map(SessionOperator::getLogin)
+            .toArray(String[]::new);
+        final MessageType type = message.getTypeEnum();
+
+        synchronized (this) {
+
+            final TextMessage textMessage;
+            try {
+                textMessage = SessionOperator.encode(
+                    new WebSocketMessage<>(message.getTypeString(), message.getContent(), sequence + 1));
+
+            } catch (IOException exception) {
+                LOGGER.error("Can't encode game event {}.", message.getTypeString());
+                return;
+            }
+
+            ++sequence;
+            final long timeMillis = scheduler.currentTimeMillis();
+            final Event event = new Event(sequence, timeMillis, type, textMessage, logins);
+            events.addLast(event);
+            while ((events.size() > CAPACITY) || ((timeMillis - events.getFirst().timeMillis) > RETENTION_MILLIS)) {
+                events.removeFirst();
+            }
+
+            final ArrayList<WebSocketSession> sessions = new ArrayList<>(logins.length);
+            for (String login : logins) {
+
+                final GameRelationManager.GameRelation relation = gameRelationManager.getRelation(login);
+                if ((relation != null) && relation.getSession().isOpen()) {
+                    sessions.add(relation.getSession());
+                }
+            }
+
+            if (!queueDelivery(new Delivery(sessions, Collections.singletonList(event)))) {
+                return;
+            }
+        }
+
+        deliver();
+    }
+
+    // False when events after lastSequence are no longer all in the log.
+    // Replayed events are delivered in order with the live ones, a live event may reach the new session twice.
+    boolean replay(@NotNull WebSocketSession session, long lastSequence) {
+
+        final String login = SessionOperator.getLogin(session);
+
+        synchronized (this) {
+
+            if (lastSequence >= sequence) {
+                return lastSequence == sequence;
+            }
+
+            if (events.isEmpty() || (events.getFirst().sequence > (lastSequence + 1))) {
+                return false;
+            }
+
+            final ArrayList<Event> missed = new ArrayList<>();
+            for (Event event : events) {
+                if ((event.sequence > lastSequence) && event.isAddressedTo(login)) {
+                    missed.add(event);
+                }
+            }
+
+            REPLAYED_EVENTS.add(missed.size());
+            if (!queueDelivery(new Delivery(Collections.singletonList(session), missed))) {
+                return true;
+            }
+        }
+
+        deliver();
+        return true;
+    }
+
+    // True when the caller has to run the delivery itself
+    private boolean queueDelivery(@NotNull Delivery delivery) {
+
+        deliveries.addLast(delivery);
+        if (delivering) {
+            return false;
+        }
+
+        delivering = true;
+        return true;
+    }
+
+    private void deliver() {
+
+        while (true) {
+
+            final Delivery delivery;
+            synchronized (this) {
+
+                delivery = deliveries.pollFirst();
+                if (delivery == null) {
+                    delivering = false;
+                    return;
+                }
+            }
+
+            delivery.send();
+        }
+    }
+}
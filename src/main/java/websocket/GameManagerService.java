@@ -1,27 +1,49 @@
 package websocket;
 
-import database.AccountService;
-import database.AccountServiceDb;
+import database.AsyncAccountService;
+import database.AsyncDashesService;
+import database.DashesRecorder;
 import database.DashesService;
 import database.DashesServiceDb;
+import database.GameHistoryWriter;
 import entities.Dashes;
+import entities.DashesRecording;
 import entities.MultiplayerGame;
 import entities.SingleplayerGame;
+import metrics.Counter;
+import metrics.Histogram;
+import metrics.KeyedCounter;
+import metrics.LatencySummary;
+import metrics.MetricsRegistry;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketSession;
+import profiling.GameEvents;
 import socketmessages.*;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,47 +57,166 @@ public class GameManagerService {
     public static final int MULTIPLAYER_GAME_SCORE = 3;
     public static final int MULTIPLAYER_TIME_LIMIT = 120;
     public static final int QUEUE_REFRESH_TIME = 2;
+    public static final int SCHEDULER_THREADS = 8;
+    public static final int RESUME_GRACE_TIME = 15;
+    public static final int MEMORY_REPORT_GAMES_LIMIT = 100;
+    public static final int DATABASE_TIMEOUT_MILLIS = 2000;
+
+    // Linked map entry plus queue relation
+    private static final int QUEUE_RELATION_BYTES = 72;
+    // Latest pending singleplayer start of a session, any later request or exit replaces it
+    private static final String GAME_REQUEST_ATTR = "gameRequest";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GameManagerService.class);
+    private static final SampledLogger MESSAGE_LOGGER = new SampledLogger(LOGGER);
     private static final AtomicInteger ANSWER_ID_GEN = new AtomicInteger(1);
-
-    private final AccountService accountService;
+    private static final Histogram MATCHMAKING_WAIT = MetricsRegistry.DEFAULT.histogram(
+        "crocodile_matchmaking_wait_seconds", "Time from queueing to joining a multiplayer game.",
+        1, 2, 5, 10, 20, 30, 60, 120, 300);
+    private static final Counter REJECTED_POINTS = MetricsRegistry.DEFAULT.counter(
+        "crocodile_points_rejected_total", "Points dropped as malformed, not from the painter or over the game budget.");
+    private static final LatencySummary RATING_UPDATE_TIME = MetricsRegistry.DEFAULT.latencySummary(
+        "crocodile_rating_update_seconds", "Winner rating update time, last minute.");
+    private static final Counter DEFERRED_ROUNDS = MetricsRegistry.DEFAULT.counter(
+        "crocodile_matchmaking_deferred_total", "Matchmaking rounds that left players queued because admission control refused new games.");
+    private static final KeyedCounter DATABASE_FALLBACKS = MetricsRegistry.DEFAULT.keyedCounter(
+        "crocodile_database_fallbacks_total", "Game database calls that failed or timed out and took their fallback.", "operation");
+
+    private final AsyncAccountService accountService;
     private final DashesService dashesService;
+    private final AsyncDashesService asyncDashesService;
+    private final DashesRecorder dashesRecorder;
+    private final AdmissionControl admissionControl;
+    // Clock and matchmaking timer, shared with the first shard
+    private final GameScheduler scheduler;
+
+    private final GameShard[] shards;
+    // Login to shard index, the only structure all shards write to
+    private final Map<String, Integer> routes = new ConcurrentHashMap<>();
 
     //todo concurrent collections?
-    private final GameRelationManager gameRelationManager = new GameRelationManager();
     private final LinkedHashMap<String, QueueRelation> queuedPlayers = new LinkedHashMap<>();
-
-    private final SingleplayerScheduledGameManager singleplayerManager;
-    private final MultiplayerScheduledGameManager multiplayerManager;
+    // Queued players in total and by requested role, kept with the queue so gauges read them without the lock
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final AtomicInteger[] queuedCounts = new AtomicInteger[PlayerRole.values().length];
+    private final QueueManager queueManager = new QueueManager();
 
     @Autowired
     public GameManagerService(
-        AccountServiceDb accountService,
-        DashesServiceDb dashesService) {
+        AsyncAccountService accountService,
+        DashesServiceDb dashesService,
+        AsyncDashesService asyncDashesService,
+        DashesRecorder dashesRecorder,
+        GameHistoryWriter gameHistoryWriter,
+        PointBudget pointBudget,
+        AdmissionControl admissionControl,
+        int shardsCount,
+        HandlerExecutor handlerExecutor) {
+
+        this(accountService, dashesService, asyncDashesService, dashesRecorder, gameHistoryWriter, pointBudget,
+            admissionControl, createSchedulers(shardsCount, handlerExecutor));
+
+        for (GameShard shard : shards) {
+            shard.startLagProbe();
+        }
+
+        scheduler.scheduleAtFixedRate(
+            queueManager::checkQueue,
+            QUEUE_REFRESH_TIME, QUEUE_REFRESH_TIME, TimeUnit.SECONDS);
+    }
+
+    GameManagerService(
+        AsyncAccountService accountService,
+        DashesService dashesService,
+        AsyncDashesService asyncDashesService,
+        DashesRecorder dashesRecorder,
+        GameHistoryWriter gameHistoryWriter,
+        PointBudget pointBudget,
+        AdmissionControl admissionControl,
+        GameScheduler... schedulers) {
 
         this.accountService = accountService;
         this.dashesService = dashesService;
+        this.asyncDashesService = asyncDashesService;
+        this.dashesRecorder = dashesRecorder;
+        this.admissionControl = admissionControl;
+        this.scheduler = schedulers[0];
+
+        shards = new GameShard[schedulers.length];
+        for (int i = 0; i < shards.length; ++i) {
+            shards[i] = new GameShard(i, schedulers[i], routes, gameHistoryWriter, pointBudget);
+        }
+        for (int i = 0; i < queuedCounts.length; ++i) {
+            queuedCounts[i] = new AtomicInteger();
+        }
+    }
 
-        final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(8);
+    // The scheduler threads are split between the shards, each shard keeps at least one
+    private static GameScheduler[] createSchedulers(int shardsCount, HandlerExecutor handlerExecutor) {
 
-        singleplayerManager = new SingleplayerScheduledGameManager(scheduler, gameRelationManager);
-        multiplayerManager = new MultiplayerScheduledGameManager(scheduler, gameRelationManager);
+        final GameScheduler[] schedulers = new GameScheduler[Math.max(1, shardsCount)];
+        final int threads = Math.max(1, SCHEDULER_THREADS / schedulers.length);
 
-        scheduler.scheduleAtFixedRate(
-            new QueueManager()::checkQueue,
-            QUEUE_REFRESH_TIME, QUEUE_REFRESH_TIME, TimeUnit.SECONDS);
+        for (int i = 0; i < schedulers.length; ++i) {
+            schedulers[i] = new ExecutorGameScheduler(threads, handlerExecutor);
+        }
+
+        return schedulers;
+    }
+
+    // Gauges hold the service, so only the application's instance registers them; simulations and benchmarks don't
+    public void registerGauges(@NotNull MetricsRegistry registry) {
+
+        registry.gauge("crocodile_games_active", "Games in progress by type.", "type")
+            .set(GameType.SINGLEPLAYER.toString(), () -> sumShards(e -> e.getSingleplayerManager().getGamesCount()));
+        registry.gauge("crocodile_games_active", "Games in progress by type.", "type")
+            .set(GameType.MULTIPLAYER.toString(), () -> sumShards(e -> e.getMultiplayerManager().getGamesCount()));
+
+        for (GameShard shard : shards) {
+            registry.gauge("crocodile_shard_games", "Games in progress by shard.", "shard")
+                .set(String.valueOf(shard.getIndex()), shard::getGamesCount);
+            registry.gauge("crocodile_scheduler_lag_milliseconds", "How late the last timer probe ran, by shard.", "shard")
+                .set(String.valueOf(shard.getIndex()), shard::getSchedulerLagMillis);
+        }
+
+        for (PlayerRole role : PlayerRole.values()) {
+            registry.gauge("crocodile_queued_players", "Players waiting for a multiplayer game by requested role.", "role")
+                .set(role.name(), () -> getQueuedCount(role));
+        }
+
+        registry.gauge("crocodile_scheduler_queue_depth", "Tasks waiting in the game scheduler.")
+            .set(() -> sumShards(e -> e.getScheduler().getPendingCount()));
+
+        registry.gauge("crocodile_retained_bytes", "Estimated heap retained by game structures.", "structure")
+            .setAll(() -> {
+
+                final LinkedHashMap<String, Long> bytes = new LinkedHashMap<>();
+                getMemoryUsage().forEach(e -> bytes.put(e.getName(), e.getBytes()));
+                return bytes;
+            });
+    }
+
+    private long sumShards(@NotNull ToLongFunction<GameShard> value) {
+
+        long sum = 0;
+        for (GameShard shard : shards) {
+            sum += value.applyAsLong(shard);
+        }
+
+        return sum;
     }
 
     private static final class QueueRelation {
 
         private final PlayerRole role;
         private final WebSocketSession session;
+        private final long queuedMillis;
 
-        QueueRelation(PlayerRole role, WebSocketSession session) {
+        QueueRelation(PlayerRole role, WebSocketSession session, long queuedMillis) {
 
             this.role = role;
             this.session = session;
+            this.queuedMillis = queuedMillis;
         }
 
         public PlayerRole getRole() {
@@ -85,19 +226,110 @@ public class GameManagerService {
         public WebSocketSession getSession() {
             return session;
         }
+
+        public long getQueuedMillis() {
+            return queuedMillis;
+        }
+    }
+
+    // Players taken out of the queue for one new game
+    private static final class QueueMatch {
+
+        private final QueueRelation painter;
+        private final ArrayList<QueueRelation> guessers;
+
+        QueueMatch(QueueRelation painter, ArrayList<QueueRelation> guessers) {
+
+            this.painter = painter;
+            this.guessers = guessers;
+        }
+
+        public QueueRelation getPainter() {
+            return painter;
+        }
+
+        public ArrayList<QueueRelation> getGuessers() {
+            return guessers;
+        }
     }
 
     private final class QueueManager {
 
-        private volatile boolean running = false;
+        private final AtomicBoolean running = new AtomicBoolean(false);
 
         private void checkQueue() {
 
-            if (running) {
+            if (!running.compareAndSet(false, true)) {
                 return;
             }
 
-            running = true;
+            try {
+                matchQueuedPlayers();
+
+            } catch (RuntimeException exception) {
+                // A periodic task that throws is never run again
+                LOGGER.error("Matchmaking round failed", exception);
+
+            } finally {
+                running.set(false);
+            }
+        }
+
+        // Only the queue is read and changed under the service lock, games are created and joined outside it
+        private void matchQueuedPlayers() {
+
+            final long startNanos = System.nanoTime();
+            final ArrayList<QueueMatch> matches = new ArrayList<>();
+            final ArrayList<QueueRelation> waitingGuessers = new ArrayList<>();
+            final int queuedCount;
+
+            synchronized (GameManagerService.this) {
+
+                queuedCount = queuedPlayers.size();
+                takeMatches(matches, waitingGuessers);
+            }
+
+            int gamesCreated = 0;
+            int playersMatched = 0;
+            for (int i = 0; i < matches.size(); ++i) {
+
+                final QueueMatch match = matches.get(i);
+                final String word;
+                try {
+                    word = dashesService.getRandomDashes().getWord();
+                } catch (RuntimeException exception) {
+
+                    // The players wait for the next round, the following matches would fail the same way
+                    LOGGER.error("Can't get a word for a multiplayer game: {}", exception.toString());
+                    for (QueueMatch failedMatch : matches.subList(i, matches.size())) {
+
+                        requeue(failedMatch.getGuessers());
+                        requeue(Collections.singletonList(failedMatch.getPainter()));
+                    }
+                    break;
+                }
+
+                final MultiplayerGame game = createMultiplayerGame(word, match.getPainter(), match.getGuessers());
+                startTimer(game.getId(), GameType.MULTIPLAYER);
+                ++gamesCreated;
+                playersMatched += match.getGuessers().size() + 1;
+
+                match.getGuessers().forEach(e -> checkMatchedSession(e.getSession()));
+                checkMatchedSession(match.getPainter().getSession());
+            }
+
+            for (GameShard shard : shards) {
+
+                if (waitingGuessers.isEmpty()) {
+                    break;
+                }
+                playersMatched += distributeToAvailableGames(shard, waitingGuessers);
+            }
+
+            GameEvents.matchmakingRound(queuedCount, gamesCreated, playersMatched, startNanos);
+        }
+
+        private void takeMatches(ArrayList<QueueMatch> matches, ArrayList<QueueRelation> waitingGuessers) {
 
             final ArrayList<String> possiblePainters = new ArrayList<>();
             possiblePainters.addAll(
@@ -113,8 +345,16 @@ public class GameManagerService {
                     .map(e -> SessionOperator.getLogin(e.getSession()))
                     .collect(Collectors.toList()));
 
+            final long gamesCount = getGamesCount();
             while (!possiblePainters.isEmpty()) {
 
+                // Waiting players join running games below, new games wait for the next round
+                if (admissionControl.checkGame(gamesCount + matches.size(), getSchedulerLagMillis()) != null) {
+
+                    DEFERRED_ROUNDS.increment();
+                    break;
+                }
+
                 final String painterLogin = possiblePainters.get(0);
                 final boolean canBeGuesser = possibleGuessers.remove(painterLogin);
                 possiblePainters.remove(painterLogin);
@@ -125,8 +365,11 @@ public class GameManagerService {
                     final int playersCount = Math.min(possibleGuessers.size(), MULTIPLAYER_UPPER_GUESSERS_LIMIT);
                     guesserLogins.addAll(possibleGuessers.subList(0, playersCount));
                     possibleGuessers.removeAll(guesserLogins);
-                    final MultiplayerGame game = createMultiplayerGame(painterLogin, guesserLogins);
-                    startTimer(game.getId(), GameType.MULTIPLAYER);
+                    possiblePainters.removeAll(guesserLogins);
+
+                    final ArrayList<QueueRelation> guessers = new ArrayList<>();
+                    guesserLogins.forEach(e -> guessers.add(removeQueued(e)));
+                    matches.add(new QueueMatch(removeQueued(painterLogin), guessers));
 
                 } else {
 
@@ -138,77 +381,330 @@ public class GameManagerService {
                 }
             }
 
-            if (!possibleGuessers.isEmpty() && !multiplayerManager.getScheduledGames().isEmpty()) {
-                distributeToAvailableGames(possibleGuessers);
-            }
-
-            running = false;
+            possibleGuessers.forEach(e -> waitingGuessers.add(queuedPlayers.get(e)));
         }
 
-        private void distributeToAvailableGames(ArrayList<String> guessers) {
+        // Waiting guessers stay queued until they are claimed, so those who left in the meantime are skipped
+        private int distributeToAvailableGames(GameShard shard, ArrayList<QueueRelation> guessers) {
 
+            final MultiplayerScheduledGameManager multiplayerManager = shard.getMultiplayerManager();
+            final GameRelationManager gameRelationManager = shard.getRelations();
             final ArrayList<MultiplayerGame> availableGames = new ArrayList<>(multiplayerManager.getScheduledGames().stream()
+                .filter(ScheduledGame::isRunning)
                 .map(e -> (MultiplayerGame) e.getGame())
                 .filter(e -> e.getUserLogins().size() < MULTIPLAYER_PLAYERS_LIMIT)
                 .collect(Collectors.toList()));
 
+            int playersJoined = 0;
             for (MultiplayerGame game : availableGames) {
 
-                final int freeSpace = MULTIPLAYER_PLAYERS_LIMIT - game.getUserLogins().size();
-                final ArrayList<String> playersToConnect = new ArrayList<>(guessers.subList(0, Math.min(guessers.size(), freeSpace)));
-                guessers.removeAll(playersToConnect);
-
                 final ScheduledGame<MultiplayerGame> scheduledGame = multiplayerManager.getScheduledGame(game.getId());
                 if (scheduledGame == null) {
                     continue;
                 }
+
+                final int freeSpace = MULTIPLAYER_PLAYERS_LIMIT - game.getUserLogins().size();
+                final ArrayList<QueueRelation> playersToConnect = new ArrayList<>();
+                while (!guessers.isEmpty() && (playersToConnect.size() < freeSpace)) {
+
+                    final QueueRelation queueRelation = guessers.remove(0);
+                    if (claimQueued(queueRelation)) {
+                        playersToConnect.add(queueRelation);
+                    }
+                }
+
+                if (playersToConnect.isEmpty()) {
+                    continue;
+                }
+
+                // The game may have been won or timed out while the players were claimed
+                if (!scheduledGame.isRunning()) {
+
+                    requeue(playersToConnect);
+                    continue;
+                }
+
                 final ArrayList<Integer> availableIds = gameRelationManager.getAvailableIds(scheduledGame);
                 final ArrayList<WebSocketSession> initialSessions = gameRelationManager.getGameSessions(scheduledGame);
+                final ArrayList<String> connectedLogins = new ArrayList<>();
 
-                for (String player : playersToConnect) {
+                for (QueueRelation queueRelation : playersToConnect) {
 
-                    final WebSocketSession session = queuedPlayers.get(player).getSession();
+                    final WebSocketSession session = queueRelation.getSession();
+                    final String player = SessionOperator.getLogin(session);
+                    observeWait(queueRelation);
                     final int playerId = availableIds.get(0);
-                    availableGames.remove(0);
+                    availableIds.remove(0);
 
                     game.getUserLogins().add(player);
                     gameRelationManager.addGuesserRelation(
                         session, scheduledGame, playerId);
+                    connectedLogins.add(player);
 
                     final WebSocketMessage<BaseGameContent> gameState = scheduledGame.getJoinGameMessage(player);
-                    SessionOperator.sendMessage(session, gameState);
+                    if (gameState != null) {
+                        SessionOperator.sendMessage(session, gameState);
+                    }
                 }
 
-                sendPlayersConnected(initialSessions, playersToConnect);
+                sendPlayersConnected(scheduledGame, initialSessions, connectedLogins);
+                playersToConnect.forEach(e -> checkMatchedSession(e.getSession()));
+                playersJoined += playersToConnect.size();
 
-                playersToConnect.forEach(queuedPlayers::remove);
                 if (guessers.isEmpty()) {
                     break;
                 }
             }
+
+            return playersJoined;
+        }
+    }
+
+    void checkQueue() {
+        queueManager.checkQueue();
+    }
+
+    private synchronized boolean claimQueued(QueueRelation queueRelation) {
+
+        final String login = SessionOperator.getLogin(queueRelation.getSession());
+        if (queuedPlayers.get(login) != queueRelation) {
+            return false;
+        }
+
+        removeQueued(login);
+        return true;
+    }
+
+    // Players who disconnected or queued again since they were taken out of the queue keep what they have now
+    private synchronized void requeue(List<QueueRelation> players) {
+
+        for (QueueRelation queueRelation : players) {
+
+            final String login = SessionOperator.getLogin(queueRelation.getSession());
+            if (queueRelation.getSession().isOpen() && !queuedPlayers.containsKey(login) && (getRelation(login) == null)) {
+                putQueued(login, queueRelation);
+            }
+        }
+    }
+
+    // Queue changes go through these two under the service lock, so the counters match the queue
+    private void putQueued(String login, QueueRelation queueRelation) {
+
+        final QueueRelation previous = queuedPlayers.put(login, queueRelation);
+        if (previous != null) {
+            queuedCounts[previous.getRole().ordinal()].decrementAndGet();
+        } else {
+            queuedCount.incrementAndGet();
+        }
+        queuedCounts[queueRelation.getRole().ordinal()].incrementAndGet();
+    }
+
+    private @Nullable QueueRelation removeQueued(String login) {
+
+        final QueueRelation queueRelation = queuedPlayers.remove(login);
+        if (queueRelation != null) {
+            queuedCount.decrementAndGet();
+            queuedCounts[queueRelation.getRole().ordinal()].decrementAndGet();
+        }
+
+        return queueRelation;
+    }
+
+    // A matched player may have disconnected after leaving the queue and before the game relation existed,
+    // that disconnect is handled now like one from a running game
+    private void checkMatchedSession(WebSocketSession session) {
+
+        if (!session.isOpen()) {
+            disconnectSession(session);
+        }
+    }
+
+    public boolean admitSingleplayerGame(WebSocketSession session) {
+
+        final AdmissionControl.Reason reason = admissionControl.checkGame(getGamesCount(), getSchedulerLagMillis());
+        if (reason != null) {
+
+            rejectRequest(session, reason);
+            return false;
+        }
+
+        return true;
+    }
+
+    // Players with a multiplayer game to resume are let in, so a busy node does not cut them out of it
+    public boolean admitSession(WebSocketSession session, long openSessions) {
+
+        final GameRelationManager.GameRelation relation = getRelation(SessionOperator.getLogin(session));
+        if ((relation != null) && (relation.getType() == GameType.MULTIPLAYER)) {
+            return true;
+        }
+
+        final AdmissionControl.Reason reason = admissionControl.checkSession(openSessions);
+        if (reason != null) {
+
+            rejectRequest(session, reason);
+            return false;
+        }
+
+        return true;
+    }
+
+    private void rejectRequest(WebSocketSession session, AdmissionControl.Reason reason) {
+
+        MESSAGE_LOGGER.warn("Turned away user {}: {}.", SessionOperator.getLogin(session), reason);
+        SessionOperator.sendMessage(session, admissionControl.reject(reason));
+    }
+
+    long getGamesCount() {
+        return sumShards(GameShard::getGamesCount);
+    }
+
+    private long getSchedulerLagMillis() {
+
+        long lag = 0;
+        for (GameShard shard : shards) {
+            lag = Math.max(lag, shard.getSchedulerLagMillis());
         }
+
+        return lag;
     }
 
-    public SingleplayerGame createSingleplayerGame(WebSocketSession session) {
+    // The word query runs on the database executor; when it fails or is slow the game starts with a cached word.
+    // Completes with null when the session closed or made another request while the word was loading.
+    public CompletableFuture<SingleplayerGame> createSingleplayerGame(WebSocketSession session) {
 
         clearData(session);
         final String login = SessionOperator.getLogin(session);
-        final Dashes dashes = dashesService.getRandomDashes(login);
+        final Object request = new Object();
+        session.getAttributes().put(GAME_REQUEST_ATTR, request);
+
+        return withFallback(asyncDashesService.getRandomDashes(login), "random_dashes", this::getCachedDashes)
+            .thenApply((Dashes dashes) -> {
 
-        LOGGER.info("Got dashes #{}, {} for {}", dashes.getId(), dashes.getWord(), login);
+                if (!session.isOpen() || !session.getAttributes().remove(GAME_REQUEST_ATTR, request)) {
+                    LOGGER.info("Dropped singleplayer game request of {}, it was superseded.", login);
+                    return null;
+                }
 
-        final SingleplayerGame game = new SingleplayerGame(login, dashes);
-        final ScheduledGame scheduledGame = singleplayerManager.createScheduledGame(game);
+                LOGGER.info("Got dashes #{}, {} for {}", dashes.getId(), dashes.getWord(), login);
+                clearData(session);
 
-        gameRelationManager.addGuesserRelation(session, scheduledGame, 1);
-        return game;
+                final SingleplayerGame game = new SingleplayerGame(login, dashes);
+                final GameShard shard = getGameShard(game.getId());
+                final ScheduledGame scheduledGame = shard.getSingleplayerManager().createScheduledGame(game);
+
+                shard.getRelations().addGuesserRelation(session, scheduledGame, 1);
+                return game;
+            });
     }
 
-    public synchronized void queueForMultiplayerGame(WebSocketSession session, PlayerRole role) {
+    private @NotNull Dashes getCachedDashes() throws DataRetrievalFailureException {
+
+        final Dashes dashes = dashesService.getCachedDashes();
+        if (dashes == null) {
+            throw new DataRetrievalFailureException("dashes catalog is not loaded");
+        }
+
+        return dashes;
+    }
+
+    // Completes with the call's result, or with the fallback once the call fails or outlives DATABASE_TIMEOUT_MILLIS
+    private <T> CompletableFuture<T> withFallback(
+        @NotNull CompletableFuture<T> call, @NotNull String operation, @NotNull Supplier<T> fallback) {
+
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final ScheduledFuture<?> timeout = scheduler.schedule(
+            () -> completeWithFallback(result, operation, fallback, null),
+            DATABASE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        call.whenComplete((T value, Throwable error) -> {
+
+            timeout.cancel(false);
+            if (error == null) {
+                result.complete(value);
+            } else {
+                completeWithFallback(result, operation, fallback, error);
+            }
+        });
+
+        return result;
+    }
+
+    private static <T> void completeWithFallback(
+        @NotNull CompletableFuture<T> result, @NotNull String operation, @NotNull Supplier<T> fallback, @Nullable Throwable error) {
+
+        if (result.isDone()) {
+            return;
+        }
+
+        try {
+            if (result.complete(fallback.get())) {
+
+                DATABASE_FALLBACKS.add(operation, 1);
+                LOGGER.warn("Database call {} {}, fallback used.", operation,
+                    (error != null) ? ("failed: " + error) : "timed out");
+            }
+
+        } catch (RuntimeException exception) {
+            result.completeExceptionally(exception);
+        }
+    }
+
+    // The rejection and the previous game's cleanup send messages, so only the queue change holds the lock
+    public void queueForMultiplayerGame(WebSocketSession session, PlayerRole role) {
+
+        final AdmissionControl.Reason reason = admissionControl.checkQueue(queuedCount.get(), getSchedulerLagMillis());
+        if (reason != null) {
+
+            rejectRequest(session, reason);
+            return;
+        }
 
         clearData(session);
         final String login = SessionOperator.getLogin(session);
-        queuedPlayers.put(login, new QueueRelation(role, session));
+        synchronized (this) {
+            putQueued(login, new QueueRelation(role, session, scheduler.currentTimeMillis()));
+        }
+    }
+
+    int getQueuedCount(PlayerRole role) {
+        return queuedCounts[role.ordinal()].get();
+    }
+
+    public @NotNull MemoryReport getMemoryReport(int gamesLimit) {
+
+        final PriorityQueue<MemoryReport.GameUsage> heaviest = new PriorityQueue<>(
+            Comparator.comparingLong(MemoryReport.GameUsage::getBytes));
+        for (GameShard shard : shards) {
+            shard.getSingleplayerManager().collectHeaviestGames(heaviest, gamesLimit);
+            shard.getMultiplayerManager().collectHeaviestGames(heaviest, gamesLimit);
+        }
+
+        final ArrayList<MemoryReport.GameUsage> heaviestGames = new ArrayList<>(heaviest);
+        heaviestGames.sort(Comparator.comparingLong(MemoryReport.GameUsage::getBytes).reversed());
+
+        return new MemoryReport(getMemoryUsage(), heaviestGames);
+    }
+
+    private @NotNull List<MemoryReport.Usage> getMemoryUsage() {
+
+        final long relationsCount = sumShards(e -> e.getRelations().getRelationsCount());
+        final long singleplayerCount = sumShards(e -> e.getSingleplayerManager().getGamesCount());
+        final long multiplayerCount = sumShards(e -> e.getMultiplayerManager().getGamesCount());
+        final int queuedCount = this.queuedCount.get();
+
+        return Arrays.asList(
+            new MemoryReport.Usage("related_games",
+                relationsCount, relationsCount * GameRelationManager.RELATION_BYTES),
+            new MemoryReport.Usage("queued_players",
+                queuedCount, (long) queuedCount * QUEUE_RELATION_BYTES),
+            new MemoryReport.Usage("singleplayer_games",
+                singleplayerCount, singleplayerCount * ScheduledGame.GAME_BYTES),
+            new MemoryReport.Usage("multiplayer_games",
+                multiplayerCount, multiplayerCount * ScheduledGame.GAME_BYTES),
+            new MemoryReport.Usage("point_buffers",
+                sumShards(e -> e.getSingleplayerManager().getPointsCount() + e.getMultiplayerManager().getPointsCount()),
+                sumShards(e -> e.getSingleplayerManager().getPointsBytes() + e.getMultiplayerManager().getPointsBytes())));
     }
 
     public void addPoint(WebSocketSession session, PicturePointContent point) {
@@ -217,20 +713,32 @@ public class GameManagerService {
         final ScheduledGame scheduledGame = getUserScheduledGame(login);
 
         if ((scheduledGame == null) || (scheduledGame.getType() == GameType.SINGLEPLAYER)) {
-            LOGGER.warn("User {} tried to add point to a non-existent multiplayer game.", login);
+            MESSAGE_LOGGER.warn("User {} tried to add point to a non-existent multiplayer game.", login);
+            return;
+        }
+
+        final GameRelationManager gameRelationManager = getRelations(scheduledGame);
+        if (gameRelationManager.getRelation(login).getRole() != PlayerRole.PAINTER) {
+            MESSAGE_LOGGER.warn("User {} tried to add point without being a painter.", login);
+            REJECTED_POINTS.increment();
+            return;
+        }
+
+        if (!scheduledGame.addPoint(point)) {
+            MESSAGE_LOGGER.warn("Point from user {} rejected by game #{} budget.", login, scheduledGame.getGame().getId());
+            REJECTED_POINTS.increment();
             return;
         }
 
         final ArrayList<WebSocketSession> recieverSessions = gameRelationManager.getGameSessions(scheduledGame);
         recieverSessions.removeIf(e -> SessionOperator.getLogin(e).equals(login));
-        scheduledGame.addPoint(point);
-        recieverSessions.forEach(
-            (WebSocketSession reciever) ->
-                SessionOperator.sendMessage(
-                    reciever,
-                    new WebSocketMessage<>(
-                        MessageType.NEW_POINT.toString(),
-                        point)));
+
+        final long startNanos = System.nanoTime();
+        scheduledGame.getEvents().send(
+            recieverSessions,
+            new WebSocketMessage<>(MessageType.NEW_POINT.toString(), point),
+            gameRelationManager);
+        GameEvents.broadcast(MessageType.NEW_POINT, recieverSessions.size(), startNanos);
     }
 
     public void sendGameState(WebSocketSession session) {
@@ -239,13 +747,14 @@ public class GameManagerService {
         final ScheduledGame scheduledGame = getUserScheduledGame(login);
 
         if (scheduledGame == null) {
-            LOGGER.warn("Tried to send state to user {} for a non-existent game.", login);
+            MESSAGE_LOGGER.warn("Tried to send state to user {} for a non-existent game.", login);
             return;
         }
 
-        SessionOperator.sendMessage(
-            session,
-            scheduledGame.getGameStateMessage(login));
+        final WebSocketMessage<BaseGameContent> gameState = scheduledGame.getGameStateMessage(login);
+        if (gameState != null) {
+            SessionOperator.sendMessage(session, gameState);
+        }
     }
 
     public void startTimer(int gameId, GameType gameType) {
@@ -257,63 +766,88 @@ public class GameManagerService {
             return;
         }
 
-        final ArrayList<WebSocketSession> playerSessions = gameRelationManager.getGameSessions(scheduledGame);
+        if (!scheduledGame.start()) {
+            LOGGER.warn("Tried to start timer for a {} game #{} in state {}.",
+                gameType.toString().toUpperCase(), gameId, scheduledGame.getState());
+            return;
+        }
+
+        final ArrayList<WebSocketSession> playerSessions = getRelations(scheduledGame).getGameSessions(scheduledGame);
+        final long startNanos = System.nanoTime();
 
         for (WebSocketSession session : playerSessions) {
 
-            final String login = SessionOperator.getLogin(session);
-            SessionOperator.sendMessage(session, scheduledGame.getJoinGameMessage(login));
+            final WebSocketMessage<BaseGameContent> gameState =
+                scheduledGame.getJoinGameMessage(SessionOperator.getLogin(session));
+            if (gameState != null) {
+                SessionOperator.sendMessage(session, gameState);
+            }
         }
 
+        GameEvents.broadcast(
+            (gameType == GameType.SINGLEPLAYER) ? MessageType.START_SINGLEPLAYER_GAME : MessageType.START_MULTIPLAYER_GAME,
+            playerSessions.size(), startNanos);
+
         scheduledGame.rechedule(
             () -> scheduledGame.runLoseTask(GameResult.GAME_LOST),
             scheduledGame.getFinishTime());
 
         LOGGER.info("{} game #{} started, timer: {}.",
             gameType.toString().toUpperCase(), scheduledGame.getGame().getId(), scheduledGame.getTimeLeft());
+        GameEvents.gameStarted(gameType.toString(), gameId, playerSessions.size());
     }
 
-    public synchronized void checkAnswer(WebSocketSession session, @Nullable String word) {
+    // Runs concurrently with the timer and exits, the game state decides who ends the game
+    public void checkAnswer(WebSocketSession session, @Nullable String word) {
 
         final String login = SessionOperator.getLogin(session);
-        final ScheduledGame scheduledGame = getUserScheduledGame(login);
+        // Kept from the lookup, an exit may remove the relation while the answer is checked
+        final GameRelationManager.GameRelation relation = getRelation(login);
+        final ScheduledGame scheduledGame = (relation != null) ?
+            getScheduledGame(relation.getGameId(), relation.getType()) :
+            null;
 
         if (scheduledGame == null) {
-            LOGGER.warn("Got answer to a game that does not exist from user {}", login);
+            MESSAGE_LOGGER.warn("Got answer to a game that does not exist from user {}", login);
             return;
         }
 
-        if (!scheduledGame.cancelShutdown()) {
+        if (!scheduledGame.isRunning()) {
             return;
         }
 
         LOGGER.debug("Time left: {}.", scheduledGame.getTimeLeft());
 
         final boolean answerCorrect = scheduledGame.getGame().isCorrectAnswer(word);
-        final int playerNumber = gameRelationManager.getRelation(login).getPlayerNumber();
-        final PlayerInfo senderInfo = new PlayerInfo(login, playerNumber);
-        resendAnswer(gameRelationManager.getGameSessions(scheduledGame), word, answerCorrect, senderInfo);
-
-        if (answerCorrect) {
+        final PlayerInfo senderInfo = new PlayerInfo(login, relation.getPlayerNumber());
+        resendAnswer(scheduledGame, word, answerCorrect, senderInfo);
 
+        if (answerCorrect && scheduledGame.beginEnd()) {
             runWinTask(scheduledGame, login);
-
-        } else {
-            scheduledGame.resumeShutdown();
         }
     }
 
     public void clearData(WebSocketSession session) {
 
         final String login = SessionOperator.getLogin(session);
+        session.getAttributes().remove(GAME_REQUEST_ATTR);
         final ScheduledGame scheduledGame = getUserScheduledGame(login);
-        queuedPlayers.remove(login);
+        synchronized (this) {
+            removeQueued(login);
+        }
 
         if (scheduledGame != null) {
 
-            final PlayerRole role = gameRelationManager.getRelation(login).getRole();
-            gameRelationManager.removeRelation(login);
+            final GameShard shard = getGameShard(scheduledGame.getGame().getId());
+            final GameRelationManager.GameRelation relation = shard.getRelations().getRelation(login);
+            if (relation == null) {
+                // The game ended meanwhile and took the relation with it
+                return;
+            }
+
+            final PlayerRole role = relation.getRole();
             final int gameId = scheduledGame.getGame().getId();
+            shard.getRelations().removeRelation(login, gameId);
 
             if (scheduledGame.getType() == GameType.MULTIPLAYER) {
 
@@ -327,38 +861,123 @@ public class GameManagerService {
                 }
             }
 
-            if (scheduledGame.getType() == GameType.SINGLEPLAYER) {
+            if ((scheduledGame.getType() == GameType.SINGLEPLAYER) && scheduledGame.abandon()) {
 
-                singleplayerManager.removeScheduledGame(gameId);
+                shard.getSingleplayerManager().removeScheduledGame(gameId);
             }
         }
     }
 
+    // A multiplayer player that lost its connection keeps the game for the grace period and may resume it
+    public void connectSession(WebSocketSession session) {
+
+        final GameRelationManager.GameRelation relation = getRelation(SessionOperator.getLogin(session));
+        if ((relation == null) || (relation.getType() != GameType.MULTIPLAYER)) {
+            clearData(session);
+        }
+    }
+
+    public void disconnectSession(WebSocketSession session) {
+
+        final String login = SessionOperator.getLogin(session);
+        synchronized (this) {
+            final QueueRelation queueRelation = queuedPlayers.get(login);
+            if ((queueRelation != null) && (queueRelation.getSession() == session)) {
+                removeQueued(login);
+            }
+        }
+
+        final GameRelationManager.GameRelation relation = getRelation(login);
+        if ((relation == null) || (relation.getSession() != session)) {
+            return;
+        }
+
+        if (relation.getType() == GameType.MULTIPLAYER) {
+
+            LOGGER.info("User {} disconnected from game #{}, waiting {} seconds for resume.",
+                login, relation.getGameId(), RESUME_GRACE_TIME);
+            getGameShard(relation.getGameId()).getScheduler()
+                .schedule(() -> expireSession(session), RESUME_GRACE_TIME, TimeUnit.SECONDS);
+
+        } else {
+            clearData(session);
+        }
+    }
+
+    private void expireSession(WebSocketSession session) {
+
+        final GameRelationManager.GameRelation relation = getRelation(SessionOperator.getLogin(session));
+        if ((relation != null) && (relation.getSession() == session)) {
+
+            LOGGER.info("User {} did not resume game #{}.", SessionOperator.getLogin(session), relation.getGameId());
+            clearData(session);
+        }
+    }
+
+    public void resumeGame(WebSocketSession session, @Nullable String token, long lastSequence) {
+
+        final String login = SessionOperator.getLogin(session);
+        final ScheduledGame scheduledGame = getUserScheduledGame(login);
+        final GameRelationManager.GameRelation previousRelation = ((scheduledGame != null) && (token != null)) ?
+            getRelations(scheduledGame).resumeRelation(login, token, session) :
+            null;
+
+        if (previousRelation == null) {
+
+            MESSAGE_LOGGER.warn("User {} failed to resume a game.", login);
+            SessionOperator.sendMessage(session, new WebSocketMessage<>(
+                MessageType.RESUME_FAILED.toString(), new ResumeContent(null, lastSequence)));
+            return;
+        }
+
+        if (!scheduledGame.getEvents().replay(session, lastSequence)) {
+
+            final WebSocketMessage<BaseGameContent> gameState = scheduledGame.getGameStateMessage(login);
+            if (gameState != null) {
+                SessionOperator.sendMessage(session, gameState);
+            }
+        }
+
+        LOGGER.info("User {} resumed game #{} after event {}.", login, previousRelation.getGameId(), lastSequence);
+        closeSession(previousRelation.getSession());
+    }
+
+    private static void closeSession(WebSocketSession session) {
+
+        try {
+            if (session.isOpen()) {
+                session.close(CloseStatus.NORMAL);
+            }
+
+        } catch (IOException exception) {
+            LOGGER.warn("Can't close replaced session: {}", exception.toString());
+        }
+    }
+
     public void addAnswerVote(WebSocketSession session, int answerId, boolean isPositive) {
 
         final String login = SessionOperator.getLogin(session);
         final ScheduledGame scheduledGame = getUserScheduledGame(login);
 
         if (scheduledGame == null) {
-            LOGGER.warn("User {} tried to add answer vote for a non-existent game.", login);
+            MESSAGE_LOGGER.warn("User {} tried to add answer vote for a non-existent game.", login);
             return;
         }
 
+        final GameRelationManager gameRelationManager = getRelations(scheduledGame);
         final ArrayList<WebSocketSession> sessions = gameRelationManager.getGameSessions(scheduledGame);
         sessions.remove(session);
-        final AnswerVoteContent vote = new AnswerVoteContent(answerId, isPositive);
 
-        sessions.forEach(
-            (WebSocketSession reciever) ->
-                SessionOperator.sendMessage(
-                    reciever,
-                    new WebSocketMessage<>(
-                        MessageType.NEW_VOTE.toString(),
-                        vote)));
+        scheduledGame.getEvents().send(
+            sessions,
+            new WebSocketMessage<>(MessageType.NEW_VOTE.toString(), new AnswerVoteContent(answerId, isPositive)),
+            gameRelationManager);
     }
 
-    private void sendPlayersConnected(ArrayList<WebSocketSession> initialPlayers, ArrayList<String> connectedPlayers) {
+    private void sendPlayersConnected(
+        ScheduledGame scheduledGame, ArrayList<WebSocketSession> initialPlayers, ArrayList<String> connectedPlayers) {
 
+        final GameRelationManager gameRelationManager = getRelations(scheduledGame);
         final ArrayList<PlayerInfo> playerInfos = new ArrayList<>(
             connectedPlayers.stream()
                 .map(e -> new PlayerInfo(e, gameRelationManager.getRelation(e).getPlayerNumber()))
@@ -366,104 +985,147 @@ public class GameManagerService {
 
         final PlayerConnectContent playerConnectContent = new PlayerConnectContent(playerInfos);
 
-        initialPlayers.forEach(
-            (WebSocketSession reciever) ->
-                SessionOperator.sendMessage(
-                    reciever,
-                    new WebSocketMessage<>(
-                        MessageType.PLAYERS_CONNECT.toString(),
-                        playerConnectContent)));
+        final long startNanos = System.nanoTime();
+        scheduledGame.getEvents().send(
+            initialPlayers,
+            new WebSocketMessage<>(MessageType.PLAYERS_CONNECT.toString(), playerConnectContent),
+            gameRelationManager);
+        GameEvents.broadcast(MessageType.PLAYERS_CONNECT, initialPlayers.size(), startNanos);
     }
 
     private void disconnectPlayer(@NotNull ScheduledGame<MultiplayerGame> scheduledGame, String login) {
 
         final MultiplayerGame game = scheduledGame.getGame();
         final int gameId = game.getId();
+        final GameShard shard = getGameShard(gameId);
+        final GameRelationManager gameRelationManager = shard.getRelations();
         game.getUserLogins().remove(login);
 
         if (game.getUserLogins().isEmpty()) {
-            multiplayerManager.removeScheduledGame(gameId);
-        } else {
 
-            final ArrayList<WebSocketSession> sessions = gameRelationManager.getGameSessions(scheduledGame);
-            final PlayerDisconnectContent playerDisconnectContent = new PlayerDisconnectContent(login);
+            if (scheduledGame.abandon()) {
+                shard.getMultiplayerManager().removeScheduledGame(gameId);
+            }
+        } else {
 
-            sessions.forEach(
-                (WebSocketSession reciever) ->
-                    SessionOperator.sendMessage(
-                        reciever,
-                        new WebSocketMessage<>(
-                            MessageType.PLAYER_DISCONNECT.toString(),
-                            playerDisconnectContent)));
+            scheduledGame.getEvents().send(
+                gameRelationManager.getGameSessions(scheduledGame),
+                new WebSocketMessage<>(MessageType.PLAYER_DISCONNECT.toString(), new PlayerDisconnectContent(login)),
+                gameRelationManager);
         }
     }
 
-    @SuppressWarnings("UnnecessaryLocalVariable")
-    private MultiplayerGame createMultiplayerGame(String painterLogin, ArrayList<String> guesserLogins) {
+    private MultiplayerGame createMultiplayerGame(String word, QueueRelation painter, ArrayList<QueueRelation> guessers) {
 
-        final ArrayList<String> players = guesserLogins;
-        players.add(painterLogin);
-        final String word = dashesService.getRandomDashes().getWord();
+        final ArrayList<String> players = new ArrayList<>();
+        guessers.forEach(e -> players.add(SessionOperator.getLogin(e.getSession())));
+        players.add(SessionOperator.getLogin(painter.getSession()));
 
         final MultiplayerGame game = new MultiplayerGame(word, players);
-        final ScheduledGame scheduledGame = multiplayerManager.createScheduledGame(game);
+        final GameShard shard = getGameShard(game.getId());
+        final GameRelationManager gameRelationManager = shard.getRelations();
+        final ScheduledGame scheduledGame = shard.getMultiplayerManager().createScheduledGame(game);
         LOGGER.info("Got word {} for multiplayer game #{}", word, game.getId());
 
-        guesserLogins.forEach(
-            (String login) ->
-                gameRelationManager.addGuesserRelation(
-                    queuedPlayers.get(login).getSession(),
-                    scheduledGame,
-                    guesserLogins.indexOf(login) + 1));
+        for (int i = 0; i < guessers.size(); ++i) {
+            gameRelationManager.addGuesserRelation(guessers.get(i).getSession(), scheduledGame, i + 1);
+        }
 
         gameRelationManager.addPainterRelation(
-            queuedPlayers.get(painterLogin).getSession(),
+            painter.getSession(),
             scheduledGame,
-            guesserLogins.size());
+            guessers.size());
 
-        players.forEach(queuedPlayers::remove);
+        guessers.forEach(this::observeWait);
+        observeWait(painter);
         return game;
     }
 
+    private void observeWait(QueueRelation relation) {
+        MATCHMAKING_WAIT.observe((scheduler.currentTimeMillis() - relation.getQueuedMillis()) / 1000.0);
+    }
+
+    // Only reached by the caller that won beginEnd, so the rating is updated once per game.
+    // The game ends when the updates are stored, or at the timeout while they keep running.
     private void runWinTask(ScheduledGame scheduledGame, String winnerLogin) {
 
-        accountService.updateAccountRating(winnerLogin, scheduledGame.getWinScore());
+        final long startNanos = System.nanoTime();
+        final CompletableFuture<?> ratingUpdate = accountService.updateAccountRating(winnerLogin, scheduledGame.getWinScore())
+            .whenComplete((Object account, Throwable error) -> {
+
+                RATING_UPDATE_TIME.recordNanos(System.nanoTime() - startNanos);
+                if (error != null) {
+                    LOGGER.error("Can't update rating of user {}: {}", winnerLogin, error.toString());
+                }
+            });
+
+        CompletableFuture<?> updates = ratingUpdate;
         if (scheduledGame instanceof SingleplayerScheduledGameManager.SingleplayerScheduledGame) {
-            dashesService.addUsedDashes(winnerLogin, ((SingleplayerGame) scheduledGame.getGame()).getDashes().getId());
+            updates = CompletableFuture.allOf(ratingUpdate, asyncDashesService.addUsedDashes(
+                winnerLogin, ((SingleplayerGame) scheduledGame.getGame()).getDashes().getId()));
+        }
+        final DashesRecording recording = (scheduledGame.getType() == GameType.MULTIPLAYER) ? scheduledGame.getRecording() : null;
+        if (recording != null) {
+            dashesRecorder.submit(recording);
         }
-        scheduledGame.runWinTask(winnerLogin);
+
+        withFallback(updates.thenApply((Object ignored) -> Boolean.TRUE), "win_updates", () -> Boolean.FALSE)
+            .whenComplete((Boolean stored, Throwable error) -> {
+
+                // Runs on a database or timer thread, nobody else would see the failure
+                try {
+                    scheduledGame.end(GameResult.GAME_WON, winnerLogin);
+                } catch (RuntimeException exception) {
+                    LOGGER.error("Can't end game #{} won by {}.", scheduledGame.getGame().getId(), winnerLogin, exception);
+                }
+            });
     }
 
-    private void resendAnswer(ArrayList<WebSocketSession> sessions, @Nullable String answer, boolean answerCorrect, PlayerInfo senderInfo) {
+    private void resendAnswer(ScheduledGame scheduledGame, @Nullable String answer, boolean answerCorrect, PlayerInfo senderInfo) {
 
         final int answerId = ANSWER_ID_GEN.getAndIncrement();
+        final long startNanos = System.nanoTime();
+        final GameRelationManager gameRelationManager = getRelations(scheduledGame);
+        final ArrayList<WebSocketSession> sessions = gameRelationManager.getGameSessions(scheduledGame);
 
-        for (WebSocketSession session : sessions) {
+        scheduledGame.getEvents().send(
+            sessions,
+            new WebSocketMessage<>(
+                MessageType.CHECK_ANSWER.toString(), new AnswerResponseContent(answerId, answer, answerCorrect, senderInfo)),
+            gameRelationManager);
 
-            final WebSocketMessage data = new WebSocketMessage<>(
-                MessageType.CHECK_ANSWER.toString(), new AnswerResponseContent(answerId, answer, answerCorrect, senderInfo));
-            SessionOperator.sendMessage(session, data);
-        }
+        GameEvents.broadcast(MessageType.CHECK_ANSWER, sessions.size(), startNanos);
     }
 
-    private @Nullable ScheduledGame getScheduledGame(int gameId, GameType gameType) {
+    // Games are partitioned by id, both id sequences spread evenly
+    private @NotNull GameShard getGameShard(int gameId) {
 
-        return (gameType == GameType.SINGLEPLAYER) ?
-            singleplayerManager.getScheduledGame(gameId) :
-            multiplayerManager.getScheduledGame(gameId);
+        return shards[Math.floorMod(gameId, shards.length)];
+    }
+
+    private @NotNull GameRelationManager getRelations(@NotNull ScheduledGame scheduledGame) {
+
+        return getGameShard(scheduledGame.getGame().getId()).getRelations();
+    }
+
+    private @Nullable GameRelationManager.GameRelation getRelation(@NotNull String login) {
+
+        final Integer shardIndex = routes.get(login);
+        return (shardIndex == null) ? null : shards[shardIndex].getRelations().getRelation(login);
+    }
+
+    @Nullable ScheduledGame getScheduledGame(int gameId, GameType gameType) {
+
+        return getGameShard(gameId).getScheduledGame(gameId, gameType);
     }
 
     private @Nullable ScheduledGame getUserScheduledGame(String login) {
 
-        final GameRelationManager.GameRelation gameRelation = gameRelationManager.getRelation(login);
+        final GameRelationManager.GameRelation gameRelation = getRelation(login);
         if (gameRelation == null) {
             return null;
         }
 
-        final int gameId = gameRelation.getGameId();
-
-        return (gameRelation.getType() == GameType.SINGLEPLAYER) ?
-            singleplayerManager.getScheduledGame(gameId) :
-            multiplayerManager.getScheduledGame(gameId);
+        return getScheduledGame(gameRelation.getGameId(), gameRelation.getType());
     }
 }
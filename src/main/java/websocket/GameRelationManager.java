@@ -6,7 +6,12 @@ import org.springframework.web.socket.WebSocketSession;
 import socketmessages.GameType;
 import socketmessages.PlayerRole;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -14,7 +19,26 @@ import java.util.stream.IntStream;
 
 public class GameRelationManager {
 
+    // Map node, relation object and resume token, the login key and session are owned elsewhere
+    static final int RELATION_BYTES = 128;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int TOKEN_BYTES = 16;
+
     private final Map<String, GameRelation> relatedGames = new ConcurrentHashMap<>();
+    private final Map<String, Integer> routes;
+    private final int shardIndex;
+
+    public GameRelationManager() {
+        this(new ConcurrentHashMap<>(), 0);
+    }
+
+    // Every relation added here points the login at this shard in the shared routing table
+    GameRelationManager(@NotNull Map<String, Integer> routes, int shardIndex) {
+
+        this.routes = routes;
+        this.shardIndex = shardIndex;
+    }
 
     public static final class GameRelation {
 
@@ -23,14 +47,22 @@ public class GameRelationManager {
         private final PlayerRole role;
         private final WebSocketSession session;
         private final int playerNumber;
+        private final String resumeToken;
         
         GameRelation(int gameId, GameType gameType, WebSocketSession session, PlayerRole role, int playerNumber) {
 
+            this(gameId, gameType, session, role, playerNumber, createToken());
+        }
+
+        private GameRelation(
+            int gameId, GameType gameType, WebSocketSession session, PlayerRole role, int playerNumber, String resumeToken) {
+
             this.gameId = gameId;
             this.type = gameType;
             this.role = role;
             this.session = session;
             this.playerNumber = playerNumber;
+            this.resumeToken = resumeToken;
         }
 
         public int getGameId() {
@@ -52,6 +84,21 @@ public class GameRelationManager {
         public int getPlayerNumber() {
             return playerNumber;
         }
+
+        public String getResumeToken() {
+            return resumeToken;
+        }
+    }
+
+    private static String createToken() {
+
+        final byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public int getRelationsCount() {
+        return relatedGames.size();
     }
 
     public void addGuesserRelation(
@@ -64,7 +111,7 @@ public class GameRelationManager {
             PlayerRole.GUESSER,
             playerNumber);
 
-        relatedGames.put(SessionOperator.getLogin(session), gameRelation);
+        putRelation(SessionOperator.getLogin(session), gameRelation);
     }
 
     public void addPainterRelation(
@@ -77,16 +124,24 @@ public class GameRelationManager {
             PlayerRole.PAINTER,
             playerNumber);
 
-        relatedGames.put(SessionOperator.getLogin(session), gameRelation);
+        putRelation(SessionOperator.getLogin(session), gameRelation);
+    }
+
+    private void putRelation(@NotNull String login, @NotNull GameRelation gameRelation) {
+
+        relatedGames.put(login, gameRelation);
+        routes.put(login, shardIndex);
     }
 
     public ArrayList<WebSocketSession> getGameSessions(@NotNull ScheduledGame scheduledGame) {
 
         final ArrayList<WebSocketSession> sessions = new ArrayList<>();
 
-        final ArrayList<String> logins = scheduledGame.getGame().getUserLogins();
+        final List<String> logins = scheduledGame.getGame().getUserLogins();
+        final int gameId = scheduledGame.getGame().getId();
+        // A player who left may already be in a newer game
         sessions.addAll(relatedGames.entrySet().stream()
-            .filter(e -> logins.contains(e.getKey()))
+            .filter(e -> logins.contains(e.getKey()) && (e.getValue().gameId == gameId))
             .map(e -> e.getValue().getSession())
             .collect(Collectors.toList()));
 
@@ -99,9 +154,12 @@ public class GameRelationManager {
             IntStream.rangeClosed(1, GameManagerService.MULTIPLAYER_PLAYERS_LIMIT).boxed()
                 .collect(Collectors.toList()));
 
+        final int gameId = scheduledGame.getGame().getId();
         final ArrayList<Integer> takenIds = new ArrayList<>(
             scheduledGame.getGame().getUserLogins().stream()
-                .map(e -> getRelation(e).getPlayerNumber())
+                .map(this::getRelation)
+                .filter(e -> (e != null) && (e.gameId == gameId))
+                .map(GameRelation::getPlayerNumber)
                 .collect(Collectors.toList()));
 
         availableIds.removeAll(takenIds);
@@ -113,8 +171,39 @@ public class GameRelationManager {
         return relatedGames.get(login);
     }
 
+    // Moves the relation to a new session when the token matches, returns the previous relation
+    public @Nullable GameRelation resumeRelation(@NotNull String login, @NotNull String token, @NotNull WebSocketSession session) {
+
+        final GameRelation[] previous = new GameRelation[1];
+        relatedGames.computeIfPresent(login, (String key, GameRelation relation) -> {
+
+            if (!MessageDigest.isEqual(
+                relation.resumeToken.getBytes(StandardCharsets.US_ASCII), token.getBytes(StandardCharsets.US_ASCII))) {
+                return relation;
+            }
+
+            previous[0] = relation;
+            return new GameRelation(
+                relation.gameId, relation.type, session, relation.role, relation.playerNumber, relation.resumeToken);
+        });
+
+        return previous[0];
+    }
+
     public void removeRelation(@Nullable String login) {
 
-        relatedGames.remove(login);
+        if ((login != null) && (relatedGames.remove(login) != null)) {
+            // A newer game on another shard may own the route already
+            routes.remove(login, shardIndex);
+        }
+    }
+
+    // Leaves the relation alone when the player has moved on to another game
+    public void removeRelation(@Nullable String login, int gameId) {
+
+        final GameRelation relation = relatedGames.get(login);
+        if ((relation != null) && (relation.gameId == gameId) && relatedGames.remove(login, relation)) {
+            routes.remove(login, shardIndex);
+        }
     }
 }
@@ -0,0 +1,17 @@
+package websocket;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public interface GameScheduler {
+
+    long currentTimeMillis();
+
+    ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit);
+
+    ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit);
+
+    int getPendingCount();
+
+    void shutdown();
+}
@@ -0,0 +1,87 @@
+package websocket;
+
+import database.GameHistoryWriter;
+import org.jetbrains.annotations.Nullable;
+import socketmessages.GameType;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// One partition of the running games: its own relations, game registries and timer threads.
+// Games land on a shard by id, players are found through the shared login routing table.
+final class GameShard {
+
+    static final int LAG_PROBE_MILLIS = 1000;
+
+    private final int index;
+    private final GameScheduler scheduler;
+    private final GameRelationManager gameRelationManager;
+    private final SingleplayerScheduledGameManager singleplayerManager;
+    private final MultiplayerScheduledGameManager multiplayerManager;
+    private volatile long schedulerLagMillis = 0;
+
+    GameShard(
+        int index,
+        GameScheduler scheduler,
+        Map<String, Integer> routes,
+        GameHistoryWriter gameHistoryWriter,
+        PointBudget pointBudget) {
+
+        this.index = index;
+        this.scheduler = scheduler;
+        this.gameRelationManager = new GameRelationManager(routes, index);
+        this.singleplayerManager = new SingleplayerScheduledGameManager(
+            scheduler, gameRelationManager, gameHistoryWriter, pointBudget);
+        this.multiplayerManager = new MultiplayerScheduledGameManager(
+            scheduler, gameRelationManager, gameHistoryWriter, pointBudget);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public GameScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public GameRelationManager getRelations() {
+        return gameRelationManager;
+    }
+
+    public SingleplayerScheduledGameManager getSingleplayerManager() {
+        return singleplayerManager;
+    }
+
+    public MultiplayerScheduledGameManager getMultiplayerManager() {
+        return multiplayerManager;
+    }
+
+    public int getGamesCount() {
+        return singleplayerManager.getGamesCount() + multiplayerManager.getGamesCount();
+    }
+
+    public long getSchedulerLagMillis() {
+        return schedulerLagMillis;
+    }
+
+    // Each probe is due a fixed delay after the previous one ran, so how late it runs is how far behind the timer is
+    void startLagProbe() {
+        scheduleLagProbe();
+    }
+
+    private void scheduleLagProbe() {
+
+        final long dueMillis = scheduler.currentTimeMillis() + LAG_PROBE_MILLIS;
+        scheduler.schedule(() -> {
+            schedulerLagMillis = Math.max(0, scheduler.currentTimeMillis() - dueMillis);
+            scheduleLagProbe();
+        }, LAG_PROBE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public @Nullable ScheduledGame getScheduledGame(int gameId, GameType gameType) {
+
+        return (gameType == GameType.SINGLEPLAYER) ?
+            singleplayerManager.getScheduledGame(gameId) :
+            multiplayerManager.getScheduledGame(gameId);
+    }
+}
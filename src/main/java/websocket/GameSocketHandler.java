@@ -1,14 +1,13 @@
 package websocket;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import database.AccountService;
 import database.AccountServiceDb;
-import entities.SingleplayerGame;
+import metrics.EnumCounter;
+import metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.dao.DataAccessException;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
@@ -17,24 +16,50 @@ import socketmessages.*;
 
 import javax.naming.AuthenticationException;
 import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
 
 public class GameSocketHandler extends TextWebSocketHandler {
 
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final Logger LOGGER = LoggerFactory.getLogger(GameSocketHandler.class);
+    private static final SampledLogger MESSAGE_LOGGER = new SampledLogger(LOGGER);
+
+    private static final LongAdder OPEN_SESSIONS = new LongAdder();
+    private static final EnumCounter<MessageType> RECEIVED_MESSAGES = MetricsRegistry.DEFAULT.enumCounter(
+        "crocodile_socket_received_messages_total", "Websocket messages received by type.", "type", MessageType.class);
+    private static final EnumCounter<MessageType> RECEIVED_BYTES = MetricsRegistry.DEFAULT.enumCounter(
+        "crocodile_socket_received_bytes_total", "Websocket payload characters received by type.", "type", MessageType.class);
+
+    static {
+        MetricsRegistry.DEFAULT.gauge("crocodile_socket_sessions", "Open websocket sessions.")
+            .set(OPEN_SESSIONS::sum);
+    }
 
     private final GameManagerService gameManagerService;
     private final AccountService accountService;
     private final WebSocketMessageHandler webSocketMessageHandler;
+    private final HandlerExecutor handlerExecutor;
+    private final SessionTransport sessionTransport;
+    // Handlers are created per connection, so this keeps the messages of one session in order
+    private final Executor sessionExecutor;
+    // The container's session as the transport wraps it, the only one game code gets to see
+    private WebSocketSession transportSession = null;
+    private boolean connected = false;
 
     public GameSocketHandler(
         GameManagerService gameManagerService,
         AccountServiceDb accountService,
-        WebSocketMessageHandler webSocketMessageHandler) {
+        WebSocketMessageHandler webSocketMessageHandler,
+        HandlerExecutor handlerExecutor,
+        SessionTransport sessionTransport) {
 
         this.gameManagerService = gameManagerService;
         this.accountService = accountService;
         this.webSocketMessageHandler = webSocketMessageHandler;
+        this.handlerExecutor = handlerExecutor;
+        this.sessionTransport = sessionTransport;
+        this.sessionExecutor = handlerExecutor.newSerialExecutor();
 
         webSocketMessageHandler.setHandler(
             MessageType.START_SINGLEPLAYER_GAME,
@@ -64,11 +89,16 @@ public class GameSocketHandler extends TextWebSocketHandler {
         webSocketMessageHandler.setHandler(
             MessageType.EXIT_GAME,
             (WebSocketSession s, TextMessage m) -> handleExitGame(s));
+
+        webSocketMessageHandler.setHandler(
+            MessageType.RESUME,
+            this::handleResume);
     }
 
     @Override
-    public void afterConnectionEstablished(WebSocketSession session) throws AuthenticationException, JsonProcessingException {
+    public void afterConnectionEstablished(WebSocketSession containerSession) throws AuthenticationException, IOException {
 
+        final WebSocketSession session = getTransportSession(containerSession);
         final String login = SessionOperator.getLogin(session);
 
         if (accountService.findAccount(login) == null) {
@@ -77,23 +107,39 @@ public class GameSocketHandler extends TextWebSocketHandler {
             throw new AuthenticationException("only logged users are allowed to play the game");
         }
 
+        if (!gameManagerService.admitSession(session, OPEN_SESSIONS.sum())) {
+
+            session.close(CloseStatus.SERVICE_OVERLOAD);
+            return;
+        }
+
         LOGGER.info("Got websocket connection from user {}.", login);
-        gameManagerService.clearData(session);
+        OPEN_SESSIONS.increment();
+        connected = true;
+        gameManagerService.connectSession(session);
     }
 
     @Override
     @SuppressWarnings("OverlyBroadCatchBlock")
-    protected void handleTextMessage(WebSocketSession session, TextMessage textMessage) throws Exception {
+    protected void handleTextMessage(WebSocketSession containerSession, TextMessage textMessage) throws Exception {
 
+        final WebSocketSession session = getTransportSession(containerSession);
         try {
             final WebSocketMessage message = readMessage(textMessage, EmptyContent.class);
+            final MessageType type = message.getTypeEnum();
+            RECEIVED_MESSAGES.increment(type);
+            RECEIVED_BYTES.add(type, textMessage.getPayloadLength());
 
-            if (message.getTypeEnum() != MessageType.UPDATE) {
+            if (type != MessageType.UPDATE) {
 
-                LOGGER.info("Got websocket message type {} from user {}.",
+                MESSAGE_LOGGER.info("Got websocket message type {} from user {}.",
                     message.getTypeString(), SessionOperator.getLogin(session));
 
-                webSocketMessageHandler.handle(session, textMessage, message.getTypeEnum());
+                if (handlerExecutor.isVirtual()) {
+                    sessionExecutor.execute(() -> handleDetached(session, textMessage, type));
+                } else {
+                    webSocketMessageHandler.handle(session, textMessage, type);
+                }
             }
 
         } catch (Exception exception) {
@@ -104,20 +150,73 @@ public class GameSocketHandler extends TextWebSocketHandler {
     }
 
     @Override
-    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
+    public void afterConnectionClosed(WebSocketSession containerSession, CloseStatus status) throws Exception {
 
+        final WebSocketSession session = getTransportSession(containerSession);
         LOGGER.info("Websocket connection with user {} closed with reason {}.",
             SessionOperator.getLogin(session),
             status.getReason());
 
-        gameManagerService.clearData(session);
-        super.afterConnectionClosed(session, status);
+        if (connected) {
+            OPEN_SESSIONS.decrement();
+            connected = false;
+        }
+
+        // Queued after the session's pending messages
+        sessionExecutor.execute(() -> gameManagerService.disconnectSession(session));
+        super.afterConnectionClosed(containerSession, status);
     }
 
-    private void handleStartSingleplayerGame(WebSocketSession session) throws DataAccessException {
+    private WebSocketSession getTransportSession(WebSocketSession containerSession) {
+
+        if (transportSession == null) {
+            transportSession = sessionTransport.wrap(containerSession);
+        }
 
-        final SingleplayerGame game = gameManagerService.createSingleplayerGame(session);
-        gameManagerService.startTimer(game.getId(), GameType.SINGLEPLAYER);
+        return transportSession;
+    }
+
+    // Off the container thread nobody closes the session on failure, so it is done here
+    @SuppressWarnings("OverlyBroadCatchBlock")
+    private void handleDetached(WebSocketSession session, TextMessage textMessage, MessageType type) {
+
+        try {
+            webSocketMessageHandler.handle(session, textMessage, type);
+
+        } catch (Exception exception) {
+            failSession(session, type, exception);
+        }
+    }
+
+    private void failSession(WebSocketSession session, MessageType type, Throwable error) {
+
+        LOGGER.error("Websocket message {} from user {} failed: {}",
+            type, SessionOperator.getLogin(session), error.toString());
+        try {
+            session.close(CloseStatus.SERVER_ERROR);
+        } catch (IOException closeException) {
+            LOGGER.warn("Can't close failed session: {}", closeException.toString());
+        }
+    }
+
+    // Completes on a database thread, so the handler thread is free while the word loads
+    private void handleStartSingleplayerGame(WebSocketSession session) {
+
+        if (!gameManagerService.admitSingleplayerGame(session)) {
+            return;
+        }
+
+        gameManagerService.createSingleplayerGame(session)
+            .thenAccept(game -> {
+                if (game != null) {
+                    gameManagerService.startTimer(game.getId(), GameType.SINGLEPLAYER);
+                }
+            })
+            .whenComplete((Void ignored, Throwable error) -> {
+                if (error != null) {
+                    failSession(session, MessageType.START_SINGLEPLAYER_GAME, error);
+                }
+            });
     }
 
     private void handleStartMultiplayerGame(WebSocketSession session) {
@@ -130,7 +229,7 @@ public class GameSocketHandler extends TextWebSocketHandler {
         final String login = SessionOperator.getLogin(session);
 
         final AnswerContent answerContent = (AnswerContent) readMessage(textMessage, AnswerContent.class).getContent();
-        LOGGER.info("Got answer {} from user {}", answerContent.getWord(), login);
+        MESSAGE_LOGGER.info("Got answer {} from user {}", answerContent.getWord(), login);
 
         gameManagerService.checkAnswer(session, answerContent.getWord());
     }
@@ -157,6 +256,12 @@ public class GameSocketHandler extends TextWebSocketHandler {
         gameManagerService.clearData(session);
     }
 
+    private void handleResume(WebSocketSession session, TextMessage textMessage) throws IOException {
+
+        final ResumeContent resume = (ResumeContent) readMessage(textMessage, ResumeContent.class).getContent();
+        gameManagerService.resumeGame(session, resume.getToken(), resume.getSequence());
+    }
+
     @SuppressWarnings("OverlyBroadThrowsClause")
     private WebSocketMessage<?> readMessage(TextMessage textMessage, Class contentClass) throws IOException {
 
@@ -0,0 +1,9 @@
+package websocket;
+
+// Lifecycle of a scheduled game, only ever moves forward
+public enum GameState {
+    CREATED,
+    RUNNING,
+    ENDING,
+    ENDED
+}
@@ -0,0 +1,91 @@
+package websocket;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Where blocking handler and timer work runs. Platform mode keeps it on the calling container or timer thread;
+// virtual mode gives every task its own virtual thread, looked up reflectively since the build targets Java 8.
+// Before JDK 24 a virtual thread blocking inside synchronized pins its carrier, so game code holds monitors
+// only around in-memory state: socket writes, event delivery and database calls all happen outside them.
+public final class HandlerExecutor {
+
+    public enum Mode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    public static final HandlerExecutor PLATFORM = new HandlerExecutor(Mode.PLATFORM, null);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HandlerExecutor.class);
+
+    private final @NotNull Mode mode;
+    private final @Nullable ExecutorService executor;
+
+    private HandlerExecutor(@NotNull Mode mode, @Nullable ExecutorService executor) {
+
+        this.mode = mode;
+        this.executor = executor;
+    }
+
+    public static @NotNull HandlerExecutor create(@NotNull String mode) {
+
+        if (!Mode.VIRTUAL.name().equalsIgnoreCase(mode)) {
+            return PLATFORM;
+        }
+
+        final ExecutorService executor = createVirtualExecutor();
+        if (executor == null) {
+
+            LOGGER.warn("Virtual threads are not available on Java {}, handlers stay on platform threads.",
+                System.getProperty("java.version"));
+            return PLATFORM;
+        }
+
+        LOGGER.info("Websocket handlers and game timer tasks run on virtual threads.");
+        return new HandlerExecutor(Mode.VIRTUAL, executor);
+    }
+
+    static @Nullable ExecutorService createVirtualExecutor() {
+
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+
+        } catch (ReflectiveOperationException exception) {
+            return null;
+        }
+    }
+
+    public @NotNull Mode getMode() {
+        return mode;
+    }
+
+    public boolean isVirtual() {
+        return executor != null;
+    }
+
+    // One per connection, so messages of a session are handled in the order they arrived
+    public @NotNull Executor newSerialExecutor() {
+
+        return (executor == null) ? Runnable::run : new SerialExecutor(executor);
+    }
+
+    // Wraps a timer task so the timer thread only hands it over
+    public @NotNull Runnable offload(@NotNull Runnable task) {
+
+        final ExecutorService currentExecutor = executor;
+        return (currentExecutor == null) ? task : () -> currentExecutor.execute(task);
+    }
+
+    public void shutdown() {
+
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+}
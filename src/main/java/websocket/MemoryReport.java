@@ -0,0 +1,83 @@
+package websocket;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+public final class MemoryReport {
+
+    private final @NotNull List<Usage> structures;
+    private final @NotNull List<GameUsage> heaviestGames;
+
+    public static final class Usage {
+
+        private final @NotNull String name;
+        private final long count;
+        private final long bytes;
+
+        Usage(@NotNull String name, long count, long bytes) {
+
+            this.name = name;
+            this.count = count;
+            this.bytes = bytes;
+        }
+
+        public @NotNull String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+    }
+
+    public static final class GameUsage {
+
+        private final int id;
+        private final @NotNull String type;
+        private final int points;
+        private final long bytes;
+
+        GameUsage(int id, @NotNull String type, int points, long bytes) {
+
+            this.id = id;
+            this.type = type;
+            this.points = points;
+            this.bytes = bytes;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public @NotNull String getType() {
+            return type;
+        }
+
+        public int getPoints() {
+            return points;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+    }
+
+    MemoryReport(@NotNull List<Usage> structures, @NotNull List<GameUsage> heaviestGames) {
+
+        this.structures = structures;
+        this.heaviestGames = heaviestGames;
+    }
+
+    public @NotNull List<Usage> getStructures() {
+        return structures;
+    }
+
+    public @NotNull List<GameUsage> getHeaviestGames() {
+        return heaviestGames;
+    }
+}
@@ -1,5 +1,6 @@
 package websocket;
 
+import database.GameHistoryWriter;
 import entities.MultiplayerGame;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -7,9 +8,8 @@ import org.springframework.web.socket.WebSocketSession;
 import socketmessages.*;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.stream.Collectors;
 
 public class MultiplayerScheduledGameManager extends ScheduledGameManager<MultiplayerGame> {
 
@@ -17,8 +17,8 @@ public class MultiplayerScheduledGameManager extends ScheduledGameManager<Multip
 
     public final class MultiplayerScheduledGame extends ScheduledGame<MultiplayerGame> {
 
-        private MultiplayerScheduledGame(ScheduledExecutorService scheduler, MultiplayerGame game) {
-            super(scheduler, game);
+        private MultiplayerScheduledGame(GameScheduler scheduler, MultiplayerGame game) {
+            super(scheduler, game, pointsSize, pointBudget);
         }
 
         @Override
@@ -27,27 +27,26 @@ public class MultiplayerScheduledGameManager extends ScheduledGameManager<Multip
         }
 
         @Override
-        public @NotNull WebSocketMessage<BaseGameContent> getGameStateMessage(@NotNull String login) {
+        public @Nullable WebSocketMessage<BaseGameContent> getGameStateMessage(@NotNull String login) {
 
             return getGameMessage(login, MessageType.STATE);
         }
 
         @Override
-        public @NotNull WebSocketMessage<BaseGameContent> getJoinGameMessage(@NotNull String login) {
+        public @Nullable WebSocketMessage<BaseGameContent> getJoinGameMessage(@NotNull String login) {
 
             return getGameMessage(login, MessageType.START_MULTIPLAYER_GAME);
         }
 
         @Override
-        public synchronized void runWinTask(@NotNull String winnerLogin) {
+        void endGame(@NotNull GameResult result, @Nullable String winnerLogin) {
 
-            endMultiplayerGame(GameResult.GAME_WON, winnerLogin);
+            endMultiplayerGame(result, winnerLogin);
         }
 
         @Override
-        public synchronized void runLoseTask(@NotNull GameResult result) {
-
-            endMultiplayerGame(GameResult.PAINTER_LEFT, null);
+        void remove() {
+            removeScheduledGame(getGame().getId());
         }
 
         @Override
@@ -60,77 +59,94 @@ public class MultiplayerScheduledGameManager extends ScheduledGameManager<Multip
             return GameManagerService.MULTIPLAYER_TIME_LIMIT;
         }
 
-        private WebSocketMessage<BaseGameContent> getGameMessage(@NotNull String login, MessageType messageType) {
+        private @Nullable WebSocketMessage<BaseGameContent> getGameMessage(@NotNull String login, MessageType messageType) {
 
             final MultiplayerGame multiplayerGame = getGame();
-            final ArrayList<PlayerInfo> playerInfos = new ArrayList<>(
-                multiplayerGame.getUserLogins().stream()
-                    .map(e -> new PlayerInfo(e, gameRelationManager.getRelation(e).getPlayerNumber()))
-                    .collect(Collectors.toList()));
+            final int gameId = multiplayerGame.getId();
+            final GameRelationManager.GameRelation relation = gameRelationManager.getRelation(login);
+            if ((relation == null) || (relation.getGameId() != gameId)) {
+                return null;
+            }
+
+            // Players who are leaving concurrently may have lost their relation already
+            final ArrayList<PlayerInfo> playerInfos = new ArrayList<>();
+            for (String player : multiplayerGame.getUserLogins()) {
+
+                final GameRelationManager.GameRelation playerRelation = gameRelationManager.getRelation(player);
+                if ((playerRelation != null) && (playerRelation.getGameId() == gameId)) {
+                    playerInfos.add(new PlayerInfo(player, playerRelation.getPlayerNumber()));
+                }
+            }
+
+            // Read before the points, so a point racing with the snapshot is at worst delivered twice
+            final long sequence = getEvents().getSequence();
 
             return new WebSocketMessage<>(
                 messageType.toString(),
                 new MultiplayerGameStateContent(
                     getTimeLeft(),
                     GameManagerService.MULTIPLAYER_TIME_LIMIT,
-                    gameRelationManager.getRelation(login).getRole(),
+                    relation.getRole(),
                     playerInfos,
                     getPoints(),
-                    multiplayerGame.getWord()));
+                    multiplayerGame.getWord(),
+                    relation.getResumeToken()),
+                sequence);
         }
 
-        private synchronized void endMultiplayerGame(GameResult gameResult, @Nullable String winnerLogin) {
+        private void endMultiplayerGame(GameResult gameResult, @Nullable String winnerLogin) {
 
             final int gameId = getGame().getId();
+            final ArrayList<WebSocketSession> losers = gameRelationManager.getGameSessions(this);
+            final String word = getGame().getWord();
+
+            final GameRelationManager.GameRelation winnerRelation = (gameResult == GameResult.GAME_WON) ?
+                gameRelationManager.getRelation(winnerLogin) :
+                null;
+            // The winner may have left while the win was being stored
+            if ((winnerRelation != null) && (winnerRelation.getGameId() == gameId)) {
+
+                final WebSocketSession winnerSession = winnerRelation.getSession();
+                getEvents().send(
+                    Collections.singletonList(winnerSession),
+                    new WebSocketMessage<>(
+                        MessageType.STOP_GAME.toString(),
+                        new FinishGameContent(
+                            gameResult, getWinScore(),
+                            winnerLogin, word)),
+                    gameRelationManager);
+
+                losers.remove(winnerSession);
+                gameRelationManager.removeRelation(winnerLogin, gameId);
+            }
 
-            if (currentGames.containsKey(gameId)) {
-
-                cancelAll();
-                final ArrayList<WebSocketSession> losers = gameRelationManager.getGameSessions(this);
-                final String word = getGame().getWord();
-
-                if (gameResult == GameResult.GAME_WON) {
-
-                    SessionOperator.sendMessage(
-                        gameRelationManager.getRelation(winnerLogin).getSession(),
-                        new WebSocketMessage<>(
-                            MessageType.STOP_GAME.toString(),
-                            new FinishGameContent(
-                                gameResult, getWinScore(),
-                                winnerLogin, word)));
-
-                    losers.remove(gameRelationManager.getRelation(winnerLogin).getSession());
-                    gameRelationManager.removeRelation(winnerLogin);
-                }
-
-                final GameResult losersResult = (gameResult == GameResult.GAME_WON) ?
-                    GameResult.GAME_LOST :
-                    gameResult;
-
-                losers.forEach(
-                    (WebSocketSession session) -> {
+            final GameResult losersResult = (gameResult == GameResult.GAME_WON) ?
+                GameResult.GAME_LOST :
+                gameResult;
 
-                        SessionOperator.sendMessage(
-                            session, new WebSocketMessage<>(
-                                MessageType.STOP_GAME.toString(),
-                                new FinishGameContent(
-                                    losersResult, 0,
-                                    winnerLogin, word)));
+            getEvents().send(
+                losers,
+                new WebSocketMessage<>(
+                    MessageType.STOP_GAME.toString(),
+                    new FinishGameContent(
+                        losersResult, 0,
+                        winnerLogin, word)),
+                gameRelationManager);
 
-                        gameRelationManager.removeRelation(SessionOperator.getLogin(session));
-                    });
+            losers.forEach(e -> gameRelationManager.removeRelation(SessionOperator.getLogin(e), gameId));
 
-                currentGames.remove(gameId);
-                LOGGER.info("Multiplayer game #{} ended with result {}.", gameId, gameResult.asInt());
-            }
+            recordGame(this, (gameResult == GameResult.GAME_WON) ? winnerLogin : null);
+            LOGGER.info("Multiplayer game #{} ended with result {}.", gameId, gameResult.asInt());
         }
     }
 
     public MultiplayerScheduledGameManager(
-        ScheduledExecutorService scheduler,
-        GameRelationManager gameRelationManager) {
+        GameScheduler scheduler,
+        GameRelationManager gameRelationManager,
+        GameHistoryWriter gameHistoryWriter,
+        PointBudget pointBudget) {
 
-        super(scheduler, new ConcurrentHashMap<>());
+        super(scheduler, new ConcurrentHashMap<>(), gameHistoryWriter, pointBudget);
         this.gameRelationManager = gameRelationManager;
     }
 
@@ -0,0 +1,59 @@
+package websocket;
+
+import org.jetbrains.annotations.NotNull;
+import socketmessages.PicturePointContent;
+import socketmessages.PointBuffer;
+
+public final class PointBudget {
+
+    public static final PointBudget DEFAULT = new PointBudget(20000, 1024 * 1024, 0.001f);
+
+    public static final int MAX_COLOR_LENGTH = 32;
+    public static final int TOLERANCE_STEPS = 4;
+
+    private final int maxPoints;
+    private final long maxBytes;
+    private final float tolerance;
+
+    public PointBudget(int maxPoints, long maxBytes, float tolerance) {
+
+        this.maxPoints = maxPoints;
+        this.maxBytes = maxBytes;
+        this.tolerance = tolerance;
+    }
+
+    public int getMaxPoints() {
+        return maxPoints;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public float getTolerance() {
+        return tolerance;
+    }
+
+    // Clients send coordinates normalized to the canvas
+    public boolean isValid(@NotNull PicturePointContent point) {
+
+        return isCoordinateValid(point.getPointX()) && isCoordinateValid(point.getPointY()) &&
+            ((point.getColor() == null) || (point.getColor().length() <= MAX_COLOR_LENGTH));
+    }
+
+    public boolean isExceeded(@NotNull PointBuffer points) {
+
+        return (points.size() >= maxPoints) || (points.getRetainedBytes() >= maxBytes);
+    }
+
+    // Compaction aims well below the limit so it does not rerun on every following point
+    public boolean isAboveTarget(@NotNull PointBuffer points) {
+
+        return (points.size() >= (maxPoints / 4 * 3)) || (points.getRetainedBytes() >= (maxBytes / 4 * 3));
+    }
+
+    private static boolean isCoordinateValid(float coordinate) {
+
+        return (coordinate >= 0) && (coordinate <= 1);
+    }
+}
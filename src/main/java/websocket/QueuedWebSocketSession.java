@@ -0,0 +1,267 @@
+package websocket;
+
+import metrics.Counter;
+import metrics.MetricsRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+// Sends only enqueue; one writer task at a time drains the queue to the socket in order.
+// With an asynchronous sender the writer only starts each write, and its completion schedules the next one.
+// The session is closed when the queue is full or the current write has stalled past the limit,
+// the player can then come back with RESUME. Closes go through the transport, never the sending or writing thread,
+// and a requested close waits for the messages queued before it, so a rejection reaches the client first.
+final class QueuedWebSocketSession extends WebSocketSessionDecorator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueuedWebSocketSession.class);
+
+    private static final LongAdder QUEUED_MESSAGES = new LongAdder();
+    private static final Counter SLOW_SESSIONS = MetricsRegistry.DEFAULT.counter(
+        "crocodile_socket_slow_sessions_closed_total", "Sessions closed because their outbound queue fell too far behind.");
+
+    static {
+        MetricsRegistry.DEFAULT.gauge("crocodile_socket_outbound_queued", "Messages waiting in session outbound queues.")
+            .set(QUEUED_MESSAGES::sum);
+    }
+
+    private final ArrayDeque<WebSocketMessage<?>> queue = new ArrayDeque<>();
+    private final @Nullable AsyncTextSender sender;
+    private final SessionTransport transport;
+    private final Executor writers;
+    private final int queueLimit;
+    private final long sendTimeLimitNanos;
+    private boolean draining = false;
+    private boolean dropped = false;
+    private @Nullable CloseStatus pendingClose = null;
+    private long sendStartNanos = 0;
+
+    QueuedWebSocketSession(
+        @NotNull WebSocketSession session,
+        @Nullable AsyncTextSender sender,
+        @NotNull SessionTransport transport,
+        @NotNull Executor writers,
+        int queueLimit,
+        long sendTimeLimitNanos) {
+
+        super(session);
+        this.sender = sender;
+        this.transport = transport;
+        this.writers = writers;
+        this.queueLimit = queueLimit;
+        this.sendTimeLimitNanos = sendTimeLimitNanos;
+    }
+
+    @Override
+    public boolean isOpen() {
+
+        synchronized (queue) {
+            if (dropped || (pendingClose != null)) {
+                return false;
+            }
+        }
+
+        return super.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        close(CloseStatus.NORMAL);
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+
+        synchronized (queue) {
+
+            if (dropped || (pendingClose != null)) {
+                return;
+            }
+
+            if (draining) {
+                // The writer closes once it has sent what was queued before
+                pendingClose = status;
+                return;
+            }
+
+            dropped = true;
+        }
+
+        transport.close(getDelegate(), status);
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+
+        synchronized (queue) {
+
+            if (dropped || (pendingClose != null)) {
+                return;
+            }
+
+            if (!isBehind()) {
+
+                queue.add(message);
+                QUEUED_MESSAGES.increment();
+
+                if (!draining) {
+                    draining = true;
+                    transport.writingStarted(this);
+                    writers.execute(this::drain);
+                }
+                return;
+            }
+
+            drop();
+        }
+
+        closeSlow();
+    }
+
+    // Called by the transport watchdog, the close makes the stalled write fail and frees its writer
+    void closeIfStalled() {
+
+        synchronized (queue) {
+
+            if (dropped || !isStalled()) {
+                return;
+            }
+
+            drop();
+        }
+
+        closeSlow();
+    }
+
+    private void closeSlow() {
+
+        SLOW_SESSIONS.increment();
+        LOGGER.warn("Websocket session of user {} can't keep up with its messages, closing it.",
+            SessionOperator.getLogin(this));
+        transport.close(getDelegate(), CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    private void drop() {
+
+        dropped = true;
+        QUEUED_MESSAGES.add(-queue.size());
+        queue.clear();
+    }
+
+    private boolean isBehind() {
+
+        return (queue.size() >= queueLimit) || isStalled();
+    }
+
+    private boolean isStalled() {
+
+        return (sendStartNanos != 0) && ((System.nanoTime() - sendStartNanos) > sendTimeLimitNanos);
+    }
+
+    private void drain() {
+
+        while (true) {
+
+            final WebSocketMessage<?> message;
+            final CloseStatus closeStatus;
+            synchronized (queue) {
+
+                message = queue.poll();
+                if (message == null) {
+
+                    closeStatus = pendingClose;
+                    if (closeStatus != null) {
+                        dropped = true;
+                    }
+                    finishDraining();
+
+                } else {
+
+                    closeStatus = null;
+                    QUEUED_MESSAGES.decrement();
+                    sendStartNanos = System.nanoTime();
+                }
+            }
+
+            if (message == null) {
+
+                if (closeStatus != null) {
+                    transport.close(getDelegate(), closeStatus);
+                }
+                return;
+            }
+
+            if ((sender != null) && (message instanceof TextMessage)) {
+
+                try {
+                    sender.sendText(((TextMessage) message).getPayload(), this::sent);
+                } catch (RuntimeException exception) {
+                    failed(exception);
+                }
+                return;
+            }
+
+            try {
+                getDelegate().sendMessage(message);
+
+            } catch (IOException | RuntimeException exception) {
+
+                failed(exception);
+                return;
+
+            } finally {
+                synchronized (queue) {
+                    sendStartNanos = 0;
+                }
+            }
+        }
+    }
+
+    // Completion of an asynchronous write, it may run on a container thread, so the next write goes back to the writers
+    private void sent(@Nullable Throwable error) {
+
+        if (error != null) {
+            failed(error);
+            return;
+        }
+
+        synchronized (queue) {
+            sendStartNanos = 0;
+        }
+        writers.execute(this::drain);
+    }
+
+    private void failed(@NotNull Throwable error) {
+
+        final boolean closing;
+        synchronized (queue) {
+            // Already closing when the watchdog broke the stalled write
+            closing = !dropped;
+            drop();
+            sendStartNanos = 0;
+            finishDraining();
+        }
+
+        if (closing) {
+            LOGGER.error("Can't send websocket message to {}: {}", SessionOperator.getLogin(this), error.toString());
+            transport.close(getDelegate(), CloseStatus.SERVER_ERROR);
+        }
+    }
+
+    // Under the queue lock, so a new drain registers only after this one left the watchdog
+    private void finishDraining() {
+
+        draining = false;
+        transport.writingFinished(this);
+    }
+}
@@ -0,0 +1,24 @@
+package websocket;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Running totals of estimated heap retained by a structure, kept up to date on every add and remove
+final class RetainedSize {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+
+    void add(long countDelta, long bytesDelta) {
+
+        count.add(countDelta);
+        bytes.add(bytesDelta);
+    }
+
+    long getCount() {
+        return count.sum();
+    }
+
+    long getBytes() {
+        return bytes.sum();
+    }
+}
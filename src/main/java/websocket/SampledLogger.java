@@ -0,0 +1,95 @@
+package websocket;
+
+import metrics.Counter;
+import metrics.MetricsRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Lets through at most permitsPerSecond messages per second of each format and reports how many were dropped,
+// so a flood of one warning does not hide the others
+public final class SampledLogger {
+
+    public static final int DEFAULT_PERMITS_PER_SECOND = 20;
+
+    private static final Counter SUPPRESSED_TOTAL = MetricsRegistry.DEFAULT.counter(
+        "crocodile_log_suppressed_total", "Per-message log lines dropped by rate limiting.");
+
+    private final Logger logger;
+    private final int permitsPerSecond;
+    // Formats are constants at the call sites, so the map stays as small as the number of log statements
+    private final Map<String, Budget> budgets = new ConcurrentHashMap<>();
+
+    private static final class Budget {
+
+        private final AtomicLong currentSecond = new AtomicLong();
+        private final AtomicInteger used = new AtomicInteger();
+        private final AtomicInteger suppressed = new AtomicInteger();
+    }
+
+    public SampledLogger(@NotNull Logger logger) {
+        this(logger, DEFAULT_PERMITS_PER_SECOND);
+    }
+
+    public SampledLogger(@NotNull Logger logger, int permitsPerSecond) {
+
+        this.logger = logger;
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public void info(String format, Object argument) {
+
+        if (logger.isInfoEnabled() && tryAcquire(format)) {
+            logger.info(format, argument);
+        }
+    }
+
+    public void info(String format, Object first, Object second) {
+
+        if (logger.isInfoEnabled() && tryAcquire(format)) {
+            logger.info(format, first, second);
+        }
+    }
+
+    public void warn(String format, Object argument) {
+
+        if (logger.isWarnEnabled() && tryAcquire(format)) {
+            logger.warn(format, argument);
+        }
+    }
+
+    public void warn(String format, Object first, Object second) {
+
+        if (logger.isWarnEnabled() && tryAcquire(format)) {
+            logger.warn(format, first, second);
+        }
+    }
+
+    private boolean tryAcquire(@NotNull String format) {
+
+        final Budget budget = budgets.computeIfAbsent(format, e -> new Budget());
+        final long second = System.currentTimeMillis() / 1000;
+        final long windowSecond = budget.currentSecond.get();
+
+        if ((windowSecond != second) && budget.currentSecond.compareAndSet(windowSecond, second)) {
+
+            budget.used.set(0);
+            final int dropped = budget.suppressed.getAndSet(0);
+            if (dropped > 0) {
+                logger.warn("{} log messages \"{}\" suppressed in the last second.", dropped, format);
+            }
+        }
+
+        if (budget.used.incrementAndGet() <= permitsPerSecond) {
+            return true;
+        }
+
+        budget.suppressed.incrementAndGet();
+        SUPPRESSED_TOTAL.increment();
+        return false;
+    }
+}
@@ -1,47 +1,230 @@
 package websocket;
 
 import entities.BasicGame;
+import entities.DashesRecording;
+import metrics.Counter;
+import metrics.MetricsRegistry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import socketmessages.*;
 
-import java.util.ArrayList;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 @SuppressWarnings("unused")
 abstract class ScheduledGame <T extends BasicGame> {
 
+    // Rough compressed-oops estimate of the game shell with its timers, point columns are counted as they fill
+    static final int GAME_BYTES = 512;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScheduledGame.class);
+    private static final Counter END_CONFLICTS = MetricsRegistry.DEFAULT.counter(
+        "crocodile_game_end_conflicts_total", "Answers, timeouts and exits that lost the race to end an already ending game.");
+
     protected final T game;
 
-    private final ScheduledExecutorService scheduler;
-    private final ArrayList<PicturePointContent> points = new ArrayList<>();
+    private final GameScheduler scheduler;
+    private final long startTimeMillis;
+    private final RetainedSize pointsSize;
+    private final PointBudget pointBudget;
+    private final Object pointsLock = new Object();
+    private final GameEventLog events;
+    private final AtomicReference<GameState> state = new AtomicReference<>(GameState.CREATED);
+    private PointBuffer points = new PointBuffer();
+    private boolean pointsExhausted = false;
+    private boolean pointsCompacted = false;
+    private long pointBytes = 0;
+    private boolean released = false;
     private ScheduledFuture<?> shutdownTask;
-    private Runnable shutdownCommand;
     private long timeLeftMillis;
     private ScheduledFuture<?> repeatTask;
 
-    ScheduledGame(ScheduledExecutorService scheduler, T game) {
+    ScheduledGame(GameScheduler scheduler, T game, RetainedSize pointsSize, PointBudget pointBudget) {
 
         this.scheduler = scheduler;
         this.game = game;
-        this.shutdownTask = scheduler.schedule(() -> (0), 0, TimeUnit.SECONDS);
+        this.startTimeMillis = scheduler.currentTimeMillis();
+        this.pointsSize = pointsSize;
+        this.pointBudget = pointBudget;
+        this.events = new GameEventLog(scheduler);
+        this.shutdownTask = scheduler.schedule(() -> { }, 0, TimeUnit.SECONDS);
     }
 
     abstract GameType getType();
 
-    public void addPoint(PicturePointContent point) {
-        points.add(point);
+    // False when the point is malformed or the history stays over budget even after compaction
+    public boolean addPoint(PicturePointContent point) {
+
+        if (!pointBudget.isValid(point)) {
+            return false;
+        }
+
+        synchronized (pointsLock) {
+
+            if (pointsExhausted) {
+                return false;
+            }
+
+            if (pointBudget.isExceeded(points)) {
+
+                compactPoints();
+                if (pointBudget.isExceeded(points)) {
+
+                    pointsExhausted = true;
+                    return false;
+                }
+            }
+
+            final int countBefore = points.size();
+            points.add(point, (int) (scheduler.currentTimeMillis() - startTimeMillis));
+            updatePointsSize(countBefore);
+        }
+
+        return true;
+    }
+
+    // Players already in the game keep the full drawing, only later snapshots get the simplified one
+    private void compactPoints() {
+
+        float tolerance = pointBudget.getTolerance();
+        PointBuffer compacted = points.simplify(tolerance);
+
+        for (int i = 1; (i < PointBudget.TOLERANCE_STEPS) && pointBudget.isAboveTarget(compacted); ++i) {
+            tolerance *= 2;
+            compacted = points.simplify(tolerance);
+        }
+
+        final int countBefore = points.size();
+        points = compacted;
+        pointsCompacted = true;
+        updatePointsSize(countBefore);
+        LOGGER.info("Points of game #{} compacted from {} to {} with tolerance {}.",
+            game.getId(), countBefore, compacted.size(), tolerance);
+    }
+
+    private void updatePointsSize(int countBefore) {
+
+        final long bytes = points.getRetainedBytes() - pointBytes;
+        pointBytes += bytes;
+        if (!released) {
+            pointsSize.add(points.size() - countBefore, bytes);
+        }
+    }
+
+    public PointBuffer.Snapshot getPoints() {
+
+        synchronized (pointsLock) {
+            return points.getSnapshot();
+        }
+    }
+
+    public int getPointCount() {
+
+        synchronized (pointsLock) {
+            return points.size();
+        }
+    }
+
+    public long getRetainedBytes() {
+
+        synchronized (pointsLock) {
+            return GAME_BYTES + pointBytes;
+        }
+    }
+
+    void release() {
+
+        synchronized (pointsLock) {
+            if (!released) {
+                pointsSize.add(-points.size(), -pointBytes);
+                released = true;
+            }
+        }
+    }
+
+    public GameEventLog getEvents() {
+        return events;
+    }
+
+    public int getDurationMillis() {
+        return (int) (scheduler.currentTimeMillis() - startTimeMillis);
+    }
+
+    // Null once the points were compacted, a simplified drawing is not worth keeping as dashes
+    public @Nullable DashesRecording getRecording() {
+
+        synchronized (pointsLock) {
+            return pointsCompacted ? null : new DashesRecording(game.getWord(), points.getSnapshot());
+        }
+    }
+
+    public @NotNull GameState getState() {
+        return state.get();
+    }
+
+    public boolean isRunning() {
+        return state.get() == GameState.RUNNING;
+    }
+
+    // False when the game was abandoned or ended before its timer could start
+    public boolean start() {
+        return state.compareAndSet(GameState.CREATED, GameState.RUNNING);
+    }
+
+    // Exactly one of the racing answer, timeout and exit paths gets true and must then call end
+    public boolean beginEnd() {
+
+        GameState current = state.get();
+        while ((current == GameState.CREATED) || (current == GameState.RUNNING)) {
+
+            if (state.compareAndSet(current, GameState.ENDING)) {
+                return true;
+            }
+            current = state.get();
+        }
+
+        END_CONFLICTS.increment();
+        return false;
+    }
+
+    // The game leaves its manager even when sending the results fails
+    public void end(@NotNull GameResult result, @Nullable String winnerLogin) {
+
+        try {
+            cancelAll();
+            endGame(result, winnerLogin);
+
+        } finally {
+            state.set(GameState.ENDED);
+            remove();
+        }
     }
 
-    public ArrayList<PicturePointContent> getPoints() {
-        return points;
+    public void runLoseTask(@NotNull GameResult result) {
+
+        if (beginEnd()) {
+            end(result, null);
+        }
     }
 
-    public void rechedule(Runnable task, int delaySeconds) {
+    // Ends the game without a result or a history record, for games everybody left
+    public boolean abandon() {
+
+        if (!beginEnd()) {
+            return false;
+        }
+
+        cancelAll();
+        state.set(GameState.ENDED);
+        return true;
+    }
+
+    public synchronized void rechedule(Runnable task, int delaySeconds) {
 
         cancelShutdown();
-        shutdownCommand = task;
         timeLeftMillis = delaySeconds;
         shutdownTask = scheduler.schedule(task, delaySeconds, TimeUnit.SECONDS);
     }
@@ -63,14 +246,6 @@ abstract class ScheduledGame <T extends BasicGame> {
         return false;
     }
 
-    public synchronized void resumeShutdown() {
-
-        if (shutdownTask.isCancelled() && (timeLeftMillis > 0)) {
-
-            shutdownTask = scheduler.schedule(shutdownCommand, timeLeftMillis, TimeUnit.MILLISECONDS);
-        }
-    }
-
     public synchronized void cancelAll() {
 
         cancelShutdown();
@@ -95,13 +270,15 @@ abstract class ScheduledGame <T extends BasicGame> {
         return Float.POSITIVE_INFINITY;
     }
 
-    public abstract @NotNull WebSocketMessage<BaseGameContent> getGameStateMessage(@NotNull String login);
+    // Null once the player has left the game
+    public abstract @Nullable WebSocketMessage<BaseGameContent> getGameStateMessage(@NotNull String login);
 
-    public abstract @NotNull WebSocketMessage<BaseGameContent> getJoinGameMessage(@NotNull String login);
+    public abstract @Nullable WebSocketMessage<BaseGameContent> getJoinGameMessage(@NotNull String login);
 
-    public abstract void runWinTask(@NotNull String winnerLogin);
+    // Called once per game, by the caller that won beginEnd
+    abstract void endGame(@NotNull GameResult result, @Nullable String winnerLogin);
 
-    public abstract void runLoseTask(@NotNull GameResult result);
+    abstract void remove();
 
     public abstract int getWinScore();
 
@@ -1,27 +1,44 @@
 package websocket;
 
+import database.GameHistoryWriter;
 import entities.BasicGame;
+import entities.GameRecord;
+import metrics.Histogram;
+import metrics.MetricsRegistry;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import profiling.GameEvents;
+import socketmessages.GameType;
 
 import java.util.Map;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.PriorityQueue;
 
 abstract class ScheduledGameManager <M extends BasicGame> {
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(BasicGame.class);
 
-    protected final ScheduledExecutorService scheduler;
+    private static final Histogram GAME_POINTS = MetricsRegistry.DEFAULT.histogram(
+        "crocodile_game_points", "Points drawn per finished multiplayer game.",
+        0, 50, 100, 250, 500, 1000, 2500, 5000, 10000);
+
+    protected final GameScheduler scheduler;
     protected final Map<Integer, ScheduledGame<M>> currentGames;
+    protected final GameHistoryWriter gameHistoryWriter;
+    protected final PointBudget pointBudget;
+    protected final RetainedSize pointsSize = new RetainedSize();
 
     ScheduledGameManager(
-        ScheduledExecutorService scheduler,
-        Map<Integer, ScheduledGame<M>> currentGames) {
+        GameScheduler scheduler,
+        Map<Integer, ScheduledGame<M>> currentGames,
+        GameHistoryWriter gameHistoryWriter,
+        PointBudget pointBudget) {
 
         this.scheduler = scheduler;
         this.currentGames = currentGames;
+        this.gameHistoryWriter = gameHistoryWriter;
+        this.pointBudget = pointBudget;
     }
 
     abstract @NotNull ScheduledGame<M> createScheduledGame(M game);
@@ -31,8 +48,58 @@ abstract class ScheduledGameManager <M extends BasicGame> {
         return currentGames.get(id);
     }
 
+    public int getGamesCount() {
+        return currentGames.size();
+    }
+
+    public long getPointsCount() {
+        return pointsSize.getCount();
+    }
+
+    public long getPointsBytes() {
+        return pointsSize.getBytes();
+    }
+
+    // Reads each game's running byte total, nothing is measured here
+    void collectHeaviestGames(@NotNull PriorityQueue<MemoryReport.GameUsage> heaviest, int limit) {
+
+        for (ScheduledGame<M> scheduledGame : currentGames.values()) {
+
+            heaviest.add(new MemoryReport.GameUsage(
+                scheduledGame.getGame().getId(),
+                scheduledGame.getType().toString(),
+                scheduledGame.getPointCount(),
+                scheduledGame.getRetainedBytes()));
+
+            if (heaviest.size() > limit) {
+                heaviest.poll();
+            }
+        }
+    }
+
+    protected void recordGame(@NotNull ScheduledGame<M> scheduledGame, @Nullable String winnerLogin) {
+
+        final M game = scheduledGame.getGame();
+        if (scheduledGame.getType() == GameType.MULTIPLAYER) {
+            GAME_POINTS.observe(scheduledGame.getPointCount());
+        }
+        GameEvents.gameEnded(scheduledGame.getType().toString(), game.getId(), winnerLogin != null,
+            scheduledGame.getDurationMillis(), scheduledGame.getPointCount());
+
+        gameHistoryWriter.submit(new GameRecord(
+            scheduledGame.getType().toString(),
+            game.getWord(),
+            game.getUserLogins(),
+            winnerLogin,
+            scheduledGame.getDurationMillis(),
+            scheduledGame.getPointCount()));
+    }
+
     public void removeScheduledGame(int id) {
 
-        currentGames.remove(id);
+        final ScheduledGame<M> scheduledGame = currentGames.remove(id);
+        if (scheduledGame != null) {
+            scheduledGame.release();
+        }
     }
 }
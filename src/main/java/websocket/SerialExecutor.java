@@ -0,0 +1,42 @@
+package websocket;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+// Runs submitted tasks one at a time in submission order, each on a thread of the underlying executor
+final class SerialExecutor implements Executor {
+
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+    private final Executor executor;
+    private Runnable active;
+
+    SerialExecutor(@NotNull Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public synchronized void execute(@NotNull Runnable task) {
+
+        tasks.add(() -> {
+            try {
+                task.run();
+            } finally {
+                scheduleNext();
+            }
+        });
+
+        if (active == null) {
+            scheduleNext();
+        }
+    }
+
+    private synchronized void scheduleNext() {
+
+        active = tasks.poll();
+        if (active != null) {
+            executor.execute(active);
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package websocket;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import metrics.EnumCounter;
+import metrics.EnumLatencySummary;
+import metrics.MetricsRegistry;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import server.ApplicationController;
+import socketmessages.MessageType;
 import socketmessages.WebSocketMessage;
 
 import java.io.IOException;
@@ -18,6 +22,13 @@ public final class SessionOperator {
     private static final Logger LOGGER = LoggerFactory.getLogger(SessionOperator.class);
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
+    private static final EnumCounter<MessageType> SENT_MESSAGES = MetricsRegistry.DEFAULT.enumCounter(
+        "crocodile_socket_sent_messages_total", "Websocket messages sent by type.", "type", MessageType.class);
+    private static final EnumLatencySummary<MessageType> SEND_TIME = MetricsRegistry.DEFAULT.enumLatencySummary(
+        "crocodile_socket_send_seconds", "Websocket send time by type, last minute.", "type", MessageType.class);
+    private static final EnumCounter<MessageType> SENT_BYTES = MetricsRegistry.DEFAULT.enumCounter(
+        "crocodile_socket_sent_bytes_total", "Websocket payload characters sent by type.", "type", MessageType.class);
+
     private SessionOperator() {
     }
 
@@ -28,11 +39,31 @@ public final class SessionOperator {
         return (login != null) ? login : "";
     }
 
-    @SuppressWarnings("OverlyBroadCatchBlock")
     public static void sendMessage(WebSocketSession session, WebSocketMessage message) {
 
         try {
-            session.sendMessage(new TextMessage(OBJECT_MAPPER.writeValueAsString(message)));
+            sendMessage(session, encode(message), message.getTypeEnum());
+
+        } catch (IOException exception) {
+            LOGGER.error("Can't encode websocket message for {}.", getLogin(session));
+        }
+    }
+
+    public static @NotNull TextMessage encode(WebSocketMessage message) throws IOException {
+
+        return new TextMessage(OBJECT_MAPPER.writeValueAsString(message));
+    }
+
+    // Sends an already encoded message, so broadcasts and replays encode once
+    public static void sendMessage(WebSocketSession session, TextMessage textMessage, MessageType type) {
+
+        try {
+            final long startNanos = System.nanoTime();
+            session.sendMessage(textMessage);
+
+            SEND_TIME.recordNanos(type, System.nanoTime() - startNanos);
+            SENT_MESSAGES.increment(type);
+            SENT_BYTES.add(type, textMessage.getPayloadLength());
 
         } catch (IOException exception) {
             LOGGER.error("Can't send websocket message to {}.", getLogin(session));
@@ -0,0 +1,162 @@
+package websocket;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// How game messages reach the socket. Blocking mode writes on the thread that sends, as Spring's sessions do;
+// queued mode gives every session a bounded outbound queue drained by writer threads, so a slow client
+// only delays itself and is dropped once it falls too far behind.
+// Writers hand text messages to the container's asynchronous send where there is one, so no writer waits on a socket.
+// Otherwise they write blocking, and a watchdog closes sessions whose write has stalled past the limit,
+// which frees their writer. Closing a stalled socket can block as long as the write it interrupts,
+// so closes run on their own threads.
+public final class SessionTransport {
+
+    public enum Mode {
+        BLOCKING,
+        QUEUED
+    }
+
+    public static final SessionTransport BLOCKING = new SessionTransport(Mode.BLOCKING, null, null, null, 0, 0);
+
+    // A stalled write is closed at most a quarter of the send time limit late
+    private static final int WATCHDOG_CHECKS_PER_LIMIT = 4;
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionTransport.class);
+
+    private final @NotNull Mode mode;
+    private final @Nullable ExecutorService writers;
+    private final @Nullable ExecutorService closers;
+    private final @Nullable ScheduledExecutorService watchdog;
+    private final int queueLimit;
+    private final long sendTimeLimitNanos;
+    private final Set<QueuedWebSocketSession> writingSessions = ConcurrentHashMap.newKeySet();
+
+    private SessionTransport(
+        @NotNull Mode mode,
+        @Nullable ExecutorService writers,
+        @Nullable ExecutorService closers,
+        @Nullable ScheduledExecutorService watchdog,
+        int queueLimit,
+        long sendTimeLimitNanos) {
+
+        this.mode = mode;
+        this.writers = writers;
+        this.closers = closers;
+        this.watchdog = watchdog;
+        this.queueLimit = queueLimit;
+        this.sendTimeLimitNanos = sendTimeLimitNanos;
+
+        if (watchdog != null) {
+
+            final long periodNanos = Math.max(1, sendTimeLimitNanos / WATCHDOG_CHECKS_PER_LIMIT);
+            watchdog.scheduleWithFixedDelay(this::closeStalledSessions, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public static @NotNull SessionTransport create(@NotNull String mode, int writerThreads, int queueLimit, int sendTimeLimitMillis) {
+
+        if (!Mode.QUEUED.name().equalsIgnoreCase(mode)) {
+            return BLOCKING;
+        }
+
+        LOGGER.info("Websocket messages are queued per session, up to {} messages or {} ms behind.",
+            queueLimit, sendTimeLimitMillis);
+        return new SessionTransport(
+            Mode.QUEUED,
+            Executors.newFixedThreadPool(writerThreads, createThreadFactory("socket-writer-")),
+            Executors.newCachedThreadPool(createThreadFactory("socket-closer-")),
+            Executors.newSingleThreadScheduledExecutor(createThreadFactory("socket-watchdog-")),
+            queueLimit, TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis));
+    }
+
+    private static @NotNull ThreadFactory createThreadFactory(@NotNull String prefix) {
+
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        return (Runnable task) -> {
+            final Thread thread = new Thread(task, prefix + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public @NotNull Mode getMode() {
+        return mode;
+    }
+
+    // The returned session is the one game code must see, so sends made through it go through the queue
+    public @NotNull WebSocketSession wrap(@NotNull WebSocketSession session) {
+
+        if (writers == null) {
+            return session;
+        }
+
+        return wrap(session, AsyncTextSender.of(session, TimeUnit.NANOSECONDS.toMillis(sendTimeLimitNanos)));
+    }
+
+    @NotNull WebSocketSession wrap(@NotNull WebSocketSession session, @Nullable AsyncTextSender sender) {
+
+        if (writers == null) {
+            return session;
+        }
+
+        return new QueuedWebSocketSession(session, sender, this, writers, queueLimit, sendTimeLimitNanos);
+    }
+
+    // Sessions register while their writer is busy, so the watchdog only looks at those
+    void writingStarted(@NotNull QueuedWebSocketSession session) {
+        writingSessions.add(session);
+    }
+
+    void writingFinished(@NotNull QueuedWebSocketSession session) {
+        writingSessions.remove(session);
+    }
+
+    private void closeStalledSessions() {
+
+        for (QueuedWebSocketSession session : writingSessions) {
+            session.closeIfStalled();
+        }
+    }
+
+    void close(@NotNull WebSocketSession session, @NotNull CloseStatus status) {
+
+        if (closers == null) {
+            return;
+        }
+
+        closers.execute(() -> {
+            try {
+                session.close(status);
+            } catch (IOException | RuntimeException exception) {
+                LOGGER.warn("Can't close websocket session of {}: {}", SessionOperator.getLogin(session), exception.toString());
+            }
+        });
+    }
+
+    public void shutdown() {
+
+        if (watchdog != null) {
+            watchdog.shutdown();
+        }
+        if (writers != null) {
+            writers.shutdown();
+        }
+        if (closers != null) {
+            closers.shutdown();
+        }
+    }
+}
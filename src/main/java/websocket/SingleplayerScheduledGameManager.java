@@ -1,12 +1,14 @@
 package websocket;
 
+import database.GameHistoryWriter;
 import entities.SingleplayerGame;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.web.socket.WebSocketSession;
 import socketmessages.*;
 
+import java.util.Collections;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledExecutorService;
 
 public class SingleplayerScheduledGameManager extends ScheduledGameManager<SingleplayerGame> {
 
@@ -14,8 +16,8 @@ public class SingleplayerScheduledGameManager extends ScheduledGameManager<Singl
 
     public final class SingleplayerScheduledGame extends ScheduledGame<SingleplayerGame> {
 
-        private SingleplayerScheduledGame(ScheduledExecutorService scheduler, SingleplayerGame game) {
-            super(scheduler, game);
+        private SingleplayerScheduledGame(GameScheduler scheduler, SingleplayerGame game) {
+            super(scheduler, game, pointsSize, pointBudget);
         }
 
         @Override
@@ -24,13 +26,13 @@ public class SingleplayerScheduledGameManager extends ScheduledGameManager<Singl
         }
 
         @Override
-        public @NotNull WebSocketMessage<BaseGameContent> getGameStateMessage(@NotNull String login) {
+        public @Nullable WebSocketMessage<BaseGameContent> getGameStateMessage(@NotNull String login) {
 
             return getGameMessage(MessageType.STATE);
         }
 
         @Override
-        public @NotNull WebSocketMessage<BaseGameContent> getJoinGameMessage(@NotNull String login) {
+        public @Nullable WebSocketMessage<BaseGameContent> getJoinGameMessage(@NotNull String login) {
 
             return getGameMessage(MessageType.START_SINGLEPLAYER_GAME);
         }
@@ -45,39 +47,35 @@ public class SingleplayerScheduledGameManager extends ScheduledGameManager<Singl
                     GameManagerService.SINGLEPLAYER_TIME_LIMIT));
         }
 
-        private synchronized void endSingleplayerGame(GameResult gameResult) {
+        @Override
+        void endGame(@NotNull GameResult result, @Nullable String winnerLogin) {
 
             final int gameId = this.getGame().getId();
-
-            if (currentGames.containsKey(gameId)) {
-
-                cancelAll();
-
-                final WebSocketSession session = gameRelationManager.getGameSessions(this).get(0);
-                SessionOperator.sendMessage(session, new WebSocketMessage<>(
-                    MessageType.STOP_GAME.toString(),
-                    new FinishGameContent(
-                        gameResult, getWinScore(),
-                        SessionOperator.getLogin(session),
-                        getGame().getWord())));
-
-                currentGames.remove(gameId);
-                gameRelationManager.removeRelation(SessionOperator.getLogin(session));
-                LOGGER.info("Singleplayer game #{} ended with result {}.", gameId, gameResult.asInt());
+            final String login = this.getGame().getUserLogins().get(0);
+            final GameRelationManager.GameRelation relation = gameRelationManager.getRelation(login);
+
+            // The player may have left while the win was being stored, the game is still recorded
+            if ((relation != null) && (relation.getGameId() == gameId)) {
+
+                getEvents().send(
+                    Collections.singletonList(relation.getSession()),
+                    new WebSocketMessage<>(
+                        MessageType.STOP_GAME.toString(),
+                        new FinishGameContent(
+                            result, getWinScore(),
+                            login,
+                            getGame().getWord())),
+                    gameRelationManager);
+                gameRelationManager.removeRelation(login, gameId);
             }
-        }
-
 
-        @Override
-        public synchronized void runWinTask(@NotNull String winnerLogin) {
-
-            endSingleplayerGame(GameResult.GAME_WON);
+            recordGame(this, (result == GameResult.GAME_WON) ? login : null);
+            LOGGER.info("Singleplayer game #{} ended with result {}.", gameId, result.asInt());
         }
 
         @Override
-        public synchronized void runLoseTask(@NotNull GameResult result) {
-
-            endSingleplayerGame(GameResult.GAME_LOST);
+        void remove() {
+            removeScheduledGame(getGame().getId());
         }
 
         @Override
@@ -92,10 +90,12 @@ public class SingleplayerScheduledGameManager extends ScheduledGameManager<Singl
     }
 
     public SingleplayerScheduledGameManager(
-        ScheduledExecutorService scheduler,
-        GameRelationManager gameRelationManager) {
+        GameScheduler scheduler,
+        GameRelationManager gameRelationManager,
+        GameHistoryWriter gameHistoryWriter,
+        PointBudget pointBudget) {
 
-        super(scheduler, new ConcurrentHashMap<>());
+        super(scheduler, new ConcurrentHashMap<>(), gameHistoryWriter, pointBudget);
         this.gameRelationManager = gameRelationManager;
     }
 
@@ -1,5 +1,7 @@
 package websocket;
 
+import metrics.EnumLatencySummary;
+import metrics.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -13,6 +15,9 @@ import java.util.EnumMap;
 public class WebSocketMessageHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WebSocketMessageHandler.class);
+    private static final SampledLogger MESSAGE_LOGGER = new SampledLogger(LOGGER);
+    private static final EnumLatencySummary<MessageType> HANDLE_TIME = MetricsRegistry.DEFAULT.enumLatencySummary(
+        "crocodile_socket_handle_seconds", "Websocket message handler time by type, last minute.", "type", MessageType.class);
 
     private final EnumMap<MessageType, MessageHandler> handlers = new EnumMap<>(MessageType.class);
 
@@ -27,10 +32,15 @@ public class WebSocketMessageHandler {
 
         if (handler != null) {
 
-            handler.handle(session, textMessage);
+            final long startNanos = System.nanoTime();
+            try {
+                handler.handle(session, textMessage);
+            } finally {
+                HANDLE_TIME.recordNanos(messageType, System.nanoTime() - startNanos);
+            }
 
         } else {
-            LOGGER.warn("Handler for websocket message of type {} does not exist.", messageType.toString());
+            MESSAGE_LOGGER.warn("Handler for websocket message of type {} does not exist.", messageType);
         }
     }
 }
@@ -1,19 +1,2 @@
-INSERT INTO dashes (word, points) VALUES
-  ('кот',
-   '[{"time":1759,"x":"0.445","y":"0.480","down":true,"color":"#000000"},{"time":1912,"x":"0.442","y":"0.480"},{"time":1995,"x":"0.426","y":"0.498"},{"time":2074,"x":"0.398","y":"0.510"},{"time":2160,"x":"0.361","y":"0.516"},{"time":2240,"x":"0.329","y":"0.506"},{"time":2321,"x":"0.302","y":"0.494"},{"time":2402,"x":"0.289","y":"0.474"},{"time":2483,"x":"0.287","y":"0.458"},{"time":2565,"x":"0.304","y":"0.436"},{"time":2645,"x":"0.328","y":"0.428"},{"time":2724,"x":"0.352","y":"0.428"},{"time":2804,"x":"0.368","y":"0.430"},{"time":2884,"x":"0.394","y":"0.444"},{"time":2964,"x":"0.418","y":"0.462"},{"time":3043,"x":"0.438","y":"0.478"},{"time":3126,"x":"0.453","y":"0.490"},{"time":3205,"x":"0.471","y":"0.500"},{"time":3286,"x":"0.492","y":"0.510"},{"time":3368,"x":"0.510","y":"0.508"},{"time":3449,"x":"0.531","y":"0.502"},{"time":3529,"x":"0.553","y":"0.494"},{"time":3607,"x":"0.571","y":"0.480"},{"time":3688,"x":"0.585","y":"0.462"},{"time":3770,"x":"0.585","y":"0.446"},{"time":3849,"x":"0.568","y":"0.416"},{"time":3930,"x":"0.555","y":"0.406"},{"time":4013,"x":"0.534","y":"0.404"},{"time":4092,"x":"0.508","y":"0.408"},{"time":4171,"x":"0.480","y":"0.416"},{"time":4252,"x":"0.468","y":"0.426"},{"time":4331,"x":"0.456","y":"0.436"},{"time":4410,"x":"0.448","y":"0.450"},{"time":4491,"x":"0.435","y":"0.462"},{"time":4570,"x":"0.435","y":"0.462"},{"time":5749,"x":"0.341","y":"0.426","down":true,"color":"#000000"},{"time":5906,"x":"0.341","y":"0.410"},{"time":5986,"x":"0.340","y":"0.384"},{"time":6068,"x":"0.341","y":"0.349"},{"time":6148,"x":"0.356","y":"0.329"},{"time":6230,"x":"0.370","y":"0.313"},{"time":6310,"x":"0.380","y":"0.315"},{"time":6393,"x":"0.389","y":"0.339"},{"time":6472,"x":"0.389","y":"0.376"},{"time":6552,"x":"0.389","y":"0.394"},{"time":6632,"x":"0.389","y":"0.410"},{"time":7678,"x":"0.472","y":"0.422","down":true,"color":"#000000"},{"time":7780,"x":"0.472","y":"0.408"},{"time":7859,"x":"0.471","y":"0.378"},{"time":7939,"x":"0.471","y":"0.339"},{"time":8021,"x":"0.477","y":"0.321"},{"time":8101,"x":"0.495","y":"0.317"},{"time":8181,"x":"0.514","y":"0.325"},{"time":8260,"x":"0.520","y":"0.357"},{"time":8340,"x":"0.522","y":"0.376"},{"time":8421,"x":"0.522","y":"0.390"},{"time":8501,"x":"0.523","y":"0.400"},{"time":10124,"x":"0.299","y":"0.424","down":true,"color":"#000000"},{"time":10286,"x":"0.298","y":"0.396"},{"time":10365,"x":"0.299","y":"0.357"},{"time":10448,"x":"0.326","y":"0.307"},{"time":10527,"x":"0.362","y":"0.279"},{"time":10606,"x":"0.415","y":"0.257"},{"time":10687,"x":"0.462","y":"0.255"},{"time":10767,"x":"0.496","y":"0.279"},{"time":10850,"x":"0.540","y":"0.341"},{"time":10930,"x":"0.565","y":"0.378"},{"time":11015,"x":"0.570","y":"0.410"},{"time":11091,"x":"0.570","y":"0.424"},{"time":12138,"x":"0.292","y":"0.337","down":true,"color":"#000000"},{"time":12325,"x":"0.293","y":"0.365"},{"time":12408,"x":"0.293","y":"0.319"},{"time":12487,"x":"0.298","y":"0.285"},{"time":12567,"x":"0.298","y":"0.257"},{"time":12676,"x":"0.298","y":"0.255"},{"time":12756,"x":"0.304","y":"0.265"},{"time":12834,"x":"0.340","y":"0.297"},{"time":12915,"x":"0.353","y":"0.305"},{"time":13892,"x":"0.493","y":"0.271","down":true,"color":"#000000"},{"time":14053,"x":"0.522","y":"0.255"},{"time":14132,"x":"0.540","y":"0.241"},{"time":14215,"x":"0.549","y":"0.231"},{"time":14349,"x":"0.549","y":"0.251"},{"time":14435,"x":"0.549","y":"0.289"},{"time":14515,"x":"0.549","y":"0.309"},{"time":14593,"x":"0.549","y":"0.321"},{"time":14674,"x":"0.549","y":"0.343"},{"time":15989,"x":"0.368","y":"0.373","down":true,"color":"#000000"},{"time":16121,"x":"0.368","y":"0.380"},{"time":16200,"x":"0.368","y":"0.404"},{"time":16280,"x":"0.368","y":"0.416"},{"time":16360,"x":"0.370","y":"0.428"},{"time":16439,"x":"0.370","y":"0.428"},{"time":17410,"x":"0.498","y":"0.369","down":true,"color":"#000000"},{"time":17542,"x":"0.498","y":"0.375"},{"time":17622,"x":"0.498","y":"0.396"},{"time":17728,"x":"0.498","y":"0.402"},{"time":17806,"x":"0.498","y":"0.412"},{"time":17912,"x":"0.498","y":"0.418"},{"time":18692,"x":"0.414","y":"0.456","down":true,"color":"#000000"},{"time":18852,"x":"0.417","y":"0.446"},{"time":18932,"x":"0.423","y":"0.430"},{"time":19015,"x":"0.426","y":"0.424"},{"time":19148,"x":"0.427","y":"0.424"},{"time":19225,"x":"0.438","y":"0.434"},{"time":19305,"x":"0.445","y":"0.442"},{"time":19388,"x":"0.445","y":"0.444"},{"time":22479,"x":"0.316","y":"0.309","down":true,"color":"#000000"},{"time":22611,"x":"0.316","y":"0.323"},{"time":22690,"x":"0.316","y":"0.345"},{"time":22853,"x":"0.316","y":"0.341"},{"time":22932,"x":"0.316","y":"0.319"},{"time":23015,"x":"0.316","y":"0.313"},{"time":23174,"x":"0.322","y":"0.315"},{"time":24479,"x":"0.513","y":"0.303","down":true,"color":"#000000"},{"time":24587,"x":"0.517","y":"0.297"},{"time":24717,"x":"0.522","y":"0.287"},{"time":24800,"x":"0.525","y":"0.279"},{"time":24876,"x":"0.525","y":"0.291"},{"time":24956,"x":"0.525","y":"0.301"},{"time":25039,"x":"0.525","y":"0.307"}]'),
-  ('бабочка',
-   '[{"time":2627,"x":"0.532","y":"0.260","down":true,"color":"#000000"},{"time":2760,"x":"0.520","y":"0.290"},{"time":2842,"x":"0.475","y":"0.428"},{"time":2921,"x":"0.446","y":"0.538"},{"time":2998,"x":"0.439","y":"0.622"},{"time":3074,"x":"0.433","y":"0.682"},{"time":3154,"x":"0.431","y":"0.718"},{"time":3236,"x":"0.434","y":"0.744"},{"time":3312,"x":"0.442","y":"0.758"},{"time":3392,"x":"0.454","y":"0.764"},{"time":3473,"x":"0.465","y":"0.760"},{"time":3554,"x":"0.475","y":"0.734"},{"time":3630,"x":"0.493","y":"0.692"},{"time":3707,"x":"0.513","y":"0.618"},{"time":3788,"x":"0.528","y":"0.544"},{"time":3867,"x":"0.546","y":"0.466"},{"time":3950,"x":"0.564","y":"0.370"},{"time":4029,"x":"0.572","y":"0.298"},{"time":4108,"x":"0.573","y":"0.258"},{"time":4190,"x":"0.569","y":"0.240"},{"time":4268,"x":"0.557","y":"0.240"},{"time":4344,"x":"0.541","y":"0.248"},{"time":4420,"x":"0.534","y":"0.258"},{"time":5444,"x":"0.554","y":"0.240","down":true,"color":"#000000"},{"time":5549,"x":"0.555","y":"0.234"},{"time":5631,"x":"0.564","y":"0.158"},{"time":5710,"x":"0.564","y":"0.128"},{"time":5790,"x":"0.554","y":"0.100"},{"time":5871,"x":"0.537","y":"0.078"},{"time":5950,"x":"0.522","y":"0.076"},{"time":6032,"x":"0.496","y":"0.082"},{"time":6112,"x":"0.477","y":"0.082"},{"time":6191,"x":"0.459","y":"0.082"},{"time":6268,"x":"0.451","y":"0.064"},{"time":7258,"x":"0.579","y":"0.234","down":true,"color":"#000000"},{"time":7421,"x":"0.579","y":"0.216"},{"time":7501,"x":"0.587","y":"0.188"},{"time":7580,"x":"0.608","y":"0.152"},{"time":7660,"x":"0.629","y":"0.128"},{"time":7742,"x":"0.650","y":"0.122"},{"time":7822,"x":"0.670","y":"0.142"},{"time":7902,"x":"0.698","y":"0.152"},{"time":7982,"x":"0.738","y":"0.120"},{"time":8884,"x":"0.525","y":"0.276","down":true,"color":"#000000"},{"time":9039,"x":"0.516","y":"0.258"},{"time":9119,"x":"0.498","y":"0.228"},{"time":9200,"x":"0.474","y":"0.206"},{"time":9281,"x":"0.442","y":"0.182"},{"time":9360,"x":"0.412","y":"0.166"},{"time":9443,"x":"0.380","y":"0.162"},{"time":9523,"x":"0.356","y":"0.162"},{"time":9606,"x":"0.344","y":"0.168"},{"time":9682,"x":"0.329","y":"0.182"},{"time":9758,"x":"0.311","y":"0.224"},{"time":9838,"x":"0.300","y":"0.252"},{"time":9920,"x":"0.293","y":"0.288"},{"time":10000,"x":"0.291","y":"0.330"},{"time":10079,"x":"0.294","y":"0.356"},{"time":10159,"x":"0.312","y":"0.390"},{"time":10239,"x":"0.326","y":"0.412"},{"time":10322,"x":"0.341","y":"0.432"},{"time":10401,"x":"0.362","y":"0.442"},{"time":10483,"x":"0.391","y":"0.446"},{"time":10563,"x":"0.419","y":"0.448"},{"time":10642,"x":"0.442","y":"0.456"},{"time":10723,"x":"0.454","y":"0.458"},{"time":11375,"x":"0.465","y":"0.484","down":true,"color":"#000000"},{"time":11531,"x":"0.456","y":"0.464"},{"time":11611,"x":"0.428","y":"0.460"},{"time":11691,"x":"0.400","y":"0.462"},{"time":11773,"x":"0.363","y":"0.490"},{"time":11850,"x":"0.327","y":"0.520"},{"time":11929,"x":"0.318","y":"0.546"},{"time":12015,"x":"0.318","y":"0.568"},{"time":12089,"x":"0.324","y":"0.600"},{"time":12168,"x":"0.347","y":"0.616"},{"time":12251,"x":"0.368","y":"0.628"},{"time":12331,"x":"0.389","y":"0.628"},{"time":12410,"x":"0.413","y":"0.630"},{"time":12492,"x":"0.431","y":"0.630"},{"time":13416,"x":"0.569","y":"0.300","down":true,"color":"#000000"},{"time":13571,"x":"0.600","y":"0.280"},{"time":13650,"x":"0.635","y":"0.268"},{"time":13732,"x":"0.680","y":"0.258"},{"time":13812,"x":"0.713","y":"0.258"},{"time":13894,"x":"0.754","y":"0.256"},{"time":13974,"x":"0.792","y":"0.252"},{"time":14053,"x":"0.817","y":"0.262"},{"time":14133,"x":"0.836","y":"0.302"},{"time":14213,"x":"0.845","y":"0.350"},{"time":14295,"x":"0.842","y":"0.402"},{"time":14375,"x":"0.822","y":"0.448"},{"time":14454,"x":"0.781","y":"0.490"},{"time":14534,"x":"0.718","y":"0.502"},{"time":14615,"x":"0.649","y":"0.502"},{"time":14697,"x":"0.582","y":"0.504"},{"time":14776,"x":"0.557","y":"0.500"},{"time":14860,"x":"0.543","y":"0.490"},{"time":15396,"x":"0.551","y":"0.496","down":true,"color":"#000000"},{"time":15556,"x":"0.591","y":"0.512"},{"time":15636,"x":"0.652","y":"0.542"},{"time":15712,"x":"0.685","y":"0.570"},{"time":15789,"x":"0.691","y":"0.594"},{"time":15871,"x":"0.679","y":"0.628"},{"time":15951,"x":"0.653","y":"0.654"},{"time":16031,"x":"0.617","y":"0.666"},{"time":16111,"x":"0.585","y":"0.662"},{"time":16191,"x":"0.561","y":"0.648"},{"time":16273,"x":"0.538","y":"0.630"},{"time":16352,"x":"0.531","y":"0.620"},{"time":17479,"x":"0.469","y":"0.298","down":true,"color":"#000000"},{"time":17636,"x":"0.463","y":"0.270"},{"time":17716,"x":"0.452","y":"0.256"},{"time":17795,"x":"0.433","y":"0.284"},{"time":17878,"x":"0.406","y":"0.284"},{"time":17957,"x":"0.389","y":"0.258"},{"time":18036,"x":"0.380","y":"0.246"},{"time":18117,"x":"0.379","y":"0.248"},{"time":18197,"x":"0.359","y":"0.294"},{"time":18333,"x":"0.351","y":"0.310"},{"time":18414,"x":"0.351","y":"0.328"},{"time":18493,"x":"0.362","y":"0.330"},{"time":18575,"x":"0.377","y":"0.340"},{"time":18654,"x":"0.389","y":"0.360"},{"time":18734,"x":"0.398","y":"0.362"},{"time":18817,"x":"0.413","y":"0.354"},{"time":18896,"x":"0.421","y":"0.354"},{"time":18977,"x":"0.431","y":"0.372"},{"time":19056,"x":"0.446","y":"0.366"},{"time":19138,"x":"0.454","y":"0.358"},{"time":19218,"x":"0.460","y":"0.340"},{"time":19298,"x":"0.460","y":"0.320"},{"time":19377,"x":"0.462","y":"0.302"},{"time":19455,"x":"0.468","y":"0.292"},{"time":19534,"x":"0.471","y":"0.292"},{"time":20185,"x":"0.614","y":"0.366","down":true,"color":"#000000"},{"time":20317,"x":"0.627","y":"0.346"},{"time":20396,"x":"0.644","y":"0.328"},{"time":20477,"x":"0.659","y":"0.326"},{"time":20557,"x":"0.679","y":"0.344"},{"time":20639,"x":"0.704","y":"0.340"},{"time":20718,"x":"0.719","y":"0.328"},{"time":20798,"x":"0.729","y":"0.352"},{"time":20877,"x":"0.730","y":"0.432"},{"time":20957,"x":"0.721","y":"0.458"},{"time":21036,"x":"0.701","y":"0.462"},{"time":21117,"x":"0.665","y":"0.448"},{"time":21197,"x":"0.646","y":"0.450"},{"time":21279,"x":"0.623","y":"0.458"},{"time":21359,"x":"0.614","y":"0.452"},{"time":21437,"x":"0.609","y":"0.426"},{"time":21518,"x":"0.614","y":"0.390"},{"time":21597,"x":"0.615","y":"0.386"},{"time":21680,"x":"0.618","y":"0.370"},{"time":22446,"x":"0.415","y":"0.524","down":true,"color":"#000000"},{"time":22578,"x":"0.398","y":"0.522"},{"time":22657,"x":"0.385","y":"0.514"},{"time":22818,"x":"0.371","y":"0.552"},{"time":22897,"x":"0.368","y":"0.560"},{"time":22979,"x":"0.365","y":"0.568"},{"time":23085,"x":"0.391","y":"0.576"},{"time":23164,"x":"0.407","y":"0.580"},{"time":23247,"x":"0.421","y":"0.576"},{"time":23326,"x":"0.421","y":"0.566"},{"time":23410,"x":"0.419","y":"0.538"},{"time":24246,"x":"0.365","y":"0.438","down":true,"color":"#000000"},{"time":24350,"x":"0.354","y":"0.442"},{"time":24432,"x":"0.329","y":"0.450"},{"time":24511,"x":"0.305","y":"0.466"},{"time":24591,"x":"0.288","y":"0.480"},{"time":24670,"x":"0.271","y":"0.494"},{"time":24750,"x":"0.250","y":"0.516"},{"time":24833,"x":"0.234","y":"0.548"},{"time":24909,"x":"0.222","y":"0.574"},{"time":24989,"x":"0.216","y":"0.608"},{"time":25065,"x":"0.213","y":"0.630"},{"time":25142,"x":"0.217","y":"0.654"},{"time":25224,"x":"0.238","y":"0.666"},{"time":25303,"x":"0.259","y":"0.682"},{"time":25383,"x":"0.284","y":"0.700"},{"time":25463,"x":"0.305","y":"0.704"},{"time":25543,"x":"0.324","y":"0.698"},{"time":25625,"x":"0.353","y":"0.686"},{"time":25705,"x":"0.383","y":"0.682"},{"time":25785,"x":"0.407","y":"0.678"},{"time":25865,"x":"0.433","y":"0.678"},{"time":26758,"x":"0.662","y":"0.518","down":true,"color":"#000000"},{"time":26938,"x":"0.685","y":"0.520"},{"time":27023,"x":"0.721","y":"0.554"},{"time":27099,"x":"0.759","y":"0.606"},{"time":27179,"x":"0.774","y":"0.660"},{"time":27259,"x":"0.774","y":"0.714"},{"time":27338,"x":"0.756","y":"0.748"},{"time":27421,"x":"0.724","y":"0.778"},{"time":27500,"x":"0.671","y":"0.786"},{"time":27580,"x":"0.608","y":"0.776"},{"time":27661,"x":"0.557","y":"0.740"},{"time":27740,"x":"0.529","y":"0.716"},{"time":27822,"x":"0.508","y":"0.690"},{"time":27902,"x":"0.501","y":"0.676"},{"time":28506,"x":"0.587","y":"0.578","down":true,"color":"#000000"},{"time":28639,"x":"0.584","y":"0.590"},{"time":28721,"x":"0.582","y":"0.614"},{"time":28800,"x":"0.593","y":"0.626"},{"time":28880,"x":"0.609","y":"0.626"},{"time":28960,"x":"0.623","y":"0.606"}]'),
-  ('вишня',
-   '[{"time":1062,"x":"0.373","y":"0.574","down":true,"color":"#000000"},{"time":1194,"x":"0.370","y":"0.576"},{"time":1276,"x":"0.350","y":"0.576"},{"time":1355,"x":"0.329","y":"0.568"},{"time":1435,"x":"0.306","y":"0.556"},{"time":1515,"x":"0.278","y":"0.540"},{"time":1595,"x":"0.256","y":"0.538"},{"time":1678,"x":"0.235","y":"0.550"},{"time":1757,"x":"0.222","y":"0.574"},{"time":1837,"x":"0.214","y":"0.606"},{"time":1917,"x":"0.214","y":"0.642"},{"time":1997,"x":"0.217","y":"0.670"},{"time":2079,"x":"0.225","y":"0.690"},{"time":2158,"x":"0.234","y":"0.714"},{"time":2242,"x":"0.249","y":"0.732"},{"time":2322,"x":"0.259","y":"0.746"},{"time":2400,"x":"0.268","y":"0.762"},{"time":2481,"x":"0.284","y":"0.776"},{"time":2561,"x":"0.293","y":"0.782"},{"time":2643,"x":"0.333","y":"0.784"},{"time":2722,"x":"0.365","y":"0.784"},{"time":2802,"x":"0.389","y":"0.784"},{"time":2883,"x":"0.418","y":"0.780"},{"time":2962,"x":"0.442","y":"0.772"},{"time":3039,"x":"0.459","y":"0.750"},{"time":3121,"x":"0.472","y":"0.720"},{"time":3198,"x":"0.480","y":"0.678"},{"time":3278,"x":"0.484","y":"0.632"},{"time":3361,"x":"0.484","y":"0.584"},{"time":3443,"x":"0.480","y":"0.554"},{"time":3523,"x":"0.466","y":"0.528"},{"time":3602,"x":"0.448","y":"0.512"},{"time":3685,"x":"0.428","y":"0.512"},{"time":3764,"x":"0.412","y":"0.522"},{"time":3844,"x":"0.398","y":"0.540"},{"time":3925,"x":"0.386","y":"0.554"},{"time":4005,"x":"0.379","y":"0.560"},{"time":4087,"x":"0.370","y":"0.564"},{"time":5172,"x":"0.706","y":"0.538","down":true,"color":"#000000"},{"time":5304,"x":"0.700","y":"0.538"},{"time":5386,"x":"0.671","y":"0.520"},{"time":5466,"x":"0.641","y":"0.506"},{"time":5546,"x":"0.615","y":"0.514"},{"time":5626,"x":"0.594","y":"0.560"},{"time":5706,"x":"0.590","y":"0.596"},{"time":5788,"x":"0.588","y":"0.626"},{"time":5868,"x":"0.600","y":"0.656"},{"time":5947,"x":"0.623","y":"0.682"},{"time":6028,"x":"0.656","y":"0.720"},{"time":6107,"x":"0.697","y":"0.742"},{"time":6190,"x":"0.742","y":"0.752"},{"time":6270,"x":"0.775","y":"0.752"},{"time":6349,"x":"0.799","y":"0.746"},{"time":6430,"x":"0.825","y":"0.720"},{"time":6508,"x":"0.843","y":"0.666"},{"time":6591,"x":"0.846","y":"0.604"},{"time":6674,"x":"0.840","y":"0.556"},{"time":6756,"x":"0.824","y":"0.524"},{"time":6833,"x":"0.811","y":"0.508"},{"time":6913,"x":"0.799","y":"0.506"},{"time":6993,"x":"0.780","y":"0.504"},{"time":7073,"x":"0.759","y":"0.510"},{"time":7155,"x":"0.739","y":"0.520"},{"time":7235,"x":"0.724","y":"0.528"},{"time":7316,"x":"0.712","y":"0.538"},{"time":7395,"x":"0.706","y":"0.538"},{"time":8278,"x":"0.350","y":"0.566","down":true,"color":"#000000"},{"time":8438,"x":"0.354","y":"0.532"},{"time":8524,"x":"0.406","y":"0.356"},{"time":8609,"x":"0.451","y":"0.212"},{"time":8689,"x":"0.468","y":"0.184"},{"time":8775,"x":"0.480","y":"0.156"},{"time":9529,"x":"0.489","y":"0.154","down":true,"color":"#000000"},{"time":9636,"x":"0.492","y":"0.158"},{"time":9714,"x":"0.520","y":"0.178"},{"time":9794,"x":"0.557","y":"0.214"},{"time":9874,"x":"0.590","y":"0.250"},{"time":9953,"x":"0.618","y":"0.282"},{"time":10033,"x":"0.646","y":"0.322"},{"time":10113,"x":"0.665","y":"0.354"},{"time":10196,"x":"0.679","y":"0.384"},{"time":10275,"x":"0.688","y":"0.414"},{"time":10355,"x":"0.692","y":"0.440"},{"time":10435,"x":"0.700","y":"0.478"},{"time":10514,"x":"0.701","y":"0.500"},{"time":10593,"x":"0.703","y":"0.516"},{"time":10674,"x":"0.706","y":"0.524"},{"time":13241,"x":"0.166","y":"0.012","down":true,"color":"#000000"},{"time":13348,"x":"0.169","y":"0.012"},{"time":13427,"x":"0.204","y":"0.012"},{"time":13507,"x":"0.249","y":"0.010"},{"time":13589,"x":"0.297","y":"0.018"},{"time":13669,"x":"0.345","y":"0.028"},{"time":13749,"x":"0.377","y":"0.036"},{"time":13829,"x":"0.401","y":"0.052"},{"time":13909,"x":"0.419","y":"0.068"},{"time":13991,"x":"0.440","y":"0.094"},{"time":14070,"x":"0.454","y":"0.114"},{"time":14150,"x":"0.469","y":"0.130"},{"time":14230,"x":"0.481","y":"0.152"},{"time":15517,"x":"0.175","y":"0.026","down":true,"color":"#000000"},{"time":15621,"x":"0.175","y":"0.028"},{"time":15703,"x":"0.190","y":"0.066"},{"time":15782,"x":"0.210","y":"0.088"},{"time":15862,"x":"0.237","y":"0.112"},{"time":15942,"x":"0.303","y":"0.132"},{"time":16023,"x":"0.351","y":"0.134"},{"time":16104,"x":"0.389","y":"0.134"},{"time":16190,"x":"0.416","y":"0.140"},{"time":16269,"x":"0.442","y":"0.144"},{"time":16349,"x":"0.465","y":"0.144"},{"time":16430,"x":"0.478","y":"0.146"},{"time":17399,"x":"0.210","y":"0.038","down":true,"color":"#000000"},{"time":17557,"x":"0.231","y":"0.046"},{"time":17636,"x":"0.267","y":"0.060"},{"time":17713,"x":"0.294","y":"0.066"},{"time":17796,"x":"0.320","y":"0.078"},{"time":17873,"x":"0.350","y":"0.092"},{"time":17952,"x":"0.377","y":"0.104"},{"time":18035,"x":"0.403","y":"0.114"},{"time":18115,"x":"0.425","y":"0.118"},{"time":18194,"x":"0.443","y":"0.124"},{"time":18929,"x":"0.270","y":"0.062","down":true,"color":"#000000"},{"time":19034,"x":"0.270","y":"0.058"},{"time":19116,"x":"0.259","y":"0.038"},{"time":19195,"x":"0.252","y":"0.022"},{"time":20077,"x":"0.250","y":"0.094","down":true,"color":"#000000"},{"time":20235,"x":"0.273","y":"0.088"},{"time":20310,"x":"0.297","y":"0.086"},{"time":20390,"x":"0.311","y":"0.084"},{"time":21081,"x":"0.329","y":"0.042","down":true,"color":"#000000"},{"time":21213,"x":"0.342","y":"0.060"},{"time":21295,"x":"0.359","y":"0.086"},{"time":21375,"x":"0.362","y":"0.092"},{"time":21455,"x":"0.367","y":"0.096"},{"time":22199,"x":"0.317","y":"0.124","down":true,"color":"#000000"},{"time":22303,"x":"0.321","y":"0.122"},{"time":22386,"x":"0.348","y":"0.112"},{"time":22462,"x":"0.367","y":"0.110"}]'),
-  ('дом',
-   '[{"time":1711,"x":"0.306","y":"0.350","down":true,"color":"#000000"},{"time":1837,"x":"0.309","y":"0.380"},{"time":1917,"x":"0.332","y":"0.546"},{"time":1997,"x":"0.338","y":"0.660"},{"time":2078,"x":"0.347","y":"0.770"},{"time":2158,"x":"0.347","y":"0.796"},{"time":2289,"x":"0.347","y":"0.810"},{"time":2927,"x":"0.356","y":"0.828","down":true,"color":"#000000"},{"time":3086,"x":"0.389","y":"0.828"},{"time":3164,"x":"0.484","y":"0.816"},{"time":3244,"x":"0.555","y":"0.810"},{"time":3324,"x":"0.585","y":"0.810"},{"time":3407,"x":"0.609","y":"0.810"},{"time":3487,"x":"0.633","y":"0.812"},{"time":3569,"x":"0.659","y":"0.812"},{"time":3649,"x":"0.679","y":"0.814"},{"time":3731,"x":"0.704","y":"0.814"},{"time":3811,"x":"0.724","y":"0.814"},{"time":4244,"x":"0.722","y":"0.812","down":true,"color":"#000000"},{"time":4350,"x":"0.722","y":"0.810"},{"time":4430,"x":"0.724","y":"0.786"},{"time":4509,"x":"0.718","y":"0.698"},{"time":4591,"x":"0.718","y":"0.618"},{"time":4670,"x":"0.716","y":"0.548"},{"time":4747,"x":"0.712","y":"0.474"},{"time":4825,"x":"0.715","y":"0.392"},{"time":4906,"x":"0.715","y":"0.362"},{"time":4986,"x":"0.713","y":"0.338"},{"time":5960,"x":"0.223","y":"0.358","down":true,"color":"#000000"},{"time":6120,"x":"0.282","y":"0.358"},{"time":6199,"x":"0.377","y":"0.352"},{"time":6276,"x":"0.508","y":"0.340"},{"time":6358,"x":"0.603","y":"0.352"},{"time":6438,"x":"0.668","y":"0.364"},{"time":6517,"x":"0.724","y":"0.366"},{"time":6598,"x":"0.780","y":"0.372"},{"time":6706,"x":"0.802","y":"0.366"},{"time":7516,"x":"0.240","y":"0.346","down":true,"color":"#000000"},{"time":7617,"x":"0.241","y":"0.346"},{"time":7692,"x":"0.275","y":"0.314"},{"time":7773,"x":"0.377","y":"0.204"},{"time":7852,"x":"0.454","y":"0.124"},{"time":7935,"x":"0.481","y":"0.080"},{"time":8014,"x":"0.493","y":"0.062"},{"time":8116,"x":"0.493","y":"0.064"},{"time":8330,"x":"0.502","y":"0.074"},{"time":8409,"x":"0.540","y":"0.126"},{"time":8489,"x":"0.593","y":"0.194"},{"time":8568,"x":"0.652","y":"0.266"},{"time":8648,"x":"0.698","y":"0.298"},{"time":8728,"x":"0.745","y":"0.340"},{"time":8808,"x":"0.781","y":"0.372"},{"time":8888,"x":"0.796","y":"0.380"},{"time":8963,"x":"0.801","y":"0.382"},{"time":9545,"x":"0.606","y":"0.200","down":true,"color":"#000000"},{"time":9676,"x":"0.606","y":"0.184"},{"time":9760,"x":"0.606","y":"0.096"},{"time":9840,"x":"0.606","y":"0.054"},{"time":9920,"x":"0.608","y":"0.054"},{"time":9995,"x":"0.614","y":"0.056"},{"time":10072,"x":"0.643","y":"0.066"},{"time":10152,"x":"0.659","y":"0.068"},{"time":10231,"x":"0.661","y":"0.068"},{"time":10313,"x":"0.662","y":"0.096"},{"time":10390,"x":"0.658","y":"0.156"},{"time":10468,"x":"0.655","y":"0.194"},{"time":10553,"x":"0.652","y":"0.224"},{"time":11822,"x":"0.412","y":"0.430","down":true,"color":"#000000"},{"time":11979,"x":"0.413","y":"0.546"},{"time":12058,"x":"0.413","y":"0.628"},{"time":12139,"x":"0.416","y":"0.648"},{"time":12215,"x":"0.419","y":"0.648"},{"time":12292,"x":"0.436","y":"0.644"},{"time":12371,"x":"0.489","y":"0.642"},{"time":12450,"x":"0.563","y":"0.646"},{"time":12531,"x":"0.597","y":"0.642"},{"time":12610,"x":"0.623","y":"0.642"},{"time":12692,"x":"0.627","y":"0.640"},{"time":12769,"x":"0.626","y":"0.594"},{"time":12849,"x":"0.626","y":"0.520"},{"time":12931,"x":"0.626","y":"0.450"},{"time":13037,"x":"0.626","y":"0.440"},{"time":13116,"x":"0.623","y":"0.436"},{"time":13196,"x":"0.609","y":"0.434"},{"time":13276,"x":"0.575","y":"0.430"},{"time":13355,"x":"0.538","y":"0.430"},{"time":13431,"x":"0.502","y":"0.420"},{"time":13511,"x":"0.466","y":"0.420"},{"time":13592,"x":"0.446","y":"0.422"},{"time":13671,"x":"0.430","y":"0.424"},{"time":13750,"x":"0.422","y":"0.424"},{"time":13827,"x":"0.421","y":"0.424"},{"time":14485,"x":"0.504","y":"0.434","down":true,"color":"#000000"},{"time":14616,"x":"0.504","y":"0.448"},{"time":14698,"x":"0.504","y":"0.486"},{"time":14776,"x":"0.504","y":"0.502"},{"time":14855,"x":"0.504","y":"0.510"},{"time":15026,"x":"0.501","y":"0.510"},{"time":15095,"x":"0.471","y":"0.508"},{"time":15177,"x":"0.434","y":"0.508"},{"time":15256,"x":"0.419","y":"0.508"},{"time":15335,"x":"0.413","y":"0.508"},{"time":16479,"x":"0.510","y":"0.512","down":true,"color":"#000000"},{"time":16631,"x":"0.511","y":"0.550"},{"time":16709,"x":"0.511","y":"0.586"},{"time":16791,"x":"0.511","y":"0.606"},{"time":16870,"x":"0.511","y":"0.622"},{"time":16947,"x":"0.511","y":"0.634"},{"time":17024,"x":"0.513","y":"0.642"},{"time":17100,"x":"0.513","y":"0.648"}]'),
-  ('книга',
-   '[{"time":2368,"x":"0.220","y":"0.224","down":true,"color":"#000000"},{"time":2500,"x":"0.232","y":"0.220"},{"time":2578,"x":"0.291","y":"0.210"},{"time":2657,"x":"0.379","y":"0.208"},{"time":2737,"x":"0.431","y":"0.206"},{"time":2816,"x":"0.478","y":"0.214"},{"time":2897,"x":"0.513","y":"0.236"},{"time":2976,"x":"0.523","y":"0.254"},{"time":3058,"x":"0.531","y":"0.270"},{"time":3138,"x":"0.531","y":"0.272"},{"time":3949,"x":"0.540","y":"0.270","down":true,"color":"#000000"},{"time":4053,"x":"0.546","y":"0.266"},{"time":4132,"x":"0.572","y":"0.236"},{"time":4214,"x":"0.624","y":"0.212"},{"time":4293,"x":"0.674","y":"0.200"},{"time":4373,"x":"0.729","y":"0.196"},{"time":4454,"x":"0.801","y":"0.196"},{"time":4533,"x":"0.831","y":"0.202"},{"time":5260,"x":"0.228","y":"0.222","down":true,"color":"#000000"},{"time":5367,"x":"0.228","y":"0.240"},{"time":5446,"x":"0.235","y":"0.436"},{"time":5526,"x":"0.253","y":"0.626"},{"time":5606,"x":"0.278","y":"0.774"},{"time":5996,"x":"0.287","y":"0.818"},{"time":6075,"x":"0.318","y":"0.800"},{"time":6155,"x":"0.391","y":"0.778"},{"time":6235,"x":"0.481","y":"0.784"},{"time":6315,"x":"0.531","y":"0.790"},{"time":6398,"x":"0.561","y":"0.798"},{"time":6756,"x":"0.564","y":"0.798"},{"time":6839,"x":"0.587","y":"0.776"},{"time":6918,"x":"0.627","y":"0.756"},{"time":6998,"x":"0.685","y":"0.744"},{"time":7078,"x":"0.751","y":"0.742"},{"time":7158,"x":"0.802","y":"0.742"},{"time":7241,"x":"0.840","y":"0.744"},{"time":7321,"x":"0.857","y":"0.744"},{"time":8075,"x":"0.834","y":"0.224","down":true,"color":"#000000"},{"time":8209,"x":"0.837","y":"0.268"},{"time":8288,"x":"0.840","y":"0.370"},{"time":8368,"x":"0.842","y":"0.464"},{"time":8449,"x":"0.845","y":"0.584"},{"time":8529,"x":"0.851","y":"0.674"},{"time":8611,"x":"0.851","y":"0.716"},{"time":8690,"x":"0.852","y":"0.726"},{"time":8770,"x":"0.854","y":"0.732"},{"time":10616,"x":"0.217","y":"0.242","down":true,"color":"#000000"},{"time":10723,"x":"0.217","y":"0.246"},{"time":10802,"x":"0.211","y":"0.272"},{"time":10881,"x":"0.204","y":"0.282"},{"time":10960,"x":"0.204","y":"0.282"},{"time":11690,"x":"0.211","y":"0.304","down":true,"color":"#000000"},{"time":11802,"x":"0.211","y":"0.308"},{"time":11880,"x":"0.214","y":"0.336"},{"time":11963,"x":"0.219","y":"0.376"},{"time":12043,"x":"0.225","y":"0.412"},{"time":12126,"x":"0.228","y":"0.458"},{"time":12205,"x":"0.234","y":"0.518"},{"time":12285,"x":"0.234","y":"0.564"},{"time":12365,"x":"0.234","y":"0.594"},{"time":12446,"x":"0.235","y":"0.626"},{"time":12511,"x":"0.235","y":"0.628"},{"time":12556,"x":"0.235","y":"0.628"},{"time":12690,"x":"0.235","y":"0.626"},{"time":12810,"x":"0.240","y":"0.650"},{"time":12885,"x":"0.247","y":"0.684"},{"time":12968,"x":"0.256","y":"0.720"},{"time":13048,"x":"0.258","y":"0.750"},{"time":13128,"x":"0.259","y":"0.766"},{"time":13208,"x":"0.259","y":"0.780"},{"time":13288,"x":"0.259","y":"0.798"},{"time":13370,"x":"0.261","y":"0.816"},{"time":13450,"x":"0.267","y":"0.834"},{"time":13530,"x":"0.267","y":"0.834"},{"time":13610,"x":"0.275","y":"0.832"},{"time":13690,"x":"0.287","y":"0.818"},{"time":14371,"x":"0.288","y":"0.844","down":true,"color":"#000000"},{"time":14478,"x":"0.290","y":"0.842"},{"time":14558,"x":"0.312","y":"0.838"},{"time":14637,"x":"0.338","y":"0.826"},{"time":14720,"x":"0.363","y":"0.816"},{"time":14799,"x":"0.385","y":"0.810"},{"time":14879,"x":"0.412","y":"0.810"},{"time":14960,"x":"0.443","y":"0.810"},{"time":15039,"x":"0.471","y":"0.812"},{"time":15122,"x":"0.495","y":"0.816"},{"time":15202,"x":"0.510","y":"0.816"},{"time":15282,"x":"0.532","y":"0.826"},{"time":15358,"x":"0.544","y":"0.834"},{"time":15435,"x":"0.552","y":"0.838"},{"time":15517,"x":"0.558","y":"0.838"},{"time":15652,"x":"0.561","y":"0.830"},{"time":15731,"x":"0.563","y":"0.810"},{"time":16428,"x":"0.572","y":"0.830","down":true,"color":"#000000"},{"time":16587,"x":"0.606","y":"0.808"},{"time":16667,"x":"0.632","y":"0.792"},{"time":16749,"x":"0.662","y":"0.778"},{"time":16829,"x":"0.692","y":"0.770"},{"time":16908,"x":"0.722","y":"0.768"},{"time":16989,"x":"0.751","y":"0.768"},{"time":17069,"x":"0.775","y":"0.768"},{"time":17151,"x":"0.802","y":"0.764"},{"time":17234,"x":"0.827","y":"0.766"},{"time":17310,"x":"0.842","y":"0.770"},{"time":17390,"x":"0.842","y":"0.770"},{"time":17469,"x":"0.843","y":"0.760"},{"time":18601,"x":"0.548","y":"0.284","down":true,"color":"#000000"},{"time":18733,"x":"0.548","y":"0.314"},{"time":18812,"x":"0.529","y":"0.490"},{"time":18894,"x":"0.528","y":"0.668"},{"time":18973,"x":"0.529","y":"0.780"},{"time":19055,"x":"0.534","y":"0.864"},{"time":19134,"x":"0.535","y":"0.870"},{"time":20313,"x":"0.276","y":"0.324","down":true,"color":"#000000"},{"time":20418,"x":"0.278","y":"0.318"},{"time":20499,"x":"0.296","y":"0.302"},{"time":20579,"x":"0.326","y":"0.314"},{"time":20660,"x":"0.344","y":"0.314"},{"time":20739,"x":"0.363","y":"0.304"},{"time":20819,"x":"0.388","y":"0.320"},{"time":20905,"x":"0.433","y":"0.334"},{"time":20982,"x":"0.460","y":"0.332"},{"time":21058,"x":"0.483","y":"0.344"},{"time":21140,"x":"0.504","y":"0.338"},{"time":21793,"x":"0.278","y":"0.396","down":true,"color":"#000000"},{"time":21925,"x":"0.299","y":"0.384"},{"time":22005,"x":"0.320","y":"0.396"},{"time":22084,"x":"0.356","y":"0.414"},{"time":22165,"x":"0.388","y":"0.404"},{"time":22244,"x":"0.404","y":"0.408"},{"time":22320,"x":"0.434","y":"0.414"},{"time":22397,"x":"0.457","y":"0.414"},{"time":22476,"x":"0.477","y":"0.420"},{"time":22556,"x":"0.492","y":"0.414"},{"time":22651,"x":"0.499","y":"0.412"},{"time":24472,"x":"0.602","y":"0.346","down":true,"color":"#000000"},{"time":24511,"x":"0.614","y":"0.332"},{"time":24549,"x":"0.653","y":"0.308"},{"time":24589,"x":"0.668","y":"0.306"},{"time":24627,"x":"0.674","y":"0.306"},{"time":24666,"x":"0.683","y":"0.314"},{"time":24707,"x":"0.697","y":"0.320"},{"time":24745,"x":"0.710","y":"0.314"},{"time":24784,"x":"0.732","y":"0.302"},{"time":24826,"x":"0.742","y":"0.300"},{"time":24864,"x":"0.751","y":"0.302"},{"time":24904,"x":"0.763","y":"0.306"},{"time":26121,"x":"0.594","y":"0.420","down":true,"color":"#000000"},{"time":26161,"x":"0.602","y":"0.414"},{"time":26199,"x":"0.626","y":"0.392"},{"time":26237,"x":"0.640","y":"0.392"},{"time":26278,"x":"0.649","y":"0.390"},{"time":26317,"x":"0.653","y":"0.390"},{"time":26358,"x":"0.659","y":"0.390"},{"time":27371,"x":"0.712","y":"0.382","down":true,"color":"#000000"},{"time":27398,"x":"0.712","y":"0.380"},{"time":27436,"x":"0.727","y":"0.374"},{"time":27477,"x":"0.760","y":"0.368"},{"time":27519,"x":"0.771","y":"0.368"},{"time":27557,"x":"0.780","y":"0.374"},{"time":27598,"x":"0.787","y":"0.376"},{"time":27637,"x":"0.795","y":"0.376"},{"time":28478,"x":"0.606","y":"0.526","down":true,"color":"#000000"},{"time":28517,"x":"0.614","y":"0.518"},{"time":28555,"x":"0.633","y":"0.512"},{"time":28593,"x":"0.649","y":"0.510"},{"time":28635,"x":"0.659","y":"0.510"},{"time":28676,"x":"0.677","y":"0.510"},{"time":28715,"x":"0.695","y":"0.514"},{"time":28756,"x":"0.716","y":"0.516"},{"time":28793,"x":"0.729","y":"0.508"},{"time":28832,"x":"0.735","y":"0.506"},{"time":28873,"x":"0.745","y":"0.502"},{"time":28914,"x":"0.759","y":"0.496"},{"time":28950,"x":"0.768","y":"0.496"},{"time":28991,"x":"0.784","y":"0.496"}]'),
-  ('солнце',
-   '[{"time":973,"x":"0.520","y":"0.230","down":true,"color":"#000000"},{"time":1104,"x":"0.520","y":"0.228"},{"time":1180,"x":"0.507","y":"0.218"},{"time":1257,"x":"0.477","y":"0.202"},{"time":1336,"x":"0.431","y":"0.196"},{"time":1416,"x":"0.382","y":"0.200"},{"time":1496,"x":"0.341","y":"0.222"},{"time":1575,"x":"0.321","y":"0.248"},{"time":1655,"x":"0.306","y":"0.296"},{"time":1738,"x":"0.299","y":"0.366"},{"time":1821,"x":"0.299","y":"0.450"},{"time":1900,"x":"0.309","y":"0.520"},{"time":2194,"x":"0.308","y":"0.548"},{"time":2273,"x":"0.305","y":"0.606"},{"time":2356,"x":"0.327","y":"0.664"},{"time":2441,"x":"0.383","y":"0.704"},{"time":2518,"x":"0.452","y":"0.732"},{"time":2600,"x":"0.526","y":"0.738"},{"time":2681,"x":"0.602","y":"0.716"},{"time":2760,"x":"0.656","y":"0.702"},{"time":2843,"x":"0.703","y":"0.666"},{"time":2922,"x":"0.732","y":"0.602"},{"time":3002,"x":"0.741","y":"0.510"},{"time":3082,"x":"0.735","y":"0.428"},{"time":3161,"x":"0.710","y":"0.366"},{"time":3244,"x":"0.683","y":"0.292"},{"time":3323,"x":"0.655","y":"0.264"},{"time":3403,"x":"0.633","y":"0.252"},{"time":3484,"x":"0.602","y":"0.250"},{"time":3563,"x":"0.578","y":"0.250"},{"time":3645,"x":"0.551","y":"0.248"},{"time":3725,"x":"0.535","y":"0.236"},{"time":4111,"x":"0.523","y":"0.220"},{"time":4940,"x":"0.270","y":"0.074","down":true,"color":"#000000"},{"time":5098,"x":"0.294","y":"0.122"},{"time":5178,"x":"0.309","y":"0.158"},{"time":5257,"x":"0.315","y":"0.182"},{"time":6117,"x":"0.036","y":"0.178","down":true,"color":"#000000"},{"time":6222,"x":"0.048","y":"0.182"},{"time":6303,"x":"0.176","y":"0.222"},{"time":6382,"x":"0.250","y":"0.262"},{"time":6458,"x":"0.279","y":"0.270"},{"time":6537,"x":"0.291","y":"0.278"},{"time":7138,"x":"0.116","y":"0.396","down":true,"color":"#000000"},{"time":7271,"x":"0.161","y":"0.396"},{"time":7347,"x":"0.208","y":"0.398"},{"time":7423,"x":"0.228","y":"0.398"},{"time":8102,"x":"0.024","y":"0.698","down":true,"color":"#000000"},{"time":8111,"x":"0.024","y":"0.698"},{"time":9819,"x":"0.042","y":"0.690","down":true,"color":"#000000"},{"time":9856,"x":"0.048","y":"0.686"},{"time":9896,"x":"0.071","y":"0.678"},{"time":9935,"x":"0.094","y":"0.666"},{"time":9975,"x":"0.119","y":"0.648"},{"time":10018,"x":"0.149","y":"0.634"},{"time":10056,"x":"0.172","y":"0.620"},{"time":10096,"x":"0.187","y":"0.614"},{"time":10135,"x":"0.199","y":"0.610"},{"time":10176,"x":"0.208","y":"0.608"},{"time":10217,"x":"0.213","y":"0.608"},{"time":11033,"x":"0.220","y":"0.752","down":true,"color":"#000000"},{"time":11088,"x":"0.234","y":"0.732"},{"time":11126,"x":"0.249","y":"0.712"},{"time":11167,"x":"0.259","y":"0.700"},{"time":11205,"x":"0.267","y":"0.692"},{"time":11251,"x":"0.273","y":"0.694"},{"time":12018,"x":"0.350","y":"0.730","down":true,"color":"#000000"},{"time":12057,"x":"0.347","y":"0.746"},{"time":12096,"x":"0.339","y":"0.794"},{"time":12140,"x":"0.326","y":"0.844"},{"time":12180,"x":"0.321","y":"0.890"},{"time":12221,"x":"0.317","y":"0.930"},{"time":12259,"x":"0.311","y":"0.974"},{"time":12297,"x":"0.306","y":"1.002"},{"time":13498,"x":"0.478","y":"0.780","down":true,"color":"#000000"},{"time":13535,"x":"0.478","y":"0.788"},{"time":13573,"x":"0.478","y":"0.802"},{"time":13613,"x":"0.478","y":"0.814"},{"time":13651,"x":"0.478","y":"0.824"},{"time":13690,"x":"0.481","y":"0.834"},{"time":13728,"x":"0.489","y":"0.846"},{"time":14645,"x":"0.626","y":"0.760","down":true,"color":"#000000"},{"time":14685,"x":"0.637","y":"0.780"},{"time":14725,"x":"0.673","y":"0.850"},{"time":14766,"x":"0.698","y":"0.916"},{"time":14805,"x":"0.709","y":"0.946"},{"time":14846,"x":"0.718","y":"0.970"},{"time":14885,"x":"0.722","y":"0.974"},{"time":14926,"x":"0.724","y":"0.978"},{"time":15729,"x":"0.729","y":"0.712","down":true,"color":"#000000"},{"time":15780,"x":"0.741","y":"0.720"},{"time":15819,"x":"0.763","y":"0.740"},{"time":16862,"x":"0.772","y":"0.582","down":true,"color":"#000000"},{"time":16914,"x":"0.796","y":"0.582"},{"time":16955,"x":"0.887","y":"0.590"},{"time":16993,"x":"0.931","y":"0.592"},{"time":17034,"x":"0.962","y":"0.592"},{"time":17073,"x":"0.971","y":"0.590"},{"time":18047,"x":"0.768","y":"0.368","down":true,"color":"#000000"},{"time":18085,"x":"0.768","y":"0.368"},{"time":18140,"x":"0.786","y":"0.354"},{"time":18179,"x":"0.799","y":"0.346"},{"time":19021,"x":"0.715","y":"0.248","down":true,"color":"#000000"},{"time":19064,"x":"0.739","y":"0.230"},{"time":19101,"x":"0.793","y":"0.174"},{"time":19139,"x":"0.828","y":"0.116"},{"time":19194,"x":"0.836","y":"0.120"},{"time":19997,"x":"0.632","y":"0.120","down":true,"color":"#000000"},{"time":20032,"x":"0.629","y":"0.134"},{"time":20074,"x":"0.618","y":"0.164"},{"time":20112,"x":"0.611","y":"0.184"},{"time":20178,"x":"0.612","y":"0.186"},{"time":22105,"x":"0.480","y":"0.148","down":true,"color":"#000000"},{"time":22144,"x":"0.478","y":"0.128"},{"time":22183,"x":"0.477","y":"0.052"},{"time":22223,"x":"0.472","y":"0.010"},{"time":23704,"x":"0.418","y":"0.370","down":true,"color":"#000000"},{"time":23869,"x":"0.418","y":"0.370","down":true,"color":"#000000"},{"time":24401,"x":"0.418","y":"0.370","down":true,"color":"#000000"},{"time":24438,"x":"0.424","y":"0.370"},{"time":24478,"x":"0.424","y":"0.376"},{"time":24516,"x":"0.424","y":"0.382"},{"time":24557,"x":"0.424","y":"0.384"},{"time":24599,"x":"0.415","y":"0.382"},{"time":24637,"x":"0.415","y":"0.374"},{"time":24675,"x":"0.415","y":"0.364"},{"time":24714,"x":"0.418","y":"0.362"},{"time":24754,"x":"0.422","y":"0.362"},{"time":24793,"x":"0.424","y":"0.362"},{"time":24831,"x":"0.425","y":"0.368"},{"time":25800,"x":"0.564","y":"0.394","down":true,"color":"#000000"},{"time":25890,"x":"0.564","y":"0.390"},{"time":25927,"x":"0.563","y":"0.382"},{"time":25968,"x":"0.561","y":"0.378"},{"time":26007,"x":"0.561","y":"0.376"},{"time":26049,"x":"0.567","y":"0.372"},{"time":26090,"x":"0.573","y":"0.374"},{"time":26128,"x":"0.573","y":"0.378"},{"time":26169,"x":"0.573","y":"0.384"},{"time":26207,"x":"0.573","y":"0.386"},{"time":26274,"x":"0.567","y":"0.384"},{"time":26341,"x":"0.563","y":"0.378"},{"time":27287,"x":"0.448","y":"0.476","down":true,"color":"#000000"},{"time":27314,"x":"0.448","y":"0.482"},{"time":27354,"x":"0.449","y":"0.500"},{"time":27393,"x":"0.459","y":"0.522"},{"time":27433,"x":"0.469","y":"0.538"},{"time":27476,"x":"0.484","y":"0.556"},{"time":27513,"x":"0.493","y":"0.568"},{"time":27554,"x":"0.504","y":"0.572"},{"time":27593,"x":"0.510","y":"0.574"},{"time":27634,"x":"0.520","y":"0.566"},{"time":27675,"x":"0.534","y":"0.544"},{"time":27714,"x":"0.540","y":"0.526"},{"time":27756,"x":"0.546","y":"0.504"},{"time":27793,"x":"0.551","y":"0.486"},{"time":27844,"x":"0.551","y":"0.484"},{"time":27895,"x":"0.551","y":"0.482"}]'),
-  ('стул',
-   '[{"time":571,"x":"0.339","y":"0.584","down":true,"color":"#000000"},{"time":719,"x":"0.342","y":"0.570"},{"time":783,"x":"0.359","y":"0.536"},{"time":860,"x":"0.377","y":"0.494"},{"time":940,"x":"0.389","y":"0.466"},{"time":1017,"x":"0.395","y":"0.442"},{"time":1096,"x":"0.401","y":"0.432"},{"time":1443,"x":"0.403","y":"0.432"},{"time":1523,"x":"0.422","y":"0.428"},{"time":1603,"x":"0.460","y":"0.432"},{"time":1685,"x":"0.505","y":"0.436"},{"time":1765,"x":"0.552","y":"0.438"},{"time":1842,"x":"0.594","y":"0.440"},{"time":1918,"x":"0.618","y":"0.440"},{"time":1994,"x":"0.632","y":"0.440"},{"time":2687,"x":"0.338","y":"0.580","down":true,"color":"#000000"},{"time":2819,"x":"0.356","y":"0.580"},{"time":2899,"x":"0.404","y":"0.578"},{"time":2979,"x":"0.459","y":"0.578"},{"time":3061,"x":"0.505","y":"0.586"},{"time":3141,"x":"0.544","y":"0.592"},{"time":3220,"x":"0.573","y":"0.592"},{"time":3299,"x":"0.593","y":"0.592"},{"time":3629,"x":"0.593","y":"0.584"},{"time":3711,"x":"0.603","y":"0.558"},{"time":3790,"x":"0.614","y":"0.524"},{"time":3875,"x":"0.621","y":"0.500"},{"time":3953,"x":"0.630","y":"0.470"},{"time":4032,"x":"0.633","y":"0.456"},{"time":4134,"x":"0.640","y":"0.442"},{"time":5072,"x":"0.403","y":"0.420","down":true,"color":"#000000"},{"time":5179,"x":"0.403","y":"0.412"},{"time":5259,"x":"0.403","y":"0.328"},{"time":5338,"x":"0.404","y":"0.210"},{"time":5421,"x":"0.404","y":"0.168"},{"time":5500,"x":"0.406","y":"0.142"},{"time":5580,"x":"0.407","y":"0.124"},{"time":5896,"x":"0.421","y":"0.124"},{"time":5976,"x":"0.445","y":"0.114"},{"time":6054,"x":"0.472","y":"0.112"},{"time":6137,"x":"0.511","y":"0.112"},{"time":6217,"x":"0.543","y":"0.114"},{"time":6296,"x":"0.570","y":"0.118"},{"time":6377,"x":"0.599","y":"0.120"},{"time":6456,"x":"0.618","y":"0.120"},{"time":6539,"x":"0.630","y":"0.132"},{"time":6618,"x":"0.637","y":"0.152"},{"time":6701,"x":"0.643","y":"0.192"},{"time":6781,"x":"0.643","y":"0.222"},{"time":6860,"x":"0.646","y":"0.260"},{"time":6940,"x":"0.646","y":"0.302"},{"time":7021,"x":"0.646","y":"0.320"},{"time":7102,"x":"0.646","y":"0.356"},{"time":7182,"x":"0.644","y":"0.390"},{"time":7261,"x":"0.644","y":"0.422"},{"time":8188,"x":"0.344","y":"0.602","down":true,"color":"#000000"},{"time":8293,"x":"0.345","y":"0.612"},{"time":8375,"x":"0.348","y":"0.676"},{"time":8454,"x":"0.348","y":"0.738"},{"time":8534,"x":"0.351","y":"0.806"},{"time":8615,"x":"0.359","y":"0.866"},{"time":8694,"x":"0.360","y":"0.886"},{"time":9464,"x":"0.428","y":"0.590","down":true,"color":"#000000"},{"time":9597,"x":"0.428","y":"0.604"},{"time":9677,"x":"0.428","y":"0.656"},{"time":9756,"x":"0.430","y":"0.694"},{"time":9838,"x":"0.430","y":"0.708"},{"time":9919,"x":"0.430","y":"0.724"},{"time":11012,"x":"0.599","y":"0.604","down":true,"color":"#000000"},{"time":11119,"x":"0.599","y":"0.616"},{"time":11198,"x":"0.599","y":"0.754"},{"time":11278,"x":"0.599","y":"0.862"},{"time":11361,"x":"0.599","y":"0.876"},{"time":11437,"x":"0.599","y":"0.878"},{"time":12313,"x":"0.649","y":"0.462","down":true,"color":"#000000"},{"time":12445,"x":"0.649","y":"0.478"},{"time":12524,"x":"0.652","y":"0.540"},{"time":12605,"x":"0.653","y":"0.564"},{"time":12684,"x":"0.653","y":"0.590"},{"time":12767,"x":"0.655","y":"0.612"},{"time":12846,"x":"0.655","y":"0.630"},{"time":12927,"x":"0.655","y":"0.644"},{"time":14348,"x":"0.449","y":"0.408","down":true,"color":"#000000"},{"time":14505,"x":"0.449","y":"0.400"},{"time":14585,"x":"0.449","y":"0.360"},{"time":14665,"x":"0.449","y":"0.304"},{"time":14748,"x":"0.449","y":"0.252"},{"time":14827,"x":"0.449","y":"0.210"},{"time":14906,"x":"0.452","y":"0.170"},{"time":14988,"x":"0.452","y":"0.118"},{"time":15815,"x":"0.505","y":"0.136","down":true,"color":"#000000"},{"time":15920,"x":"0.505","y":"0.138"},{"time":16001,"x":"0.505","y":"0.182"},{"time":16081,"x":"0.502","y":"0.234"},{"time":16161,"x":"0.501","y":"0.270"},{"time":16240,"x":"0.501","y":"0.308"},{"time":16320,"x":"0.502","y":"0.342"},{"time":16403,"x":"0.504","y":"0.368"},{"time":16482,"x":"0.505","y":"0.388"},{"time":16563,"x":"0.507","y":"0.410"},{"time":16643,"x":"0.507","y":"0.422"},{"time":17569,"x":"0.567","y":"0.132","down":true,"color":"#000000"},{"time":17724,"x":"0.575","y":"0.208"},{"time":17804,"x":"0.581","y":"0.308"},{"time":17886,"x":"0.582","y":"0.346"},{"time":17965,"x":"0.582","y":"0.372"},{"time":18044,"x":"0.582","y":"0.400"},{"time":18125,"x":"0.582","y":"0.414"},{"time":18205,"x":"0.582","y":"0.420"},{"time":18288,"x":"0.581","y":"0.424"}]'),
-  ('футболка',
-   '[{"time":609,"x":"0.430","y":"0.122","down":true,"color":"#000000"},{"time":742,"x":"0.439","y":"0.128"},{"time":821,"x":"0.468","y":"0.148"},{"time":917,"x":"0.495","y":"0.156"},{"time":983,"x":"0.519","y":"0.160"},{"time":1062,"x":"0.548","y":"0.158"},{"time":1142,"x":"0.578","y":"0.134"},{"time":1222,"x":"0.590","y":"0.120"},{"time":2320,"x":"0.436","y":"0.128","down":true,"color":"#000000"},{"time":2426,"x":"0.427","y":"0.128"},{"time":2505,"x":"0.397","y":"0.128"},{"time":2585,"x":"0.374","y":"0.128"},{"time":2665,"x":"0.360","y":"0.126"},{"time":2805,"x":"0.360","y":"0.130"},{"time":2887,"x":"0.345","y":"0.168"},{"time":2966,"x":"0.321","y":"0.208"},{"time":3046,"x":"0.300","y":"0.242"},{"time":3125,"x":"0.285","y":"0.270"},{"time":3205,"x":"0.273","y":"0.296"},{"time":3690,"x":"0.273","y":"0.300"},{"time":3769,"x":"0.273","y":"0.308"},{"time":3845,"x":"0.273","y":"0.324"},{"time":3925,"x":"0.273","y":"0.330"},{"time":4007,"x":"0.281","y":"0.342"},{"time":4085,"x":"0.303","y":"0.358"},{"time":4165,"x":"0.312","y":"0.370"},{"time":4326,"x":"0.314","y":"0.374"},{"time":4406,"x":"0.315","y":"0.374"},{"time":4539,"x":"0.318","y":"0.376"},{"time":4620,"x":"0.327","y":"0.378"},{"time":4699,"x":"0.332","y":"0.382"},{"time":4778,"x":"0.338","y":"0.390"},{"time":4858,"x":"0.339","y":"0.390"},{"time":4993,"x":"0.339","y":"0.392"},{"time":5072,"x":"0.345","y":"0.380"},{"time":5155,"x":"0.359","y":"0.364"},{"time":5234,"x":"0.371","y":"0.344"},{"time":5655,"x":"0.373","y":"0.350"},{"time":5731,"x":"0.373","y":"0.402"},{"time":5807,"x":"0.373","y":"0.482"},{"time":5890,"x":"0.374","y":"0.558"},{"time":5969,"x":"0.374","y":"0.602"},{"time":6049,"x":"0.374","y":"0.630"},{"time":6128,"x":"0.374","y":"0.652"},{"time":6208,"x":"0.374","y":"0.660"},{"time":6288,"x":"0.374","y":"0.666"},{"time":6368,"x":"0.379","y":"0.672"},{"time":6447,"x":"0.398","y":"0.676"},{"time":6530,"x":"0.440","y":"0.676"},{"time":6609,"x":"0.480","y":"0.672"},{"time":6686,"x":"0.517","y":"0.670"},{"time":6762,"x":"0.557","y":"0.668"},{"time":6845,"x":"0.599","y":"0.668"},{"time":6925,"x":"0.624","y":"0.668"},{"time":7004,"x":"0.640","y":"0.668"},{"time":8024,"x":"0.600","y":"0.124","down":true,"color":"#000000"},{"time":8129,"x":"0.605","y":"0.124"},{"time":8208,"x":"0.623","y":"0.124"},{"time":8288,"x":"0.647","y":"0.124"},{"time":8368,"x":"0.652","y":"0.124"},{"time":8446,"x":"0.653","y":"0.124"},{"time":8527,"x":"0.658","y":"0.126"},{"time":8607,"x":"0.670","y":"0.138"},{"time":8689,"x":"0.679","y":"0.154"},{"time":8768,"x":"0.691","y":"0.174"},{"time":8848,"x":"0.707","y":"0.198"},{"time":8928,"x":"0.718","y":"0.214"},{"time":9008,"x":"0.727","y":"0.222"},{"time":9087,"x":"0.732","y":"0.226"},{"time":9167,"x":"0.741","y":"0.234"},{"time":9246,"x":"0.745","y":"0.244"},{"time":9329,"x":"0.750","y":"0.256"},{"time":9409,"x":"0.750","y":"0.266"},{"time":9488,"x":"0.750","y":"0.282"},{"time":9569,"x":"0.730","y":"0.304"},{"time":9647,"x":"0.710","y":"0.334"},{"time":9731,"x":"0.700","y":"0.356"},{"time":9915,"x":"0.698","y":"0.356"},{"time":10021,"x":"0.695","y":"0.356"},{"time":10103,"x":"0.694","y":"0.356"},{"time":10237,"x":"0.689","y":"0.356"},{"time":10316,"x":"0.679","y":"0.360"},{"time":10400,"x":"0.673","y":"0.368"},{"time":10505,"x":"0.671","y":"0.368"},{"time":10584,"x":"0.665","y":"0.356"},{"time":10667,"x":"0.650","y":"0.330"},{"time":10746,"x":"0.641","y":"0.306"},{"time":10852,"x":"0.641","y":"0.300"},{"time":11179,"x":"0.641","y":"0.322"},{"time":11260,"x":"0.641","y":"0.366"},{"time":11339,"x":"0.640","y":"0.412"},{"time":11422,"x":"0.640","y":"0.452"},{"time":11501,"x":"0.640","y":"0.488"},{"time":11580,"x":"0.640","y":"0.512"},{"time":11660,"x":"0.640","y":"0.546"},{"time":11736,"x":"0.640","y":"0.570"},{"time":11816,"x":"0.638","y":"0.594"},{"time":11895,"x":"0.637","y":"0.608"},{"time":11976,"x":"0.635","y":"0.636"},{"time":12056,"x":"0.635","y":"0.654"},{"time":12138,"x":"0.635","y":"0.658"},{"time":12215,"x":"0.635","y":"0.660"},{"time":15282,"x":"0.475","y":"0.332","down":true,"color":"#000000"}]'),
-  ('чашка',
-   '[{"time":616,"x":"0.575","y":"0.310","down":true,"color":"#000000"},{"time":748,"x":"0.563","y":"0.306"},{"time":829,"x":"0.496","y":"0.298"},{"time":909,"x":"0.421","y":"0.292"},{"time":993,"x":"0.341","y":"0.300"},{"time":1071,"x":"0.296","y":"0.314"},{"time":1151,"x":"0.262","y":"0.344"},{"time":1231,"x":"0.244","y":"0.380"},{"time":1310,"x":"0.246","y":"0.394"},{"time":1393,"x":"0.276","y":"0.416"},{"time":1472,"x":"0.318","y":"0.426"},{"time":1552,"x":"0.362","y":"0.434"},{"time":1631,"x":"0.428","y":"0.436"},{"time":1711,"x":"0.486","y":"0.436"},{"time":1790,"x":"0.535","y":"0.434"},{"time":1871,"x":"0.581","y":"0.428"},{"time":1950,"x":"0.611","y":"0.408"},{"time":2033,"x":"0.632","y":"0.388"},{"time":2112,"x":"0.633","y":"0.356"},{"time":2195,"x":"0.617","y":"0.330"},{"time":2274,"x":"0.594","y":"0.314"},{"time":2354,"x":"0.572","y":"0.304"},{"time":3330,"x":"0.250","y":"0.404","down":true,"color":"#000000"},{"time":3488,"x":"0.261","y":"0.440"},{"time":3571,"x":"0.275","y":"0.490"},{"time":3647,"x":"0.291","y":"0.540"},{"time":3724,"x":"0.308","y":"0.580"},{"time":3803,"x":"0.323","y":"0.608"},{"time":3886,"x":"0.342","y":"0.634"},{"time":3965,"x":"0.354","y":"0.646"},{"time":4032,"x":"0.365","y":"0.658"},{"time":4363,"x":"0.383","y":"0.662"},{"time":4443,"x":"0.407","y":"0.668"},{"time":4522,"x":"0.436","y":"0.674"},{"time":4603,"x":"0.469","y":"0.684"},{"time":4682,"x":"0.493","y":"0.690"},{"time":4764,"x":"0.520","y":"0.692"},{"time":4841,"x":"0.543","y":"0.684"},{"time":4920,"x":"0.567","y":"0.664"},{"time":5003,"x":"0.585","y":"0.624"},{"time":5082,"x":"0.597","y":"0.582"},{"time":5162,"x":"0.605","y":"0.534"},{"time":5242,"x":"0.614","y":"0.478"},{"time":5321,"x":"0.626","y":"0.434"},{"time":5404,"x":"0.633","y":"0.404"},{"time":5484,"x":"0.644","y":"0.368"},{"time":6377,"x":"0.605","y":"0.486","down":true,"color":"#000000"},{"time":6535,"x":"0.617","y":"0.476"},{"time":6617,"x":"0.641","y":"0.458"},{"time":6696,"x":"0.662","y":"0.448"},{"time":6776,"x":"0.686","y":"0.444"},{"time":6857,"x":"0.712","y":"0.446"},{"time":6935,"x":"0.727","y":"0.458"},{"time":7012,"x":"0.736","y":"0.488"},{"time":7091,"x":"0.736","y":"0.516"},{"time":7171,"x":"0.724","y":"0.548"},{"time":7251,"x":"0.709","y":"0.572"},{"time":7337,"x":"0.688","y":"0.584"},{"time":7416,"x":"0.655","y":"0.596"},{"time":7495,"x":"0.626","y":"0.596"},{"time":7576,"x":"0.606","y":"0.590"},{"time":7658,"x":"0.590","y":"0.580"},{"time":7766,"x":"0.590","y":"0.580"},{"time":11193,"x":"0.300","y":"0.574","down":true,"color":"#000000"},{"time":11300,"x":"0.291","y":"0.574"},{"time":11380,"x":"0.249","y":"0.588"},{"time":11460,"x":"0.193","y":"0.628"},{"time":11540,"x":"0.163","y":"0.658"},{"time":11623,"x":"0.155","y":"0.700"},{"time":11698,"x":"0.154","y":"0.722"},{"time":11778,"x":"0.170","y":"0.752"},{"time":11861,"x":"0.226","y":"0.770"},{"time":11940,"x":"0.297","y":"0.784"},{"time":12020,"x":"0.374","y":"0.786"},{"time":12100,"x":"0.481","y":"0.786"},{"time":12179,"x":"0.575","y":"0.788"},{"time":12289,"x":"0.602","y":"0.798"},{"time":12600,"x":"0.638","y":"0.794"},{"time":12682,"x":"0.685","y":"0.784"},{"time":12761,"x":"0.715","y":"0.778"},{"time":12838,"x":"0.738","y":"0.764"},{"time":12915,"x":"0.756","y":"0.738"},{"time":12997,"x":"0.771","y":"0.692"},{"time":13077,"x":"0.769","y":"0.670"},{"time":13156,"x":"0.760","y":"0.654"},{"time":13237,"x":"0.741","y":"0.638"},{"time":13316,"x":"0.712","y":"0.624"},{"time":13398,"x":"0.683","y":"0.616"},{"time":13478,"x":"0.664","y":"0.614"},{"time":13558,"x":"0.644","y":"0.608"},{"time":13635,"x":"0.632","y":"0.604"},{"time":13714,"x":"0.614","y":"0.598"},{"time":13793,"x":"0.600","y":"0.596"},{"time":15543,"x":"0.288","y":"0.386","down":true,"color":"#000000"},{"time":15673,"x":"0.305","y":"0.370"},{"time":15759,"x":"0.336","y":"0.352"},{"time":15843,"x":"0.368","y":"0.342"},{"time":15923,"x":"0.392","y":"0.340"},{"time":16004,"x":"0.419","y":"0.340"},{"time":16083,"x":"0.456","y":"0.340"},{"time":16163,"x":"0.487","y":"0.340"},{"time":16245,"x":"0.526","y":"0.344"},{"time":16327,"x":"0.552","y":"0.354"},{"time":16408,"x":"0.572","y":"0.366"},{"time":16487,"x":"0.584","y":"0.380"},{"time":16566,"x":"0.594","y":"0.390"},{"time":16646,"x":"0.606","y":"0.402"},{"time":16726,"x":"0.615","y":"0.418"},{"time":17788,"x":"0.291","y":"0.400","down":true,"color":"#000000"},{"time":17891,"x":"0.290","y":"0.392"},{"time":17974,"x":"0.288","y":"0.398"},{"time":18053,"x":"0.287","y":"0.402"},{"time":18132,"x":"0.287","y":"0.402"},{"time":18763,"x":"0.345","y":"0.384","down":true,"color":"#000000"},{"time":18895,"x":"0.379","y":"0.384"},{"time":18977,"x":"0.398","y":"0.384"},{"time":19111,"x":"0.370","y":"0.380"},{"time":19191,"x":"0.344","y":"0.386"},{"time":19266,"x":"0.348","y":"0.396"},{"time":19353,"x":"0.439","y":"0.400"},{"time":19438,"x":"0.504","y":"0.396"},{"time":19529,"x":"0.504","y":"0.390"},{"time":19766,"x":"0.471","y":"0.388"},{"time":19846,"x":"0.445","y":"0.380"},{"time":19926,"x":"0.459","y":"0.378"},{"time":20009,"x":"0.511","y":"0.376"},{"time":23491,"x":"0.314","y":"0.038","down":true,"color":"#000000"},{"time":23651,"x":"0.365","y":"0.032"},{"time":23730,"x":"0.371","y":"0.052"},{"time":23807,"x":"0.333","y":"0.108"},{"time":23887,"x":"0.314","y":"0.134"},{"time":23966,"x":"0.380","y":"0.138"},{"time":24048,"x":"0.431","y":"0.174"},{"time":24128,"x":"0.431","y":"0.198"},{"time":24208,"x":"0.410","y":"0.230"},{"time":24288,"x":"0.403","y":"0.240"},{"time":24424,"x":"0.430","y":"0.242"},{"time":24501,"x":"0.434","y":"0.252"},{"time":24584,"x":"0.431","y":"0.276"}]')
+-- Dashes are no longer seeded by migrations.
+-- The catalog is streamed from dashes/catalog.ndjson by DashesImportService.
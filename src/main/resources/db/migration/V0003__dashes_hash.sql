@@ -0,0 +1,21 @@
+ALTER TABLE public.dashes ADD COLUMN hash TEXT;
+
+UPDATE public.dashes
+SET hash = md5(lower(word) || ':' || points :: TEXT);
+
+WITH duplicates AS (
+  SELECT id, min(id) OVER (PARTITION BY hash) AS original_id
+  FROM public.dashes
+)
+UPDATE public.account_dashes
+SET dashesid = duplicates.original_id
+FROM duplicates
+WHERE account_dashes.dashesid = duplicates.id AND duplicates.id <> duplicates.original_id;
+
+DELETE FROM public.dashes
+USING public.dashes original
+WHERE dashes.hash = original.hash AND dashes.id > original.id;
+
+ALTER TABLE public.dashes ALTER COLUMN hash SET NOT NULL;
+
+CREATE UNIQUE INDEX dashes_hash_idx ON public.dashes (hash);
@@ -0,0 +1,10 @@
+CREATE TABLE public.game_result (
+  id          SERIAL PRIMARY KEY                  NOT NULL,
+  type        CHARACTER VARYING(2)                NOT NULL,
+  word        CHARACTER VARYING(50)               NOT NULL,
+  players     JSON                                NOT NULL,
+  winner      TEXT,
+  duration    INTEGER                             NOT NULL,
+  point_count INTEGER                             NOT NULL,
+  finished    TIMESTAMP WITH TIME ZONE DEFAULT now() NOT NULL
+);
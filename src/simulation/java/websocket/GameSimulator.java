@@ -0,0 +1,258 @@
+package websocket;
+
+import database.DiscardingDashesRecorder;
+import database.DiscardingGameHistoryWriter;
+import database.ExecutorAccountService;
+import database.ExecutorDashesService;
+import database.StubAccountService;
+import database.StubDashesService;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import socketmessages.MessageType;
+import socketmessages.PicturePointContent;
+import socketmessages.PlayerRole;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+@SuppressWarnings("UseOfSystemOutOrSystemErr")
+public final class GameSimulator {
+
+    public static final int MAX_WAIT_SECONDS = 3600;
+
+    private static final String TYPE_PREFIX = "{\"type\":\"";
+    private static final String PAINTER_ROLE = "\"role\":\"" + PlayerRole.PAINTER + '"';
+
+    private final long durationMillis = TimeUnit.HOURS.toMillis(Long.getLong("simulation.hours", 24));
+    private final double arrivalsPerMinute = Double.parseDouble(System.getProperty("simulation.arrivals", "60"));
+    private final long pointPeriodMillis = Long.getLong("simulation.pointPeriod", 100);
+    private final long guessPeriodMillis = Long.getLong("simulation.guessPeriod", 5000);
+    private final long thinkMillis = Long.getLong("simulation.think", 5000);
+    private final double requeueProbability = Double.parseDouble(System.getProperty("simulation.requeue", "0.8"));
+    private final double leaveProbability = Double.parseDouble(System.getProperty("simulation.leave", "0.05"));
+
+    private final Random random = new Random(Long.getLong("simulation.seed", 0));
+    private final VirtualGameScheduler scheduler = new VirtualGameScheduler();
+    private final DiscardingDashesRecorder dashesRecorder = new DiscardingDashesRecorder();
+    private final StubDashesService dashesService = new StubDashesService();
+    private final DiscardingGameHistoryWriter gameHistoryWriter = new DiscardingGameHistoryWriter();
+    private final GameScheduler[] shardSchedulers = new GameScheduler[Integer.getInteger("simulation.shards", 1)];
+    private final GameManagerService service;
+
+    private final long[] waitSeconds = new long[MAX_WAIT_SECONDS + 1];
+    private long playersArrived = 0;
+    private long playersLeft = 0;
+    private long joins = 0;
+    private long gamesStarted = 0;
+    private long gamesWon = 0;
+    private long gamesFinished = 0;
+    private long messagesSent = 0;
+
+    private final class SimulatedPlayer extends StubWebSocketSession {
+
+        private long queuedAtMillis = -1;
+        private boolean painter = false;
+        private @Nullable ScheduledFuture<?> activity = null;
+        private @Nullable ScheduledFuture<?> leave = null;
+
+        SimulatedPlayer(@NotNull String login) {
+            super(login);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+
+            super.sendMessage(message);
+            ++messagesSent;
+
+            final String payload = ((TextMessage) message).getPayload();
+            final MessageType type = typeOf(payload);
+
+            if (type == MessageType.START_MULTIPLAYER_GAME) {
+                joined(payload.contains(PAINTER_ROLE));
+
+            } else if (type == MessageType.STOP_GAME) {
+                finished(payload);
+            }
+        }
+
+        private void queue() {
+
+            queuedAtMillis = scheduler.currentTimeMillis();
+            service.queueForMultiplayerGame(this, PlayerRole.ANYONE);
+        }
+
+        private void joined(boolean isPainter) {
+
+            final long waitMillis = scheduler.currentTimeMillis() - queuedAtMillis;
+            ++waitSeconds[(int) Math.min(TimeUnit.MILLISECONDS.toSeconds(waitMillis), MAX_WAIT_SECONDS)];
+            ++joins;
+            cancelActivity();
+            painter = isPainter;
+
+            if (painter) {
+
+                ++gamesStarted;
+                activity = scheduler.scheduleAtFixedRate(this::paint, pointPeriodMillis, pointPeriodMillis, TimeUnit.MILLISECONDS);
+
+            } else {
+
+                final long delay = 1 + (long) (random.nextDouble() * guessPeriodMillis);
+                activity = scheduler.scheduleAtFixedRate(this::guess, delay, guessPeriodMillis, TimeUnit.MILLISECONDS);
+            }
+
+            if (random.nextDouble() < leaveProbability) {
+
+                final long delay = (long) (random.nextDouble() * TimeUnit.SECONDS.toMillis(GameManagerService.MULTIPLAYER_TIME_LIMIT));
+                leave = scheduler.schedule(this::leave, delay, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void finished(@NotNull String payload) {
+
+            if (painter) {
+                ++gamesFinished;
+            }
+            if (payload.contains("\"winner\":\"" + getId() + '"')) {
+                ++gamesWon;
+            }
+
+            cancelActivity();
+            if (leave != null) {
+                leave.cancel(false);
+            }
+
+            if (random.nextDouble() < requeueProbability) {
+                scheduler.schedule(this::queue, thinkMillis, TimeUnit.MILLISECONDS);
+            } else {
+                scheduler.schedule(this::leave, 0, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void paint() {
+
+            service.addPoint(this, new PicturePointContent(
+                random.nextFloat(), random.nextFloat(), random.nextInt(20) == 0, null));
+        }
+
+        private void guess() {
+            service.checkAnswer(this, "word" + (1 + random.nextInt(StubDashesService.DASHES_COUNT)));
+        }
+
+        private void leave() {
+
+            // A leaving painter ends the game without a STOP_GAME of its own
+            if (painter && (activity != null)) {
+                ++gamesFinished;
+            }
+
+            cancelActivity();
+            service.clearData(this);
+            close();
+            ++playersLeft;
+        }
+
+        private void cancelActivity() {
+
+            if (activity != null) {
+                activity.cancel(false);
+                activity = null;
+            }
+        }
+    }
+
+    // Shards share the virtual clock, so the run stays single threaded and deterministic
+    private GameSimulator() {
+
+        Arrays.fill(shardSchedulers, scheduler);
+        service = new GameManagerService(
+            new ExecutorAccountService(new StubAccountService(), Runnable::run), dashesService,
+            new ExecutorDashesService(dashesService, Runnable::run),
+            dashesRecorder, gameHistoryWriter, PointBudget.DEFAULT, AdmissionControl.UNLIMITED, shardSchedulers);
+    }
+
+    public static void main(String[] args) {
+        new GameSimulator().run();
+    }
+
+    private void run() {
+
+        final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        final long startCpuNanos = threadBean.getCurrentThreadCpuTime();
+        final long startNanos = System.nanoTime();
+
+        scheduler.scheduleAtFixedRate(
+            service::checkQueue,
+            GameManagerService.QUEUE_REFRESH_TIME, GameManagerService.QUEUE_REFRESH_TIME, TimeUnit.SECONDS);
+        scheduleArrival();
+
+        final long reportMillis = TimeUnit.HOURS.toMillis(1);
+        for (long time = reportMillis; time <= durationMillis; time += reportMillis) {
+
+            scheduler.runUntil(time);
+            System.out.printf("[%dh] players %d arrived, %d left, games %d started, %d finished, %d won, %d events%n",
+                TimeUnit.MILLISECONDS.toHours(time), playersArrived, playersLeft,
+                gamesStarted, gamesFinished, gamesWon, scheduler.getExecutedCount());
+        }
+
+        final long cpuNanos = threadBean.getCurrentThreadCpuTime() - startCpuNanos;
+        final long wallNanos = System.nanoTime() - startNanos;
+
+        scheduler.shutdown();
+        dashesRecorder.shutdown();
+        gameHistoryWriter.shutdown();
+
+        System.out.printf("Simulated %d h in %.1f s (%.0fx), %d events, %d failed.%n",
+            TimeUnit.MILLISECONDS.toHours(durationMillis), wallNanos / 1e9, durationMillis * 1e6 / wallNanos,
+            scheduler.getExecutedCount(), scheduler.getFailedCount());
+        System.out.printf("Matchmaking wait over %d joins: p50=%ds p90=%ds p99=%ds max=%ds%n",
+            joins, waitPercentile(50), waitPercentile(90), waitPercentile(99), waitPercentile(100));
+        System.out.printf("CPU: %.3f ms per game, %.2f us per event, %d messages.%n",
+            cpuNanos / 1e6 / Math.max(gamesStarted, 1), cpuNanos / 1e3 / Math.max(scheduler.getExecutedCount(), 1),
+            messagesSent);
+    }
+
+    private void scheduleArrival() {
+
+        final double meanMillis = TimeUnit.MINUTES.toMillis(1) / arrivalsPerMinute;
+        final long delay = (long) (-Math.log(1 - random.nextDouble()) * meanMillis);
+
+        scheduler.schedule(() -> {
+            final SimulatedPlayer player = new SimulatedPlayer("player" + playersArrived++);
+            player.queue();
+            scheduleArrival();
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private int waitPercentile(double percentile) {
+
+        final long rank = (long) Math.ceil((percentile / 100) * joins);
+        long seen = 0;
+
+        for (int seconds = 0; seconds <= MAX_WAIT_SECONDS; ++seconds) {
+
+            seen += waitSeconds[seconds];
+            if ((seen >= rank) && (seen > 0)) {
+                return seconds;
+            }
+        }
+
+        return MAX_WAIT_SECONDS;
+    }
+
+    private static @Nullable MessageType typeOf(@NotNull String payload) {
+
+        if (!payload.startsWith(TYPE_PREFIX)) {
+            return null;
+        }
+
+        final int end = payload.indexOf('"', TYPE_PREFIX.length());
+        return (end > 0) ? MessageType.fromString(payload.substring(TYPE_PREFIX.length(), end)) : null;
+    }
+}
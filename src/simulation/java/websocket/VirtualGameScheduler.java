@@ -0,0 +1,154 @@
+package websocket;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public class VirtualGameScheduler implements GameScheduler {
+
+    private final PriorityQueue<VirtualTask> tasks = new PriorityQueue<>();
+    private long currentTimeMillis = 0;
+    private long nextSequence = 0;
+    private long executedCount = 0;
+    private long failedCount = 0;
+    private boolean shutdown = false;
+
+    private final class VirtualTask implements ScheduledFuture<Object> {
+
+        private final Runnable task;
+        private final long periodMillis;
+        private final long sequence = nextSequence++;
+        private long timeMillis;
+        private boolean cancelled = false;
+        private boolean done = false;
+
+        VirtualTask(Runnable task, long timeMillis, long periodMillis) {
+
+            this.task = task;
+            this.timeMillis = timeMillis;
+            this.periodMillis = periodMillis;
+        }
+
+        @Override
+        public long getDelay(@NotNull TimeUnit unit) {
+            return unit.convert(timeMillis - currentTimeMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(@NotNull Delayed other) {
+
+            final VirtualTask otherTask = (VirtualTask) other;
+            final int timeOrder = Long.compare(timeMillis, otherTask.timeMillis);
+            return (timeOrder != 0) ? timeOrder : Long.compare(sequence, otherTask.sequence);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+
+            if (done || cancelled) {
+                return false;
+            }
+
+            cancelled = true;
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return done || cancelled;
+        }
+
+        @Override
+        public Object get() {
+            return null;
+        }
+
+        @Override
+        public Object get(long timeout, @NotNull TimeUnit unit) {
+            return null;
+        }
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return currentTimeMillis;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        return enqueue(new VirtualTask(task, currentTimeMillis + unit.toMillis(delay), 0));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return enqueue(new VirtualTask(task, currentTimeMillis + unit.toMillis(initialDelay), Math.max(unit.toMillis(period), 1)));
+    }
+
+    @Override
+    public void shutdown() {
+
+        shutdown = true;
+        tasks.clear();
+    }
+
+    public void runUntil(long timeMillis) {
+
+        while (!shutdown && !tasks.isEmpty() && (tasks.peek().timeMillis <= timeMillis)) {
+
+            final VirtualTask task = tasks.poll();
+            if (task.cancelled) {
+                continue;
+            }
+
+            currentTimeMillis = task.timeMillis;
+            ++executedCount;
+
+            try {
+                task.task.run();
+            } catch (RuntimeException exception) {
+                ++failedCount;
+            }
+
+            if ((task.periodMillis > 0) && !task.cancelled) {
+
+                task.timeMillis += task.periodMillis;
+                tasks.add(task);
+
+            } else {
+                task.done = true;
+            }
+        }
+
+        currentTimeMillis = Math.max(currentTimeMillis, timeMillis);
+    }
+
+    public long getExecutedCount() {
+        return executedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+
+    @Override
+    public int getPendingCount() {
+        return tasks.size();
+    }
+
+    private VirtualTask enqueue(VirtualTask task) {
+
+        if (!shutdown) {
+            tasks.add(task);
+        }
+
+        return task;
+    }
+}
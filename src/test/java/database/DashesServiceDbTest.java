@@ -0,0 +1,122 @@
+package database;
+
+import entities.Dashes;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+public class DashesServiceDbTest {
+
+    // Answers the catalog queries from an in-memory table, rows become visible as the test commits them
+    private static final class DashesTable extends NamedParameterJdbcTemplate {
+
+        private final Map<Integer, Dashes> rows = new ConcurrentSkipListMap<>();
+
+        DashesTable() {
+            super(new JdbcTemplate());
+        }
+
+        void commit(int id) {
+            rows.put(id, new Dashes(id, "word" + id, "[]"));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> query(String sql, SqlParameterSource paramSource, RowMapper<T> rowMapper) {
+
+            if (sql.contains(" IN ")) {
+
+                final Collection<?> ids = (Collection<?>) paramSource.getValue("pids");
+                return (List<T>) rows.values().stream()
+                    .filter(e -> ids.contains(e.getId()))
+                    .collect(Collectors.toList());
+            }
+
+            final int highWaterMark = (Integer) paramSource.getValue("phwm");
+            return (List<T>) rows.values().stream()
+                .filter(e -> e.getId() > highWaterMark)
+                .collect(Collectors.toList());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> queryForList(String sql, SqlParameterSource paramSource, Class<T> elementType) {
+
+            final int highWaterMark = (Integer) paramSource.getValue("phwm");
+            return (List<T>) rows.keySet().stream()
+                .filter(e -> e <= highWaterMark)
+                .collect(Collectors.toList());
+        }
+    }
+
+    private final DashesTable table = new DashesTable();
+    private DashesServiceDb dashesService = null;
+
+    @After
+    public void shutdown() {
+
+        if (dashesService != null) {
+            dashesService.shutdown();
+        }
+    }
+
+    // An import or the recorder may commit a lower id after a higher one was already loaded
+    @Test
+    public void testReloadFindsLateLowerIds() {
+
+        table.commit(1);
+        table.commit(3);
+        dashesService = new DashesServiceDb(table, 0);
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList(1, 3)), dashesService.reloadCatalog().getIds());
+        final String version = dashesService.getCatalogVersion();
+
+        table.commit(2);
+        final DashesCatalog catalog = dashesService.reloadCatalog();
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList(1, 2, 3)), catalog.getIds());
+        Assert.assertEquals(3, catalog.getHighWaterMark());
+        Assert.assertNotEquals(version, dashesService.getCatalogVersion());
+    }
+
+    // A late row that replaces a removed one keeps the size and the mark, the version must still change
+    @Test
+    public void testReloadReplacesRemovedId() {
+
+        table.commit(1);
+        table.commit(3);
+        dashesService = new DashesServiceDb(table, 0);
+        dashesService.reloadCatalog();
+        final String version = dashesService.getCatalogVersion();
+
+        table.rows.remove(1);
+        table.commit(2);
+        final DashesCatalog catalog = dashesService.reloadCatalog();
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList(2, 3)), catalog.getIds());
+        Assert.assertNotEquals(version, dashesService.getCatalogVersion());
+    }
+
+    @Test
+    public void testReloadWithoutChanges() {
+
+        table.commit(1);
+        dashesService = new DashesServiceDb(table, 0);
+        final DashesCatalog catalog = dashesService.reloadCatalog();
+
+        Assert.assertSame(catalog, dashesService.reloadCatalog());
+        Assert.assertEquals(new HashSet<>(Arrays.asList(1)), catalog.getIds());
+    }
+}
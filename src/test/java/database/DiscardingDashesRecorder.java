@@ -0,0 +1,17 @@
+package database;
+
+import entities.DashesRecording;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+public class DiscardingDashesRecorder extends DashesRecorder {
+
+    public DiscardingDashesRecorder() {
+        super(null);
+    }
+
+    @Override
+    protected void writeBatch(@NotNull List<DashesRecording> batch) {
+    }
+}
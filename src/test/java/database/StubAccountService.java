@@ -0,0 +1,38 @@
+package database;
+
+import entities.Account;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StubAccountService implements AccountService {
+
+    @Override
+    public @NotNull Account createAccount(@NotNull String login, @NotNull String password, @NotNull String email) {
+        return new Account(0, login, "", email, 0);
+    }
+
+    @Override
+    public @Nullable Account findAccount(@Nullable String login) {
+        return (login != null) ? new Account(0, login, "", "", 0) : null;
+    }
+
+    @Override
+    public @NotNull Account updateAccountInfo(
+        @NotNull String oldLogin, @Nullable String login, @Nullable String password, @Nullable String email) {
+
+        return new Account(0, (login != null) ? login : oldLogin, "", (email != null) ? email : "", 0);
+    }
+
+    @Override
+    public @NotNull Account updateAccountRating(@NotNull String login, int ratingDelta) {
+        return new Account(0, login, "", "", ratingDelta);
+    }
+
+    @Override
+    public List<Account> getBest() {
+        return new ArrayList<>();
+    }
+}
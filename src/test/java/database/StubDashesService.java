@@ -0,0 +1,69 @@
+package database;
+
+import entities.Dashes;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class StubDashesService implements DashesService {
+
+    public static final int DASHES_COUNT = 100;
+
+    private final Random random = new Random(0);
+    private final DashesCatalog catalog;
+
+    public StubDashesService() {
+
+        final ArrayList<Dashes> dashes = new ArrayList<>();
+        for (int i = 1; i <= DASHES_COUNT; ++i) {
+            dashes.add(new Dashes(i, "word" + i, "[]"));
+        }
+
+        catalog = DashesCatalog.EMPTY.withChanges(dashes, Collections.emptySet());
+    }
+
+    @Override
+    public boolean checkWord(@NotNull String word, int dashesId) {
+
+        final Dashes dashes = catalog.getDashes(dashesId);
+        return (dashes != null) && dashes.getWord().equalsIgnoreCase(word);
+    }
+
+    @Override
+    public void addUsedDashes(@NotNull String login, int dashesId) {
+    }
+
+    @Override
+    public synchronized @NotNull Dashes getRandomDashes(@NotNull String login) {
+        return getRandomDashes();
+    }
+
+    @Override
+    public synchronized @NotNull Dashes getRandomDashes() {
+        return catalog.getDashes().get(random.nextInt(catalog.size()));
+    }
+
+    @Override
+    public @Nullable Dashes getCachedDashes() {
+        return getRandomDashes();
+    }
+
+    @Override
+    public @NotNull List<Dashes> getRandomDashes(int count) {
+        return catalog.getDashes().subList(0, Math.min(count, catalog.size()));
+    }
+
+    @Override
+    public @NotNull String getCatalogVersion() {
+        return catalog.getVersion();
+    }
+
+    @Override
+    public @NotNull DashesCatalog reloadCatalog() {
+        return catalog;
+    }
+}
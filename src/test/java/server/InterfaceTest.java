@@ -5,6 +5,7 @@ import database.AccountService;
 import database.AccountServiceDb;
 import entities.Account;
 import httpmessages.AccountData;
+import httpmessages.DashesBundleData;
 import httpmessages.ErrorCode;
 import httpmessages.ErrorData;
 import org.jetbrains.annotations.Nullable;
@@ -15,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
@@ -23,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -30,12 +33,14 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 
 @SuppressWarnings({"OverlyBroadThrowsClause", "SpringJavaAutowiredMembersInspection"})
-@SpringBootTest
+@SpringBootTest(properties = "metrics.token=" + InterfaceTest.METRICS_TOKEN)
 @RunWith(SpringRunner.class)
 @AutoConfigureMockMvc(print = MockMvcPrint.NONE)
 @Transactional
 public class InterfaceTest {
 
+    static final String METRICS_TOKEN = "scraper";
+
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
     private static final String CORRECT_PASSWORD = "correct";
@@ -568,4 +573,71 @@ public class InterfaceTest {
                 .andExpect(jsonPath(path + AccountData.RATING_ATTR).value(account.getRating()));
         }
     }
+
+    ///////////////////////////////////
+    //Dashes bundle tests
+
+    @Test
+    public void testDashesBundleCached() throws Exception {
+
+        final String eTag = mvc
+            .perform(get("/dashes/bundle"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age")))
+            .andExpect(jsonPath(DashesBundleData.VERSION_ATTR).isNotEmpty())
+            .andExpect(jsonPath(DashesBundleData.DASHES_ATTR).isArray())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc
+            .perform(get("/dashes/bundle").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void testDashesBundleEncodings() throws Exception {
+
+        final String gzipETag = mvc
+            .perform(get("/dashes/bundle").header(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.5"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        final String identityETag = mvc
+            .perform(get("/dashes/bundle").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, *"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assert.assertNotEquals(gzipETag, identityETag);
+
+        mvc
+            .perform(get("/dashes/bundle").header(HttpHeaders.IF_NONE_MATCH, gzipETag))
+            .andExpect(status().isOk());
+
+        mvc
+            .perform(get("/dashes/bundle")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, gzipETag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    public void testMetricsExposed() throws Exception {
+
+        mvc
+            .perform(get("/metrics"))
+            .andExpect(status().isForbidden())
+            .andExpect(jsonPath(ErrorData.CODE_ATTR).value(ErrorCode.FORBIDDEN.toString()));
+
+        mvc
+            .perform(get("/metrics").header(HttpHeaders.AUTHORIZATION, "Bearer wrong"))
+            .andExpect(status().isForbidden());
+
+        mvc
+            .perform(get("/metrics").header(HttpHeaders.AUTHORIZATION, "Bearer " + METRICS_TOKEN))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("# TYPE crocodile_games_active gauge")))
+            .andExpect(content().string(containsString("crocodile_queued_players{role=\"PAINTER\"}")))
+            .andExpect(content().string(containsString("crocodile_matchmaking_wait_seconds_bucket{le=\"+Inf\"}")));
+    }
 }
@@ -0,0 +1,124 @@
+package socketmessages;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+public class PointBufferTest {
+
+    private static final float QUANTUM = 1 / PointBuffer.COORDINATE_SCALE;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static boolean isDown(int index) {
+        return ((index % 3) == 0) || ((index % Long.SIZE) == (Long.SIZE - 1));
+    }
+
+    @Test
+    public void testDownFlagsAcrossWords() {
+
+        final PointBuffer buffer = new PointBuffer();
+        final int count = 3 * Long.SIZE + 5;
+        for (int i = 0; i < count; ++i) {
+            buffer.add(new PicturePointContent(0, 0, isDown(i), null), i);
+        }
+
+        final PointBuffer.Snapshot snapshot = buffer.getSnapshot();
+        for (int i = 0; i < count; ++i) {
+            Assert.assertEquals("point " + i, isDown(i), snapshot.isDown(i));
+        }
+    }
+
+    @Test
+    public void testPaletteOverflow() {
+
+        final PointBuffer buffer = new PointBuffer();
+        for (int i = 0; i <= PointBuffer.PALETTE_LIMIT + 10; ++i) {
+            buffer.add(new PicturePointContent(0, 0, true, "color" + i), i);
+        }
+        buffer.add(new PicturePointContent(0, 0, true, "color0"), 1000);
+        buffer.add(new PicturePointContent(0, 0, true, "color" + (PointBuffer.PALETTE_LIMIT - 1)), 1001);
+
+        final PointBuffer.Snapshot snapshot = buffer.getSnapshot();
+        for (int i = 0; i < PointBuffer.PALETTE_LIMIT; ++i) {
+            Assert.assertEquals("color" + i, snapshot.getColor(i));
+        }
+        for (int i = PointBuffer.PALETTE_LIMIT; i <= PointBuffer.PALETTE_LIMIT + 10; ++i) {
+            Assert.assertNull(snapshot.getColor(i));
+        }
+
+        final int size = snapshot.size();
+        Assert.assertEquals("color0", snapshot.getColor(size - 2));
+        Assert.assertEquals("color" + (PointBuffer.PALETTE_LIMIT - 1), snapshot.getColor(size - 1));
+    }
+
+    @Test
+    public void testQuantizationRoundTrip() {
+
+        final float[] coordinates = {0, 1, 0.5f, 0.123456f, 0.99999f, -0.25f, 1.5f};
+        final PointBuffer buffer = new PointBuffer();
+        for (float coordinate : coordinates) {
+            buffer.add(new PicturePointContent(coordinate, 1 - coordinate, false, null), 0);
+        }
+
+        final PointBuffer.Snapshot snapshot = buffer.getSnapshot();
+        for (int i = 0; i < coordinates.length; ++i) {
+            Assert.assertEquals(coordinates[i], snapshot.getX(i), QUANTUM / 2);
+            Assert.assertEquals(1 - coordinates[i], snapshot.getY(i), QUANTUM / 2);
+        }
+
+        // Out of range coordinates are clamped to the 16-bit range
+        buffer.add(new PicturePointContent(100, -100, false, null), 0);
+        Assert.assertEquals(Short.MAX_VALUE / PointBuffer.COORDINATE_SCALE, buffer.getSnapshot().getX(coordinates.length), 0);
+        Assert.assertEquals(Short.MIN_VALUE / PointBuffer.COORDINATE_SCALE, buffer.getSnapshot().getY(coordinates.length), 0);
+    }
+
+    // A pause longer than a 16-bit delta is carried into the next points instead of shifting them
+    @Test
+    public void testLongPauseCarried() {
+
+        final int[] times = {0, 100, 100000, 100050, 200000, 200010, 200020};
+        final PointBuffer buffer = new PointBuffer();
+        for (int time : times) {
+            buffer.add(new PicturePointContent(0, 0, false, null), time);
+        }
+
+        final int[] stored = buffer.getSnapshot().getTimesMillis();
+        Assert.assertEquals(0, stored[0]);
+        Assert.assertEquals(100, stored[1]);
+        Assert.assertEquals(100 + Character.MAX_VALUE, stored[2]);
+        Assert.assertEquals(100050, stored[3]);
+        Assert.assertEquals(100050 + Character.MAX_VALUE, stored[4]);
+        Assert.assertEquals(200010, stored[5]);
+        Assert.assertEquals(200020, stored[6]);
+    }
+
+    // Sealed chunks must come out exactly as the points would serialize one by one
+    @Test
+    public void testSnapshotSerializedAsPoints() throws IOException {
+
+        final int[] counts = {0, 1, PointBuffer.CHUNK_SIZE - 1, PointBuffer.CHUNK_SIZE, PointBuffer.CHUNK_SIZE + 1,
+            2 * PointBuffer.CHUNK_SIZE};
+        final String[] colors = {null, "#ff0000", "\u0436\u0451\u043b\u0442\u044b\u0439", "\"quoted\""};
+
+        for (int count : counts) {
+
+            final PointBuffer buffer = new PointBuffer();
+            for (int i = 0; i < count; ++i) {
+
+                final boolean down = (i % 7) == 0;
+                buffer.add(new PicturePointContent(i / 200f, 1 - (i / 300f), down, down ? colors[i % colors.length] : null), i);
+            }
+
+            final PointBuffer.Snapshot snapshot = buffer.getSnapshot();
+            final ArrayList<PicturePointContent> points = new ArrayList<>();
+            for (int i = 0; i < snapshot.size(); ++i) {
+                points.add(snapshot.get(i));
+            }
+
+            Assert.assertEquals(count + " points", MAPPER.writeValueAsString(points), MAPPER.writeValueAsString(snapshot));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package websocket;
+
+import database.DiscardingGameHistoryWriter;
+import entities.MultiplayerGame;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.web.socket.WebSocketMessage;
+import socketmessages.AnswerVoteContent;
+import socketmessages.MessageType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class GameEventLogTest {
+
+    private static final Pattern SEQUENCE = Pattern.compile("\"seq\":(\\d+)");
+
+    private static final class ManualClockScheduler extends ExecutorGameScheduler {
+
+        private volatile long timeMillis = 0;
+
+        ManualClockScheduler() {
+            super(1);
+        }
+
+        @Override
+        public long currentTimeMillis() {
+            return timeMillis;
+        }
+    }
+
+    private final ManualClockScheduler scheduler = new ManualClockScheduler();
+    private final DiscardingGameHistoryWriter gameHistoryWriter = new DiscardingGameHistoryWriter();
+    private final GameRelationManager relations = new GameRelationManager();
+    private final MultiplayerScheduledGameManager manager = new MultiplayerScheduledGameManager(
+        scheduler, relations, gameHistoryWriter, PointBudget.DEFAULT);
+    private final ScheduledGame<MultiplayerGame> scheduledGame = manager.createScheduledGame(
+        new MultiplayerGame("word", new ArrayList<>(Arrays.asList("painter", "guesser"))));
+    private final RecordingWebSocketSession painter = new RecordingWebSocketSession("painter");
+    private final RecordingWebSocketSession guesser = new RecordingWebSocketSession("guesser");
+
+    public GameEventLogTest() {
+
+        relations.addPainterRelation(painter, scheduledGame, 1);
+        relations.addGuesserRelation(guesser, scheduledGame, 2);
+    }
+
+    @After
+    public void shutdown() {
+
+        scheduler.shutdown();
+        gameHistoryWriter.shutdown();
+    }
+
+    private static List<Long> getSequences(RecordingWebSocketSession session) {
+
+        final ArrayList<Long> sequences = new ArrayList<>();
+        for (String message : session.getMessages()) {
+
+            final Matcher matcher = SEQUENCE.matcher(message);
+            Assert.assertTrue(message, matcher.find());
+            sequences.add(Long.parseLong(matcher.group(1)));
+        }
+
+        return sequences;
+    }
+
+    private void sendVote(List<? extends org.springframework.web.socket.WebSocketSession> recipients) {
+
+        scheduledGame.getEvents().send(
+            new ArrayList<>(recipients),
+            new socketmessages.WebSocketMessage<>(MessageType.NEW_VOTE.toString(), new AnswerVoteContent(1, true)),
+            relations);
+    }
+
+    @Test
+    public void testReplayMissedEvents() {
+
+        sendVote(Arrays.asList(painter, guesser));
+        sendVote(Arrays.asList(painter, guesser));
+        sendVote(Collections.singletonList(painter));
+        sendVote(Arrays.asList(painter, guesser));
+        Assert.assertEquals(Arrays.asList(1L, 2L, 4L), getSequences(guesser));
+
+        final RecordingWebSocketSession resumed = new RecordingWebSocketSession("guesser");
+        Assert.assertNotNull(relations.resumeRelation(
+            "guesser", relations.getRelation("guesser").getResumeToken(), resumed));
+
+        // Only the events addressed to the player are replayed, in order
+        Assert.assertTrue(scheduledGame.getEvents().replay(resumed, 1));
+        Assert.assertEquals(Arrays.asList(2L, 4L), getSequences(resumed));
+
+        sendVote(Arrays.asList(painter, guesser));
+        Assert.assertEquals(Arrays.asList(2L, 4L, 5L), getSequences(resumed));
+        Assert.assertEquals(Arrays.asList(1L, 2L, 4L), getSequences(guesser));
+    }
+
+    @Test
+    public void testReplayUpToDate() {
+
+        sendVote(Arrays.asList(painter, guesser));
+        sendVote(Arrays.asList(painter, guesser));
+
+        final RecordingWebSocketSession resumed = new RecordingWebSocketSession("guesser");
+        Assert.assertTrue(scheduledGame.getEvents().replay(resumed, 2));
+        Assert.assertTrue(resumed.getMessages().isEmpty());
+
+        // A sequence the game never reached can't be caught up with
+        Assert.assertFalse(scheduledGame.getEvents().replay(resumed, 3));
+    }
+
+    @Test
+    public void testEventsExpire() {
+
+        sendVote(Arrays.asList(painter, guesser));
+        sendVote(Arrays.asList(painter, guesser));
+
+        scheduler.timeMillis += GameEventLog.RETENTION_MILLIS + 1;
+        sendVote(Arrays.asList(painter, guesser));
+
+        final RecordingWebSocketSession resumed = new RecordingWebSocketSession("guesser");
+        Assert.assertFalse(scheduledGame.getEvents().replay(resumed, 0));
+        Assert.assertTrue(scheduledGame.getEvents().replay(resumed, 2));
+        Assert.assertEquals(Collections.singletonList(3L), getSequences(resumed));
+    }
+
+    @Test
+    public void testEventsCapped() {
+
+        for (int i = 0; i <= GameEventLog.CAPACITY; ++i) {
+            sendVote(Collections.singletonList(guesser));
+        }
+
+        final RecordingWebSocketSession resumed = new RecordingWebSocketSession("guesser");
+        Assert.assertFalse(scheduledGame.getEvents().replay(resumed, 0));
+        Assert.assertTrue(scheduledGame.getEvents().replay(resumed, 1));
+        Assert.assertEquals(GameEventLog.CAPACITY, resumed.getMessages().size());
+    }
+
+    // A recipient stuck in a socket write delays only the thread writing to it, other senders queue and return
+    @Test
+    public void testSlowRecipientDoesNotBlockSenders() throws InterruptedException {
+
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingWebSocketSession slowGuesser = new RecordingWebSocketSession("guesser") {
+
+            @Override
+            public void sendMessage(WebSocketMessage<?> message) {
+
+                writing.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                super.sendMessage(message);
+            }
+        };
+        relations.resumeRelation("guesser", relations.getRelation("guesser").getResumeToken(), slowGuesser);
+
+        final Thread stuckSender = new Thread(() -> sendVote(Arrays.asList(painter, slowGuesser)));
+        stuckSender.start();
+        Assert.assertTrue(writing.await(10, TimeUnit.SECONDS));
+
+        final long startNanos = System.nanoTime();
+        sendVote(Arrays.asList(painter, slowGuesser));
+        sendVote(Collections.singletonList(painter));
+        Assert.assertEquals(3, scheduledGame.getEvents().getSequence());
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos) < 5);
+
+        release.countDown();
+        stuckSender.join(10000);
+        Assert.assertEquals(Arrays.asList(1L, 2L, 3L), getSequences(painter));
+        Assert.assertEquals(Arrays.asList(1L, 2L), getSequences(slowGuesser));
+    }
+}
@@ -0,0 +1,485 @@
+package websocket;
+
+import database.DiscardingDashesRecorder;
+import database.DiscardingGameHistoryWriter;
+import database.ExecutorAccountService;
+import database.ExecutorDashesService;
+import database.StubAccountService;
+import database.StubDashesService;
+import entities.Account;
+import entities.Dashes;
+import entities.SingleplayerGame;
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import socketmessages.GameResult;
+import socketmessages.GameType;
+import socketmessages.MessageType;
+import socketmessages.PicturePointContent;
+import socketmessages.PlayerRole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class GameManagerServiceTest {
+
+    private static final Pattern RESUME_TOKEN = Pattern.compile("\"resume_token\":\"([^\"]+)\"");
+
+    private final GameScheduler scheduler = new ExecutorGameScheduler(1);
+    private final DiscardingDashesRecorder dashesRecorder = new DiscardingDashesRecorder();
+    private final DiscardingGameHistoryWriter gameHistoryWriter = new DiscardingGameHistoryWriter();
+    private volatile boolean catalogLoaded = true;
+    private volatile Runnable beforeWord = () -> {};
+    private volatile String lastWord = null;
+    private final StubDashesService dashesService = new StubDashesService() {
+
+        @Override
+        public synchronized @NotNull Dashes getRandomDashes() {
+
+            beforeWord.run();
+            if (!catalogLoaded) {
+                throw new DataRetrievalFailureException("dashes catalog is not loaded");
+            }
+            final Dashes dashes = super.getRandomDashes();
+            lastWord = dashes.getWord();
+            return dashes;
+        }
+    };
+    private final AtomicInteger ratingUpdates = new AtomicInteger();
+    private final GameManagerService service = createService(Runnable::run, Runnable::run, AdmissionControl.UNLIMITED);
+
+    private GameManagerService createService(
+        @NotNull Executor accountExecutor, @NotNull Executor dashesExecutor, @NotNull AdmissionControl admissionControl) {
+
+        final StubAccountService accountService = new StubAccountService() {
+
+            @Override
+            public @NotNull Account updateAccountRating(@NotNull String login, int ratingDelta) {
+
+                ratingUpdates.incrementAndGet();
+                return super.updateAccountRating(login, ratingDelta);
+            }
+        };
+
+        return new GameManagerService(
+            new ExecutorAccountService(accountService, accountExecutor), dashesService,
+            new ExecutorDashesService(dashesService, dashesExecutor),
+            dashesRecorder, gameHistoryWriter, PointBudget.DEFAULT, admissionControl, scheduler);
+    }
+
+    @After
+    public void shutdown() {
+
+        scheduler.shutdown();
+        dashesRecorder.shutdown();
+        gameHistoryWriter.shutdown();
+    }
+
+    // A player who can take any role must not be picked as a painter after being placed as a guesser
+    @Test
+    public void testMatchAnyRolePlayersOnce() {
+
+        final ArrayList<RecordingWebSocketSession> sessions = new ArrayList<>();
+        for (int i = 0; i < 7; ++i) {
+
+            final RecordingWebSocketSession session = new RecordingWebSocketSession("player" + i);
+            sessions.add(session);
+            service.queueForMultiplayerGame(session, PlayerRole.ANYONE);
+        }
+
+        service.checkQueue();
+
+        for (RecordingWebSocketSession session : sessions) {
+            Assert.assertEquals(SessionOperator.getLogin(session),
+                1, session.getMessages(MessageType.START_MULTIPLAYER_GAME.toString()).size());
+        }
+        Assert.assertEquals(0, service.getQueuedCount(PlayerRole.ANYONE));
+    }
+
+    private void startMultiplayerGame(RecordingWebSocketSession painter, RecordingWebSocketSession guesser) {
+
+        service.queueForMultiplayerGame(painter, PlayerRole.PAINTER);
+        service.queueForMultiplayerGame(guesser, PlayerRole.GUESSER);
+        service.checkQueue();
+        Assert.assertEquals(1, guesser.getMessages(MessageType.START_MULTIPLAYER_GAME.toString()).size());
+    }
+
+    private static String getResumeToken(RecordingWebSocketSession session) {
+
+        final Matcher matcher = RESUME_TOKEN.matcher(
+            session.getMessages(MessageType.START_MULTIPLAYER_GAME.toString()).get(0));
+        Assert.assertTrue(matcher.find());
+        return matcher.group(1);
+    }
+
+    private void addPoints(RecordingWebSocketSession painter, int count) {
+
+        for (int i = 0; i < count; ++i) {
+            service.addPoint(painter, new PicturePointContent(0.5f, (i % 100) / 100f, false, null));
+        }
+    }
+
+    private static RecordingWebSocketSession disconnect(GameManagerService service, RecordingWebSocketSession session) {
+
+        session.close();
+        service.disconnectSession(session);
+        return new RecordingWebSocketSession(SessionOperator.getLogin(session));
+    }
+
+    @Test
+    public void testResumeWithWrongToken() {
+
+        final RecordingWebSocketSession painter = new RecordingWebSocketSession("painter");
+        final RecordingWebSocketSession guesser = new RecordingWebSocketSession("guesser");
+        startMultiplayerGame(painter, guesser);
+
+        final RecordingWebSocketSession resumed = disconnect(service, guesser);
+        service.resumeGame(resumed, getResumeToken(painter), 0);
+        service.resumeGame(resumed, null, 0);
+
+        Assert.assertEquals(2, resumed.getMessages(MessageType.RESUME_FAILED.toString()).size());
+        Assert.assertEquals(0, resumed.getMessages(MessageType.STATE.toString()).size());
+    }
+
+    // Points drawn while the guesser was away are replayed rather than the whole state
+    @Test
+    public void testResumeReplaysMissedPoints() {
+
+        final RecordingWebSocketSession painter = new RecordingWebSocketSession("painter");
+        final RecordingWebSocketSession guesser = new RecordingWebSocketSession("guesser");
+        startMultiplayerGame(painter, guesser);
+        addPoints(painter, 3);
+
+        final int receivedCount = guesser.getMessages().size();
+        final RecordingWebSocketSession resumed = disconnect(service, guesser);
+        addPoints(painter, 5);
+
+        final long lastSequence = Long.parseLong(guesser.getMessages().get(receivedCount - 1)
+            .replaceAll(".*\"seq\":(\\d+).*", "$1"));
+        service.resumeGame(resumed, getResumeToken(guesser), lastSequence);
+
+        Assert.assertEquals(5, resumed.getMessages(MessageType.NEW_POINT.toString()).size());
+        Assert.assertEquals(0, resumed.getMessages(MessageType.STATE.toString()).size());
+        Assert.assertEquals(0, resumed.getMessages(MessageType.RESUME_FAILED.toString()).size());
+    }
+
+    // Once the missed events fell out of the log the player gets the full state instead
+    @Test
+    public void testResumeFallsBackToState() {
+
+        final RecordingWebSocketSession painter = new RecordingWebSocketSession("painter");
+        final RecordingWebSocketSession guesser = new RecordingWebSocketSession("guesser");
+        startMultiplayerGame(painter, guesser);
+
+        final RecordingWebSocketSession resumed = disconnect(service, guesser);
+        addPoints(painter, GameEventLog.CAPACITY + 1);
+        service.resumeGame(resumed, getResumeToken(guesser), 0);
+
+        Assert.assertEquals(0, resumed.getMessages(MessageType.NEW_POINT.toString()).size());
+        Assert.assertEquals(1, resumed.getMessages(MessageType.STATE.toString()).size());
+    }
+
+    private static SingleplayerGame startSingleplayerGame(GameManagerService service, RecordingWebSocketSession session) {
+
+        final SingleplayerGame game = service.createSingleplayerGame(session).join();
+        service.startTimer(game.getId(), GameType.SINGLEPLAYER);
+        return game;
+    }
+
+    // The answer, the timer and the exit race to end the game, whoever wins ends it alone
+    @Test
+    public void testRacingEndsEndGameOnce() throws InterruptedException {
+
+        for (int round = 0; round < 100; ++round) {
+
+            final RecordingWebSocketSession session = new RecordingWebSocketSession("player");
+            final SingleplayerGame game = startSingleplayerGame(service, session);
+            final ScheduledGame scheduledGame = service.getScheduledGame(game.getId(), GameType.SINGLEPLAYER);
+            final int updatesBefore = ratingUpdates.get();
+
+            final CountDownLatch start = new CountDownLatch(1);
+            final ArrayList<Thread> threads = new ArrayList<>();
+            for (Runnable task : new Runnable[] {
+                () -> service.checkAnswer(session, game.getWord()),
+                () -> scheduledGame.runLoseTask(GameResult.GAME_LOST),
+                () -> service.clearData(session)}) {
+
+                final Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                        task.run();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join(10000);
+            }
+
+            Assert.assertEquals(GameState.ENDED, scheduledGame.getState());
+            Assert.assertNull(service.getScheduledGame(game.getId(), GameType.SINGLEPLAYER));
+            Assert.assertTrue(session.getMessages(MessageType.STOP_GAME.toString()).size() <= 1);
+            Assert.assertTrue(ratingUpdates.get() - updatesBefore <= 1);
+        }
+    }
+
+    // The player leaves while the won game waits for its rating update, the game still ends and goes away
+    @Test
+    public void testExitWhileWinIsStored() {
+
+        final ConcurrentLinkedQueue<Runnable> pendingUpdates = new ConcurrentLinkedQueue<>();
+        final GameManagerService service = createService(pendingUpdates::add, Runnable::run, AdmissionControl.UNLIMITED);
+        final RecordingWebSocketSession session = new RecordingWebSocketSession("player");
+        final SingleplayerGame game = startSingleplayerGame(service, session);
+        final ScheduledGame scheduledGame = service.getScheduledGame(game.getId(), GameType.SINGLEPLAYER);
+
+        service.checkAnswer(session, game.getWord());
+        Assert.assertEquals(GameState.ENDING, scheduledGame.getState());
+
+        service.clearData(session);
+        scheduledGame.runLoseTask(GameResult.GAME_LOST);
+        Assert.assertEquals(GameState.ENDING, scheduledGame.getState());
+
+        pendingUpdates.forEach(Runnable::run);
+        Assert.assertEquals(1, ratingUpdates.get());
+        Assert.assertEquals(GameState.ENDED, scheduledGame.getState());
+        Assert.assertNull(service.getScheduledGame(game.getId(), GameType.SINGLEPLAYER));
+        Assert.assertTrue(session.getMessages(MessageType.STOP_GAME.toString()).isEmpty());
+    }
+
+    // A new game started while the previous win was stored keeps its relation when the old game ends
+    @Test
+    public void testEndKeepsNewerGame() {
+
+        final ConcurrentLinkedQueue<Runnable> pendingUpdates = new ConcurrentLinkedQueue<>();
+        final GameManagerService service = createService(pendingUpdates::add, Runnable::run, AdmissionControl.UNLIMITED);
+        final RecordingWebSocketSession session = new RecordingWebSocketSession("player");
+        final SingleplayerGame game = startSingleplayerGame(service, session);
+
+        service.checkAnswer(session, game.getWord());
+        final SingleplayerGame nextGame = startSingleplayerGame(service, session);
+        pendingUpdates.forEach(Runnable::run);
+
+        Assert.assertNull(service.getScheduledGame(game.getId(), GameType.SINGLEPLAYER));
+        Assert.assertNotNull(service.getScheduledGame(nextGame.getId(), GameType.SINGLEPLAYER));
+        Assert.assertTrue(session.getMessages(MessageType.STOP_GAME.toString()).isEmpty());
+
+        service.checkAnswer(session, "not " + nextGame.getWord());
+        Assert.assertEquals(2, session.getMessages(MessageType.CHECK_ANSWER.toString()).size());
+    }
+
+    // Requests made while the word was loading win over the start that was waiting for it
+    @Test
+    public void testSupersededSingleplayerStart() {
+
+        final ConcurrentLinkedQueue<Runnable> pendingQueries = new ConcurrentLinkedQueue<>();
+        final GameManagerService service = createService(Runnable::run, pendingQueries::add, AdmissionControl.UNLIMITED);
+
+        final RecordingWebSocketSession closed = new RecordingWebSocketSession("closed");
+        final CompletableFuture<SingleplayerGame> closedStart = service.createSingleplayerGame(closed);
+        closed.close();
+
+        final RecordingWebSocketSession queued = new RecordingWebSocketSession("queued");
+        final CompletableFuture<SingleplayerGame> queuedStart = service.createSingleplayerGame(queued);
+        service.queueForMultiplayerGame(queued, PlayerRole.GUESSER);
+
+        final RecordingWebSocketSession restarted = new RecordingWebSocketSession("restarted");
+        final CompletableFuture<SingleplayerGame> firstStart = service.createSingleplayerGame(restarted);
+        final CompletableFuture<SingleplayerGame> secondStart = service.createSingleplayerGame(restarted);
+
+        pendingQueries.forEach(Runnable::run);
+        Assert.assertNull(closedStart.join());
+        Assert.assertNull(queuedStart.join());
+        Assert.assertNull(firstStart.join());
+        Assert.assertNotNull(secondStart.join());
+
+        Assert.assertEquals(1, service.getGamesCount());
+        Assert.assertEquals(1, service.getQueuedCount(PlayerRole.GUESSER));
+    }
+
+    // A refused connection gets SERVER_BUSY and only then the close, even when the write is slow to go out
+    @Test
+    public void testRejectedSessionGetsBusyBeforeClose() throws IOException, InterruptedException {
+
+        final GameManagerService service = createService(Runnable::run, Runnable::run,
+            new AdmissionControl(0, 0, 1, 0, 0, AdmissionControl.DEFAULT_RETRY_AFTER_SECONDS, () -> 0));
+        final SessionTransport queued = SessionTransport.create("queued", 1, 100, 10000);
+
+        try {
+            for (SessionTransport transport : new SessionTransport[] {SessionTransport.BLOCKING, queued}) {
+
+                final RecordingWebSocketSession rejected = new RecordingWebSocketSession("rejected") {
+
+                    @Override
+                    public void sendMessage(WebSocketMessage<?> message) {
+
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException exception) {
+                            Thread.currentThread().interrupt();
+                        }
+                        super.sendMessage(message);
+                    }
+                };
+                final WebSocketSession session = transport.wrap(rejected);
+
+                // As GameSocketHandler does when a connection is refused
+                Assert.assertFalse(service.admitSession(session, 1));
+                session.close(CloseStatus.SERVICE_OVERLOAD);
+
+                final long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while ((rejected.getCloseStatus() == null) && (System.nanoTime() < deadlineNanos)) {
+                    Thread.sleep(10);
+                }
+
+                Assert.assertEquals(transport.getMode().toString(),
+                    1, rejected.getMessages(MessageType.SERVER_BUSY.toString()).size());
+                Assert.assertEquals(CloseStatus.SERVICE_OVERLOAD, rejected.getCloseStatus());
+            }
+
+        } finally {
+            queued.shutdown();
+        }
+    }
+
+    // Matched players whose game can't get a word stay queued, and the next round still runs
+    @Test
+    public void testMatchWithoutCatalog() {
+
+        final RecordingWebSocketSession painter = new RecordingWebSocketSession("painter");
+        final RecordingWebSocketSession guesser = new RecordingWebSocketSession("guesser");
+        service.queueForMultiplayerGame(painter, PlayerRole.PAINTER);
+        service.queueForMultiplayerGame(guesser, PlayerRole.GUESSER);
+
+        catalogLoaded = false;
+        service.checkQueue();
+
+        Assert.assertEquals(0, guesser.getMessages(MessageType.START_MULTIPLAYER_GAME.toString()).size());
+        Assert.assertEquals(1, service.getQueuedCount(PlayerRole.PAINTER));
+        Assert.assertEquals(1, service.getQueuedCount(PlayerRole.GUESSER));
+
+        catalogLoaded = true;
+        service.checkQueue();
+
+        Assert.assertEquals(1, painter.getMessages(MessageType.START_MULTIPLAYER_GAME.toString()).size());
+        Assert.assertEquals(1, guesser.getMessages(MessageType.START_MULTIPLAYER_GAME.toString()).size());
+        Assert.assertEquals(0, service.getQueuedCount(PlayerRole.PAINTER));
+        Assert.assertEquals(0, service.getQueuedCount(PlayerRole.GUESSER));
+    }
+
+    // Players who left or queued again while their match was failing keep what they did meanwhile
+    @Test
+    public void testFailedMatchRequeuesWaitingPlayers() {
+
+        final RecordingWebSocketSession painter = new RecordingWebSocketSession("painter");
+        final RecordingWebSocketSession leaving = new RecordingWebSocketSession("leaving");
+        final RecordingWebSocketSession requeued = new RecordingWebSocketSession("requeued");
+        final RecordingWebSocketSession requeuedAgain = new RecordingWebSocketSession("requeued");
+        service.queueForMultiplayerGame(painter, PlayerRole.PAINTER);
+        service.queueForMultiplayerGame(leaving, PlayerRole.GUESSER);
+        service.queueForMultiplayerGame(requeued, PlayerRole.GUESSER);
+
+        catalogLoaded = false;
+        beforeWord = () -> {
+
+            beforeWord = () -> {};
+            disconnect(service, leaving);
+            service.queueForMultiplayerGame(requeuedAgain, PlayerRole.GUESSER);
+        };
+        service.checkQueue();
+
+        Assert.assertEquals(1, service.getQueuedCount(PlayerRole.PAINTER));
+        Assert.assertEquals(1, service.getQueuedCount(PlayerRole.GUESSER));
+
+        catalogLoaded = true;
+        service.checkQueue();
+
+        Assert.assertEquals(1, painter.getMessages(MessageType.START_MULTIPLAYER_GAME.toString()).size());
+        Assert.assertEquals(1, requeuedAgain.getMessages(MessageType.START_MULTIPLAYER_GAME.toString()).size());
+        Assert.assertEquals(0, requeued.getMessages(MessageType.START_MULTIPLAYER_GAME.toString()).size());
+        Assert.assertEquals(0, leaving.getMessages(MessageType.START_MULTIPLAYER_GAME.toString()).size());
+    }
+
+    // The matchmaker sends outside the service lock, so a slow painter does not hold back new queue requests
+    @Test
+    public void testBlockedSendDoesNotHoldQueue() throws Exception {
+
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+        final RecordingWebSocketSession painter = new RecordingWebSocketSession("painter") {
+
+            @Override
+            public void sendMessage(WebSocketMessage<?> message) {
+
+                sending.countDown();
+                try {
+                    released.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                super.sendMessage(message);
+            }
+        };
+        service.queueForMultiplayerGame(painter, PlayerRole.PAINTER);
+        service.queueForMultiplayerGame(new RecordingWebSocketSession("guesser"), PlayerRole.GUESSER);
+
+        final CompletableFuture<Void> round = CompletableFuture.runAsync(service::checkQueue);
+        try {
+            Assert.assertTrue(sending.await(10, TimeUnit.SECONDS));
+            CompletableFuture.runAsync(() -> service.queueForMultiplayerGame(
+                new RecordingWebSocketSession("waiting"), PlayerRole.GUESSER)).get(5, TimeUnit.SECONDS);
+            Assert.assertEquals(1, service.getQueuedCount(PlayerRole.GUESSER));
+
+        } finally {
+            released.countDown();
+        }
+
+        round.get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(1, painter.getMessages(MessageType.START_MULTIPLAYER_GAME.toString()).size());
+    }
+
+    // A won game waiting for its rating update takes no more guessers, they stay queued for a running game
+    @Test
+    public void testWaitingGuesserSkipsEndingGame() {
+
+        final ConcurrentLinkedQueue<Runnable> pendingUpdates = new ConcurrentLinkedQueue<>();
+        final GameManagerService service = createService(pendingUpdates::add, Runnable::run, AdmissionControl.UNLIMITED);
+        final RecordingWebSocketSession painter = new RecordingWebSocketSession("painter");
+        final RecordingWebSocketSession guesser = new RecordingWebSocketSession("guesser");
+        service.queueForMultiplayerGame(painter, PlayerRole.PAINTER);
+        service.queueForMultiplayerGame(guesser, PlayerRole.GUESSER);
+        service.checkQueue();
+
+        service.checkAnswer(guesser, lastWord);
+        Assert.assertEquals(1, pendingUpdates.size());
+
+        final RecordingWebSocketSession late = new RecordingWebSocketSession("late");
+        service.queueForMultiplayerGame(late, PlayerRole.GUESSER);
+        service.checkQueue();
+
+        Assert.assertEquals(0, late.getMessages(MessageType.START_MULTIPLAYER_GAME.toString()).size());
+        Assert.assertEquals(1, service.getQueuedCount(PlayerRole.GUESSER));
+
+        pendingUpdates.forEach(Runnable::run);
+        Assert.assertEquals(0, service.getGamesCount());
+        Assert.assertEquals(1, service.getQueuedCount(PlayerRole.GUESSER));
+    }
+}
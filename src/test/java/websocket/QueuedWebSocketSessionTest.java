@@ -0,0 +1,175 @@
+package websocket;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+public class QueuedWebSocketSessionTest {
+
+    private static final long WAIT_SECONDS = 10;
+
+    // Writes block until the session is closed, as they do on a socket whose client stopped reading;
+    // closing blocks until released, as a close frame behind a stalled write does
+    private static final class StalledWebSocketSession extends RecordingWebSocketSession {
+
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private final CountDownLatch closeReleased;
+        private volatile String closingThread = null;
+
+        StalledWebSocketSession(@NotNull String login, boolean closeBlocks) {
+
+            super(login);
+            closeReleased = new CountDownLatch(closeBlocks ? 1 : 0);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+
+            writing.countDown();
+            awaitQuietly(closed);
+            throw new IllegalStateException("session closed during write");
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+
+            closingThread = Thread.currentThread().getName();
+            super.close(status);
+            closed.countDown();
+            awaitQuietly(closeReleased);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+
+        try {
+            latch.await(WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(@NotNull String what, @NotNull BooleanSupplier condition) throws InterruptedException {
+
+        final long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+        while (!condition.getAsBoolean()) {
+
+            Assert.assertTrue(what, System.nanoTime() < deadlineNanos);
+            Thread.sleep(10);
+        }
+    }
+
+    private SessionTransport transport = SessionTransport.BLOCKING;
+
+    @After
+    public void shutdown() {
+        transport.shutdown();
+    }
+
+    // With a single writer, a write stuck on one socket must not hold back every other session
+    @Test
+    public void testStalledWriteFreesWriter() throws IOException, InterruptedException {
+
+        transport = SessionTransport.create("queued", 1, 100, 200);
+        final StalledWebSocketSession stalled = new StalledWebSocketSession("stalled", false);
+        final RecordingWebSocketSession other = new RecordingWebSocketSession("other");
+        final WebSocketSession stalledQueue = transport.wrap(stalled);
+        final WebSocketSession otherQueue = transport.wrap(other);
+
+        stalledQueue.sendMessage(new TextMessage("first"));
+        Assert.assertTrue(stalled.writing.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        otherQueue.sendMessage(new TextMessage("second"));
+
+        waitFor("other session served", () -> !other.getMessages().isEmpty());
+        Assert.assertEquals(CloseStatus.SESSION_NOT_RELIABLE, stalled.getCloseStatus());
+        Assert.assertFalse(stalledQueue.isOpen());
+        Assert.assertTrue(stalled.closingThread.startsWith("socket-closer-"));
+        Assert.assertTrue(otherQueue.isOpen());
+    }
+
+    // The game thread that finds the queue full only hands the close over, however long the close takes
+    @Test
+    public void testBehindSessionClosedOffSendingThread() throws IOException, InterruptedException {
+
+        transport = SessionTransport.create("queued", 1, 2, 60000);
+        final StalledWebSocketSession stalled = new StalledWebSocketSession("stalled", true);
+        final WebSocketSession stalledQueue = transport.wrap(stalled);
+
+        stalledQueue.sendMessage(new TextMessage("written"));
+        Assert.assertTrue(stalled.writing.await(WAIT_SECONDS, TimeUnit.SECONDS));
+        stalledQueue.sendMessage(new TextMessage("queued 1"));
+        stalledQueue.sendMessage(new TextMessage("queued 2"));
+
+        final long startNanos = System.nanoTime();
+        stalledQueue.sendMessage(new TextMessage("overflow"));
+        stalledQueue.sendMessage(new TextMessage("dropped"));
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos) < WAIT_SECONDS / 2);
+        Assert.assertFalse(stalledQueue.isOpen());
+
+        waitFor("session closed", () -> stalled.getCloseStatus() != null);
+        Assert.assertEquals(CloseStatus.SESSION_NOT_RELIABLE, stalled.getCloseStatus());
+        Assert.assertTrue(stalled.closingThread.startsWith("socket-closer-"));
+        stalled.closeReleased.countDown();
+    }
+
+    // With asynchronous sends a client that stopped reading holds no writer at all, even with the watchdog far off
+    @Test
+    public void testStalledAsyncSendDoesNotDelayOthers() throws IOException, InterruptedException {
+
+        transport = SessionTransport.create("queued", 1, 100, 60000);
+        final List<Consumer<Throwable>> stalledWrites = new CopyOnWriteArrayList<>();
+        final RecordingWebSocketSession stalled = new RecordingWebSocketSession("stalled");
+        final WebSocketSession stalledQueue = transport.wrap(stalled,
+            (String text, Consumer<Throwable> completion) -> stalledWrites.add(completion));
+
+        final ArrayList<RecordingWebSocketSession> others = new ArrayList<>();
+        final ArrayList<WebSocketSession> otherQueues = new ArrayList<>();
+        for (int i = 0; i < 8; ++i) {
+
+            final RecordingWebSocketSession other = new RecordingWebSocketSession("other" + i);
+            others.add(other);
+            otherQueues.add(transport.wrap(other, (String text, Consumer<Throwable> completion) -> {
+                other.sendMessage(new TextMessage(text));
+                completion.accept(null);
+            }));
+        }
+
+        stalledQueue.sendMessage(new TextMessage("stalled 1"));
+        stalledQueue.sendMessage(new TextMessage("stalled 2"));
+        waitFor("stalled write started", () -> !stalledWrites.isEmpty());
+
+        final long startNanos = System.nanoTime();
+        for (WebSocketSession otherQueue : otherQueues) {
+            otherQueue.sendMessage(new TextMessage("first"));
+            otherQueue.sendMessage(new TextMessage("second"));
+        }
+        for (RecordingWebSocketSession other : others) {
+            waitFor("other session served", () -> other.getMessages().size() == 2);
+        }
+
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) < 1000);
+        Assert.assertEquals(1, stalledWrites.size());
+        Assert.assertTrue(stalledQueue.isOpen());
+
+        // The container fails the write once its own send timeout passes
+        stalledWrites.get(0).accept(new IOException("send timed out"));
+        waitFor("stalled session closed", () -> stalled.getCloseStatus() != null);
+        Assert.assertEquals(CloseStatus.SERVER_ERROR, stalled.getCloseStatus());
+        Assert.assertFalse(stalledQueue.isOpen());
+    }
+}
@@ -0,0 +1,58 @@
+package websocket;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Keeps the text of every sent message and the close status, for tests that check what a player received
+public class RecordingWebSocketSession extends StubWebSocketSession {
+
+    private final List<String> messages = new CopyOnWriteArrayList<>();
+    private volatile @Nullable CloseStatus closeStatus = null;
+
+    public RecordingWebSocketSession(@NotNull String login) {
+        super(login);
+    }
+
+    public @NotNull List<String> getMessages() {
+        return messages;
+    }
+
+    public @NotNull List<String> getMessages(@NotNull String type) {
+
+        final ArrayList<String> typed = new ArrayList<>();
+        for (String message : messages) {
+            if (message.contains("\"type\":\"" + type + '"')) {
+                typed.add(message);
+            }
+        }
+
+        return typed;
+    }
+
+    public @Nullable CloseStatus getCloseStatus() {
+        return closeStatus;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+
+        if (isOpen()) {
+            super.sendMessage(message);
+            messages.add(((TextMessage) message).getPayload());
+        }
+    }
+
+    @Override
+    public void close(CloseStatus status) {
+
+        closeStatus = status;
+        super.close(status);
+    }
+}
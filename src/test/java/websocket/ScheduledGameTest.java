@@ -0,0 +1,103 @@
+package websocket;
+
+import database.DiscardingGameHistoryWriter;
+import entities.MultiplayerGame;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import socketmessages.MultiplayerGameStateContent;
+import socketmessages.PicturePointContent;
+
+import java.util.Arrays;
+
+public class ScheduledGameTest {
+
+    private static final int MAX_POINTS = 100;
+
+    private final GameScheduler scheduler = new ExecutorGameScheduler(1);
+    private final DiscardingGameHistoryWriter gameHistoryWriter = new DiscardingGameHistoryWriter();
+    private final PointBudget pointBudget = new PointBudget(MAX_POINTS, 1024 * 1024, 0.001f);
+    private final GameRelationManager relations = new GameRelationManager();
+    private final MultiplayerScheduledGameManager manager = new MultiplayerScheduledGameManager(
+        scheduler, relations, gameHistoryWriter, pointBudget);
+
+    @After
+    public void shutdown() {
+
+        scheduler.shutdown();
+        gameHistoryWriter.shutdown();
+    }
+
+    private ScheduledGame<MultiplayerGame> createGame() {
+        return manager.createScheduledGame(new MultiplayerGame("word", Arrays.asList("painter", "guesser")));
+    }
+
+    @Test
+    public void testPointValidation() {
+
+        Assert.assertTrue(pointBudget.isValid(new PicturePointContent(0, 1, true, null)));
+        Assert.assertTrue(pointBudget.isValid(new PicturePointContent(0.5f, 0.5f, false, "#ff0000")));
+
+        Assert.assertFalse(pointBudget.isValid(new PicturePointContent(-0.01f, 0.5f, false, null)));
+        Assert.assertFalse(pointBudget.isValid(new PicturePointContent(0.5f, 1.01f, false, null)));
+        Assert.assertFalse(pointBudget.isValid(new PicturePointContent(Float.NaN, 0.5f, false, null)));
+        Assert.assertFalse(pointBudget.isValid(new PicturePointContent(0.5f, Float.POSITIVE_INFINITY, false, null)));
+
+        final char[] color = new char[PointBudget.MAX_COLOR_LENGTH + 1];
+        Arrays.fill(color, 'f');
+        Assert.assertFalse(pointBudget.isValid(new PicturePointContent(0.5f, 0.5f, false, new String(color))));
+
+        final ScheduledGame<MultiplayerGame> scheduledGame = createGame();
+        Assert.assertFalse(scheduledGame.addPoint(new PicturePointContent(2, 0, false, null)));
+        Assert.assertEquals(0, scheduledGame.getPointCount());
+    }
+
+    // One straight stroke simplifies to its ends, so drawing goes on below the budget
+    @Test
+    public void testCompaction() {
+
+        final ScheduledGame<MultiplayerGame> scheduledGame = createGame();
+        for (int i = 0; i < MAX_POINTS; ++i) {
+            Assert.assertTrue(scheduledGame.addPoint(new PicturePointContent(i / (float) MAX_POINTS, 0.5f, i == 0, null)));
+        }
+        Assert.assertNotNull(scheduledGame.getRecording());
+
+        Assert.assertTrue(scheduledGame.addPoint(new PicturePointContent(1, 0.5f, false, null)));
+        Assert.assertEquals(3, scheduledGame.getPointCount());
+        Assert.assertEquals(0, scheduledGame.getPoints().getX(0), 0);
+        Assert.assertTrue(scheduledGame.getPoints().isDown(0));
+
+        // The simplified drawing is not saved as dashes
+        Assert.assertNull(scheduledGame.getRecording());
+    }
+
+    // Every point starting a stroke is kept by compaction, so the budget runs out for good
+    @Test
+    public void testPointsExhausted() {
+
+        final ScheduledGame<MultiplayerGame> scheduledGame = createGame();
+        for (int i = 0; i < MAX_POINTS; ++i) {
+            Assert.assertTrue(scheduledGame.addPoint(new PicturePointContent(i / (float) MAX_POINTS, 0.5f, true, null)));
+        }
+
+        Assert.assertFalse(scheduledGame.addPoint(new PicturePointContent(0, 0, true, null)));
+        Assert.assertFalse(scheduledGame.addPoint(new PicturePointContent(0, 0, true, null)));
+        Assert.assertEquals(MAX_POINTS, scheduledGame.getPointCount());
+    }
+
+    // A player whose relation went away while the state is built is left out instead of failing the message
+    @Test
+    public void testStateWithoutRelation() {
+
+        final ScheduledGame<MultiplayerGame> scheduledGame = createGame();
+        relations.addPainterRelation(new StubWebSocketSession("painter"), scheduledGame, 2);
+        relations.addGuesserRelation(new StubWebSocketSession("guesser"), scheduledGame, 1);
+        relations.removeRelation("guesser", scheduledGame.getGame().getId());
+
+        final MultiplayerGameStateContent state =
+            (MultiplayerGameStateContent) scheduledGame.getGameStateMessage("painter").getContent();
+        Assert.assertEquals(1, state.getPlayers().size());
+        Assert.assertNull(scheduledGame.getGameStateMessage("guesser"));
+        Assert.assertEquals(Arrays.asList(1, 3, 4, 5), relations.getAvailableIds(scheduledGame));
+    }
+}